@@ -3,6 +3,7 @@ package com.solo.portfolio;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 作品集應用程式的主要入口點
@@ -10,6 +11,7 @@ import org.springframework.cache.annotation.EnableCaching;
  */
 @SpringBootApplication
 @EnableCaching  // 啟用Spring緩存支持
+@EnableScheduling  // 啟用排程任務（讚數寫回等）
 public class PortfolioApplication {
 
     /**
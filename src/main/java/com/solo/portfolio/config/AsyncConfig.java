@@ -0,0 +1,132 @@
+package com.solo.portfolio.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 非同步任務配置類
+ * 提供背景執行緒池，讓耗時的衍生資料計算不佔用請求執行緒
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    /**
+     * 內容背景處理執行緒池的Bean名稱
+     */
+    public static final String CONTENT_TASK_EXECUTOR = "contentTaskExecutor";
+
+    /**
+     * 圖片處理執行緒池的Bean名稱
+     */
+    public static final String MEDIA_TASK_EXECUTOR = "mediaTaskExecutor";
+
+    /**
+     * 頁面組合查詢執行緒池的Bean名稱
+     */
+    public static final String PAGE_TASK_EXECUTOR = "pageTaskExecutor";
+
+    /**
+     * 瀏覽紀錄寫入執行緒池的Bean名稱
+     */
+    public static final String HISTORY_TASK_EXECUTOR = "historyTaskExecutor";
+
+    /**
+     * 非同步回應（如串流匯出）的逾時時間：30分鐘
+     */
+    private static final long MVC_ASYNC_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    /**
+     * 內容背景處理執行緒池
+     * 用於文章渲染等寫入後的衍生資料計算
+     * 佇列有上限，滿載時由呼叫端執行緒自行處理，避免無限制堆積
+     */
+    @Bean(name = CONTENT_TASK_EXECUTOR)
+    public TaskExecutor contentTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("content-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 圖片處理執行緒池
+     * 縮圖與外部編碼器都相當耗用CPU與記憶體，執行緒數固定且少，與內容處理分開；
+     * 佇列滿載時由上傳請求的執行緒自行處理，讓上傳速度受處理速度限制
+     */
+    @Bean(name = MEDIA_TASK_EXECUTOR)
+    public TaskExecutor mediaTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("media-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 頁面組合查詢執行緒池
+     * 執行組合端點中彼此獨立、多半命中緩存的短查詢，與背景工作分開以免排在渲染之後；
+     * 滿載時直接拒絕，該區塊視同逾時省略，不佔用請求執行緒。
+     * 以 submit 送出的工作包裝為 FutureTask，逾時取消時會中斷執行中的執行緒
+     */
+    @Bean(name = PAGE_TASK_EXECUTOR)
+    public AsyncTaskExecutor pageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("page-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 瀏覽紀錄寫入執行緒池
+     * 瀏覽紀錄只是輔助資料，滿載時直接捨棄新的寫入，絕不回到請求執行緒執行
+     */
+    @Bean(name = HISTORY_TASK_EXECUTOR)
+    public TaskExecutor historyTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("history-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 非同步回應執行緒池
+     * 執行 StreamingResponseBody 等非同步回應；數量有限，超出時直接拒絕而非無限建立執行緒
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mvcTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcTaskExecutor());
+        configurer.setDefaultTimeout(MVC_ASYNC_TIMEOUT_MS);
+    }
+}
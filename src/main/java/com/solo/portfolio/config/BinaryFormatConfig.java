@@ -0,0 +1,60 @@
+package com.solo.portfolio.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 二進位回應格式配置類
+ * 依 Accept 標頭以 CBOR（application/cbor）或 Smile（application/x-jackson-smile）
+ * 輸出與 JSON 相同的資料傳輸物件，供行動用戶端減少傳輸量與解析時間
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * CBOR 訊息轉換器
+     * 由 Spring Boot 的 Jackson 建構器建立，與 JSON 共用日期格式與模組設定
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false)
+            .factory(new CBORFactory())
+            .build());
+    }
+
+    /**
+     * Smile 訊息轉換器
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false)
+            .factory(new SmileFactory())
+            .build());
+    }
+
+    /**
+     * 同一網址依 Accept 標頭可能返回不同格式，
+     * 在API回應加上 Vary: Accept，讓瀏覽器與CDN為每種格式分別緩存
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
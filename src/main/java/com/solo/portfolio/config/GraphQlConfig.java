@@ -0,0 +1,67 @@
+package com.solo.portfolio.config;
+
+import com.solo.portfolio.service.cache.PersistedQueryCacheService;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLTypeUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+
+/**
+ * GraphQL 配置類
+ * 限制查詢深度與成本，並啟用以雜湊值引用的持久化查詢
+ */
+@Configuration
+public class GraphQlConfig {
+
+    /**
+     * 列表欄位未指定ID數量時假設的元素數
+     */
+    private static final int DEFAULT_LIST_SIZE = 10;
+
+    /**
+     * 查詢深度上限
+     * 評論的 replies 與 parent 可無限巢狀，以深度限制防止過深的查詢
+     */
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${app.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    /**
+     * 查詢成本上限
+     * 每個欄位成本為1；列表欄位的子欄位成本乘上預估元素數，
+     * 帶有 ids 參數時以ID數量為準
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${app.graphql.max-cost:2000}") int maxCost) {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            if (!(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()) instanceof GraphQLList)) {
+                return 1 + childComplexity;
+            }
+            Object ids = environment.getArguments().get("ids");
+            int size = ids instanceof Collection<?> collection ? collection.size() : DEFAULT_LIST_SIZE;
+            return 1 + Math.max(1, size) * childComplexity;
+        };
+        return new MaxQueryComplexityInstrumentation(maxCost, calculator);
+    }
+
+    /**
+     * 啟用 Apollo 格式的持久化查詢
+     * 用戶端以 extensions.persistedQuery.sha256Hash 引用先前送出過的查詢
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryCacheService persistedQueryCache) {
+        return builder -> builder.configureGraphQl(graphQl ->
+            graphQl.preparsedDocumentProvider(new ApolloPersistedQuerySupport(persistedQueryCache)));
+    }
+}
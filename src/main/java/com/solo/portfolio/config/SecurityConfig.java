@@ -62,6 +62,13 @@ public class SecurityConfig {
         .requestMatchers("/api/posts", "/api/posts/**").permitAll()
         .requestMatchers("/api/portfolio", "/api/portfolio/**").permitAll()
         .requestMatchers(HttpMethod.GET, "/api/comments/**").permitAll()
+        .requestMatchers(HttpMethod.GET, "/api/suggest", "/api/categories", "/api/tags",
+            "/api/archive", "/api/stats/content", "/api/sync", "/api/media/**", "/api/pages/**").permitAll()
+        .requestMatchers(HttpMethod.GET, "/feed.xml", "/sitemap.xml").permitAll()
+        // GraphQL 只提供唯讀查詢，查詢以 POST 送出
+        .requestMatchers("/graphql").permitAll()
+        // 管理端點
+        .requestMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPER_USER")
         // 其他公開端點
         .requestMatchers("/auth/**").permitAll()
         // 寫操作需認證
@@ -9,12 +9,26 @@ public class RedisCacheConstants {
     public static final String BLOG_POST_KEY = "blog:post:";  // 單篇文章緩存key前綴
     public static final String BLOG_POSTS_FEATURED = "blog:featured";  // 精選文章列表
     public static final String BLOG_POSTS_POPULAR = "blog:popular";  // 熱門文章列表
+    public static final String BLOG_POST_LOCALIZED_KEY = "blog:post:localized:";  // 單語系文章key前綴（後接語系與ID）
+    public static final String BLOG_POSTS_LOCALIZED_LIST = "blog:list:localized:";  // 單語系文章列表key前綴（後接語系）
+    public static final String BLOG_POST_RENDER_KEY = "blog:post:render:";  // 文章預先渲染結果key前綴
+    public static final String BLOG_POST_RELATED_KEY = "blog:post:related:";  // 文章相關內容key前綴
+    public static final String BLOG_POST_NEIGHBORS_KEY = "blog:post:neighbors:";  // 上一篇／下一篇key前綴（後接範圍與ID）
     public static final long BLOG_POST_CACHE_TIME = 1800;  // 文章緩存時間（30分鐘）
+    public static final long BLOG_POST_RELATED_CACHE_TIME = 604800;  // 相關內容緩存時間（7天，每日全量重建時刷新）
+    
+    // 文章按讚（集合與計數哈希以純字串序列化）
+    public static final String BLOG_POST_LIKES_KEY = "blog:likes:";  // 文章按讚使用者集合key前綴（後接文章ID）
+    public static final String BLOG_POST_LIKE_DELTA = "blog:likes:delta";  // 尚未寫回資料庫的讚數增量（文章ID → 增量）
+    public static final String BLOG_POST_LIKE_DELTA_FLUSHING = "blog:likes:delta:flushing";  // 寫回中的讚數增量
+    public static final String BLOG_POST_LIKE_FLUSH_BATCH = "blog:likes:delta:flushing:batch";  // 寫回中增量的批次ID
     
     // 作品集相關緩存
     public static final String PORTFOLIO_ITEM_KEY = "portfolio:item:";  // 單個作品緩存key前綴
     public static final String PORTFOLIO_FEATURED = "portfolio:featured";  // 精選作品列表
     public static final String PORTFOLIO_CATEGORY = "portfolio:category:";  // 分類作品列表key前綴
+    public static final String PORTFOLIO_LOCALIZED_KEY = "portfolio:item:localized:";  // 單語系作品key前綴（後接語系與ID）
+    public static final String PORTFOLIO_LOCALIZED_LIST = "portfolio:list:localized:";  // 單語系作品列表key前綴（後接語系）
     public static final long PORTFOLIO_CACHE_TIME = 3600;  // 作品緩存時間（1小時）
     
     // 評論相關緩存
@@ -22,9 +36,58 @@ public class RedisCacheConstants {
     public static final String LATEST_COMMENTS = "comments:latest";  // 最新評論列表
     public static final long COMMENT_CACHE_TIME = 300;  // 評論緩存時間（5分鐘）
     
+    // 分類統計相關緩存（Redis哈希：分類鍵值 → 數量）
+    public static final String FACET_POSTS_CATEGORY = "facet:posts:category";  // 文章分類數量
+    public static final String FACET_PORTFOLIO_CATEGORY = "facet:portfolio:category";  // 作品分類數量
+    public static final String FACET_POSTS_TAG = "facet:posts:tag";  // 文章標籤數量
+    public static final String FACET_PORTFOLIO_TAG = "facet:portfolio:tag";  // 作品標籤數量
+    public static final long FACET_CACHE_TIME = 600;  // 統計緩存時間（10分鐘，到期後從資料庫完整重建，修正增量與重建交錯造成的誤差）
+    
+    // 內容彙總統計（由物化視圖提供，鍵後接版本戳記）
+    public static final String STATS_ARCHIVE_KEY = "stats:archive:v";  // 每月封存統計
+    public static final String STATS_CONTENT_KEY = "stats:content:v";  // 內容總覽統計
+    public static final String STATS_CONTENT_VERSION = "stats:content:version";  // 物化視圖最近一次刷新的時間戳記
+    public static final String STATS_CONTENT_DIRTY_SINCE = "stats:content:dirty:since";  // 第一筆未反映寫入的時間
+    public static final String STATS_CONTENT_DIRTY_LAST = "stats:content:dirty:last";  // 最後一筆未反映寫入的時間
+    public static final long STATS_CACHE_TIME = 86400;  // 統計緩存時間（1天，版本變更後舊鍵自然過期）
+    
+    // 訂閱與網站地圖（預先產生的 gzip 內容以二進位存放）
+    public static final String FEED_DOCUMENT_KEY = "feed:doc:";  // 壓縮後的文件內容key前綴（後接文件名稱與版本）
+    public static final String FEED_VERSION_KEY = "feed:version:";  // 文件目前的版本key前綴（後接文件名稱）
+    public static final String FEED_DIRTY = "feed:dirty";  // 內容有異動、文件待重新產生
+    public static final long FEED_DOCUMENT_CACHE_TIME = 86400;  // 文件內容緩存時間（1天，版本切換後舊內容自然過期）
+    
+    // 排程發佈
+    public static final String PUBLISH_PREPARED_KEY = "publish:prepared:";  // 已完成發佈前預熱的文章key前綴（值為預熱時的版本號）
+    
+    // GraphQL 持久化查詢（以查詢文字的 SHA-256 雜湊值定址）
+    public static final String GRAPHQL_PERSISTED_QUERY_KEY = "graphql:pq:";  // 查詢文字key前綴（後接雜湊值）
+    public static final long GRAPHQL_PERSISTED_QUERY_CACHE_TIME = 604800;  // 查詢文字緩存時間（7天）
+    
+    // 支援的回應語系
+    public static final String LANG_EN = "en";
+    public static final String LANG_ZH = "zh";
+    public static final String[] LANGUAGES = {LANG_EN, LANG_ZH};
+    
+    // 上一篇／下一篇的查詢範圍
+    public static final String NEIGHBORS_SCOPE_ALL = "all";  // 全部文章
+    public static final String NEIGHBORS_SCOPE_CATEGORY = "category";  // 同分類文章
+    public static final String[] NEIGHBORS_SCOPES = {NEIGHBORS_SCOPE_ALL, NEIGHBORS_SCOPE_CATEGORY};
+    
+    // 分散式鎖
+    public static final String LOCK_LIKES_FLUSH = "lock:likes:flush";  // 讚數寫回工作
+    public static final String LOCK_STATS_REFRESH = "lock:stats:refresh";  // 物化視圖刷新工作
+    public static final String LOCK_SYNC_PRUNE = "lock:sync:prune";  // 同步墓碑清除工作
+    public static final String LOCK_PORTFOLIO_REBALANCE = "lock:portfolio:rebalance";  // 作品排序鍵重新平衡工作
+    public static final String LOCK_FEED_REBUILD = "lock:feed:rebuild";  // 訂閱與網站地圖重新產生工作
+    public static final String LOCK_SCHEDULED_PUBLISH = "lock:publish:scheduled";  // 排程發佈工作
+    
     // 用戶相關緩存
     public static final String USER_INFO_KEY = "user:info:";  // 用戶信息key前綴
     public static final long USER_CACHE_TIME = 3600;  // 用戶信息緩存時間（1小時）
+    public static final String USER_HISTORY_KEY = "user:history:";  // 最近瀏覽文章有序集合key前綴（後接使用者ID，分數為瀏覽時間）
+    public static final long USER_HISTORY_MAX_SIZE = 100;  // 每位使用者保留的最近瀏覽筆數
+    public static final long USER_HISTORY_CACHE_TIME = 2592000;  // 最近瀏覽紀錄保存時間（30天，每次瀏覽時延長）
     
     // 防止實例化
     private RedisCacheConstants() {
@@ -1,9 +1,13 @@
 package com.solo.portfolio.controller;
 
+import com.solo.portfolio.model.dto.CommentNodeResponse;
 import com.solo.portfolio.model.dto.CommentRequest;
 import com.solo.portfolio.model.dto.CommentResponse;
+import com.solo.portfolio.model.dto.CursorPage;
+import com.solo.portfolio.model.entity.UuidV7Generator;
 import com.solo.portfolio.service.AuthService;
 import com.solo.portfolio.service.CommentService;
+import com.solo.portfolio.service.CommentThreadService;
 import com.solo.portfolio.config.OpenApiConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -38,6 +42,12 @@ public class CommentController {
      */
     private final AuthService authService;
 
+    /**
+     * 樹狀評論服務
+     * 提供討論串分頁與回覆載入
+     */
+    private final CommentThreadService commentThreadService;
+
     /**
      * 獲取特定文章的所有評論
      * 
@@ -47,9 +57,63 @@ public class CommentController {
     @GetMapping("/post/{postId}")
     @Operation(summary = "列出文章的所有評論")
     public ResponseEntity<List<CommentResponse>> getByPost(@PathVariable String postId) {
+        if (!UuidV7Generator.isValid(postId)) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok(commentService.getCommentsByPost(postId));
     }
 
+    /**
+     * 分頁獲取文章的討論串
+     * 頂層評論依建立時間排序，每個討論串內嵌最早的若干則回覆，
+     * 其餘回覆以 repliesCursor 呼叫回覆端點載入
+     *
+     * @param postId 文章ID
+     * @param cursor 上一頁返回的游標，第一頁省略
+     * @param size 每頁頂層評論數（1–50）
+     * @param replies 每個討論串內嵌的回覆數（0–20）
+     * @return 討論串分頁
+     */
+    @GetMapping("/post/{postId}/threads")
+    @Operation(summary = "分頁列出文章的討論串")
+    public ResponseEntity<CursorPage<CommentNodeResponse>> getThreads(@PathVariable String postId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      @RequestParam(defaultValue = "3") int replies) {
+        if (!UuidV7Generator.isValid(postId)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(commentThreadService.getThreads(postId, cursor,
+                Math.max(1, Math.min(size, 50)), Math.max(0, Math.min(replies, 20))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 載入評論之下的更多回覆
+     *
+     * @param id 評論ID，通常為討論串的頂層評論
+     * @param cursor 討論串的 repliesCursor 或上一頁返回的游標
+     * @param size 每頁回覆數（1–100）
+     * @return 回覆分頁；父評論不在本頁的回覆列於頂層，依 parentId 接回
+     */
+    @GetMapping("/{id}/replies")
+    @Operation(summary = "載入評論的更多回覆")
+    public ResponseEntity<CursorPage<CommentNodeResponse>> getReplies(@PathVariable String id,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "50") int size) {
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            return ResponseEntity.ok(commentThreadService.getReplies(id, cursor, Math.max(1, Math.min(size, 100))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 新增評論
      * 需要使用者已登入（提供有效的JWT權杖）
@@ -108,6 +172,9 @@ public class CommentController {
         if (role == null || !("ADMIN".equals(role.name()) || "SUPER_USER".equals(role.name()))) {
             return ResponseEntity.status(403).build();
         }
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
         commentService.deleteComment(id);
         return ResponseEntity.ok().build();
     }
@@ -1,19 +1,55 @@
 package com.solo.portfolio.controller;
 
+import com.solo.portfolio.model.dto.ArchiveResponse;
+import com.solo.portfolio.model.dto.BlogPostPatchRequest;
 import com.solo.portfolio.model.dto.BlogPostRequest;
+import com.solo.portfolio.model.dto.CategoryCountsResponse;
+import com.solo.portfolio.model.dto.ContentStatsResponse;
+import com.solo.portfolio.model.dto.CursorPage;
+import com.solo.portfolio.model.dto.LikeResponse;
+import com.solo.portfolio.model.dto.PortfolioItemPatchRequest;
 import com.solo.portfolio.model.dto.PortfolioItemRequest;
+import com.solo.portfolio.model.dto.PortfolioMoveRequest;
+import com.solo.portfolio.model.dto.PostNeighborsResponse;
+import com.solo.portfolio.model.dto.RelatedContentResponse;
+import com.solo.portfolio.model.dto.RenderedPostResponse;
+import com.solo.portfolio.model.dto.SuggestionResponse;
+import com.solo.portfolio.model.dto.SyncResponse;
+import com.solo.portfolio.model.dto.TagCountsResponse;
+import com.solo.portfolio.model.dto.VersionConflictResponse;
 import com.solo.portfolio.model.entity.BlogPost;
 import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.User;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.service.BlogPostService;
+import com.solo.portfolio.service.ContentRenderService;
 import com.solo.portfolio.service.ContentService;
+import com.solo.portfolio.service.ContentStatsService;
+import com.solo.portfolio.service.HistoryService;
+import com.solo.portfolio.service.LikeService;
+import com.solo.portfolio.service.LocalizedContentService;
+import com.solo.portfolio.service.PortfolioItemService;
+import com.solo.portfolio.service.PortfolioOrderService;
+import com.solo.portfolio.service.PostNeighborService;
+import com.solo.portfolio.service.RelatedContentService;
+import com.solo.portfolio.service.SuggestService;
+import com.solo.portfolio.service.SyncService;
+import com.solo.portfolio.service.VersionConflictException;
 import com.solo.portfolio.config.OpenApiConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * 內容控制器
@@ -25,35 +61,173 @@ import java.util.List;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 @Tag(name = "內容", description = "作品集和部落格內容管理")
 public class ContentController {
+    /**
+     * 依ID批量讀取時單次最多的ID數
+     */
+    private static final int MAX_BATCH_IDS = 100;
+
     /**
      * 內容服務
      * 處理所有與內容相關的業務邏輯
      */
     private final ContentService contentService;
 
+    /**
+     * 文章緩存讀取服務
+     * 處理依ID批量讀取
+     */
+    private final BlogPostService blogPostService;
+
+    /**
+     * 作品緩存讀取服務
+     * 處理依ID批量讀取
+     */
+    private final PortfolioItemService portfolioItemService;
+
+    /**
+     * 標題自動完成服務
+     */
+    private final SuggestService suggestService;
+
+    /**
+     * 文章預先渲染服務
+     */
+    private final ContentRenderService contentRenderService;
+
+    /**
+     * 文章按讚服務
+     */
+    private final LikeService likeService;
+
+    /**
+     * 相關內容推薦服務
+     */
+    private final RelatedContentService relatedContentService;
+
+    /**
+     * 作品手動排序服務
+     */
+    private final PortfolioOrderService portfolioOrderService;
+
+    /**
+     * 上一篇／下一篇文章服務
+     */
+    private final PostNeighborService postNeighborService;
+
+    /**
+     * 內容彙總統計服務
+     */
+    private final ContentStatsService contentStatsService;
+
+    /**
+     * 內容增量同步服務
+     */
+    private final SyncService syncService;
+
+    /**
+     * 單語系內容服務
+     * 依 Accept-Language 收斂雙語欄位
+     */
+    private final LocalizedContentService localizedContentService;
+
+    /**
+     * 最近瀏覽紀錄服務
+     */
+    private final HistoryService historyService;
+
     /**
      * 作品集相關端點
      */
     
     /**
      * 獲取所有作品集項目
+     * 帶 Accept-Language 標頭或 lang=en|zh 時返回單語系內容，lang=all 或兩者皆無時返回完整雙語實體
+     * @param lang 指定語系（en、zh 或 all）
+     * @param acceptLanguage Accept-Language 標頭
+     * @param locale 由 Accept-Language 解析出的語系
+     * @param ids 只返回指定ID的作品（最多100個），依請求順序排列，不存在的ID略過
      * @return 作品集項目列表
      */
     @GetMapping("/portfolio")
     @Operation(summary = "列出所有作品集項目")
-    public ResponseEntity<List<PortfolioItem>> getPortfolio() {
-        return ResponseEntity.ok(contentService.getAllPortfolioItems());
+    public ResponseEntity<?> getPortfolio(@RequestParam(required = false) String lang,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                          Locale locale,
+                                          @RequestParam(required = false) List<String> ids) {
+        String resolved = localizedContentService.resolveLanguage(lang, acceptLanguage != null ? locale : null);
+        if (ids != null) {
+            if (ids.size() > MAX_BATCH_IDS) {
+                return ResponseEntity.badRequest().build();
+            }
+            List<PortfolioItem> items = portfolioItemService.getPortfolioItems(ids);
+            return localizedResponse(resolved == null ? items
+                : items.stream().map(item -> localizedContentService.toLocalized(item, resolved)).toList());
+        }
+        if (resolved == null) {
+            return localizedResponse(contentService.getAllPortfolioItems());
+        }
+        return localizedResponse(localizedContentService.getPortfolioItems(resolved));
     }
 
     /**
      * 根據ID獲取特定作品集項目
+     * 語系規則同列表端點
      * @param id 作品集項目ID
+     * @param lang 指定語系（en、zh 或 all）
+     * @param acceptLanguage Accept-Language 標頭
+     * @param locale 由 Accept-Language 解析出的語系
      * @return 作品集項目
      */
     @GetMapping("/portfolio/{id}")
     @Operation(summary = "根據ID獲取作品集項目")
-    public ResponseEntity<PortfolioItem> getPortfolioItem(@PathVariable String id) {
-        return ResponseEntity.ok(contentService.getPortfolioItemById(id));
+    public ResponseEntity<?> getPortfolioItem(@PathVariable String id,
+                                              @RequestParam(required = false) String lang,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                              Locale locale) {
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        String resolved = localizedContentService.resolveLanguage(lang, acceptLanguage != null ? locale : null);
+        if (resolved == null) {
+            return localizedResponse(contentService.getPortfolioItemById(id));
+        }
+        return localizedResponse(localizedContentService.getPortfolioItem(id, resolved));
+    }
+
+    /**
+     * 分頁獲取指定分類的作品集項目
+     * @param key 分類鍵值
+     * @param page 頁碼（從0開始）
+     * @param size 每頁筆數（1-50）
+     * @return 依日期由新到舊排序的作品集分頁
+     */
+    @GetMapping("/portfolio/category/{key}")
+    @Operation(summary = "分頁列出指定分類的作品集項目")
+    public ResponseEntity<Page<PortfolioItem>> getPortfolioByCategory(@PathVariable String key,
+                                                                      @RequestParam(defaultValue = "0") int page,
+                                                                      @RequestParam(defaultValue = "12") int size) {
+        return ResponseEntity.ok(contentService.getPortfolioItemsByCategory(key, Math.max(page, 0), clampPageSize(size)));
+    }
+
+    /**
+     * 以游標分頁獲取帶有指定標籤的作品集項目
+     * @param tags 標籤列表
+     * @param match any 表示帶有任一標籤，all 表示帶有全部標籤
+     * @param cursor 上一頁返回的游標，第一頁不帶
+     * @param size 每頁筆數（1-50）
+     * @return 依日期由新到舊排序的作品集項目
+     */
+    @GetMapping("/portfolio/tagged")
+    @Operation(summary = "依標籤游標分頁列出作品集項目")
+    public ResponseEntity<CursorPage<PortfolioItem>> getPortfolioByTags(@RequestParam List<String> tags,
+                                                                        @RequestParam(defaultValue = ContentService.TAG_MATCH_ANY) String match,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "12") int size) {
+        try {
+            return ResponseEntity.ok(contentService.getPortfolioItemsByTags(tags, match, cursor, clampPageSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -81,6 +255,29 @@ public class ContentController {
         return ResponseEntity.ok(contentService.updatePortfolioItem(id, request));
     }
 
+    /**
+     * 部分更新作品集項目
+     * 只更新請求中有帶值的欄位，須帶上讀取時的版本號
+     * @param id 作品集項目ID
+     * @param request 部分更新資料
+     * @return 更新後的作品集項目；版本衝突時返回409與目前版本號
+     */
+    @PatchMapping("/portfolio/{id}")
+    @Operation(summary = "部分更新作品集項目")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<?> patchPortfolioItem(@PathVariable String id, @RequestBody PortfolioItemPatchRequest request) {
+        if (request.getVersion() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return contentService.patchPortfolioItem(id, request)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (VersionConflictException e) {
+            return versionConflict(e);
+        }
+    }
+
     /**
      * 刪除指定的作品集項目
      * @param id 要刪除的作品集項目ID
@@ -94,29 +291,228 @@ public class ContentController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 調整作品的手動排序
+     * 以移動後的前後鄰居指定位置，只改寫被移動的作品
+     * @param id 作品集項目ID
+     * @param request 移動後的前後鄰居
+     * @return 移動後的作品；鄰居無效時返回400，鄰居順序已過期時返回409
+     */
+    @PutMapping("/portfolio/{id}/position")
+    @Operation(summary = "調整作品集項目排序")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<PortfolioItem> movePortfolioItem(@PathVariable String id,
+                                                           @RequestBody PortfolioMoveRequest request) {
+        try {
+            return portfolioOrderService.move(id, request.getPreviousId(), request.getNextId())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
     /**
      * 部落格文章相關端點
      */
 
     /**
      * 獲取所有部落格文章
+     * 帶 Accept-Language 標頭或 lang=en|zh 時返回單語系內容，lang=all 或兩者皆無時返回完整雙語實體
+     * @param lang 指定語系（en、zh 或 all）
+     * @param acceptLanguage Accept-Language 標頭
+     * @param locale 由 Accept-Language 解析出的語系
+     * @param ids 只返回指定ID的文章（最多100個），依請求順序排列，不存在的ID略過
      * @return 部落格文章列表
      */
     @GetMapping("/posts")
     @Operation(summary = "列出所有部落格文章")
-    public ResponseEntity<List<BlogPost>> getPosts() {
-        return ResponseEntity.ok(contentService.getAllPosts());
+    public ResponseEntity<?> getPosts(@RequestParam(required = false) String lang,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                      Locale locale,
+                                      @RequestParam(required = false) List<String> ids) {
+        String resolved = localizedContentService.resolveLanguage(lang, acceptLanguage != null ? locale : null);
+        if (ids != null) {
+            if (ids.size() > MAX_BATCH_IDS) {
+                return ResponseEntity.badRequest().build();
+            }
+            List<BlogPost> posts = blogPostService.getBlogPosts(ids);
+            return localizedResponse(resolved == null ? posts
+                : localizedContentService.toLocalized(posts, resolved));
+        }
+        if (resolved == null) {
+            return localizedResponse(contentService.getAllPosts());
+        }
+        return localizedResponse(localizedContentService.getPosts(resolved));
     }
 
     /**
      * 根據ID獲取特定部落格文章
+     * 語系規則同列表端點
      * @param id 部落格文章ID
+     * @param lang 指定語系（en、zh 或 all）
+     * @param acceptLanguage Accept-Language 標頭
+     * @param locale 由 Accept-Language 解析出的語系
+     * @param user 目前使用者，已登入時記錄於最近瀏覽
      * @return 部落格文章
      */
     @GetMapping("/posts/{id}")
     @Operation(summary = "根據ID獲取部落格文章")
-    public ResponseEntity<BlogPost> getPost(@PathVariable String id) {
-        return ResponseEntity.ok(contentService.getPostById(id));
+    public ResponseEntity<?> getPost(@PathVariable String id,
+                                     @RequestParam(required = false) String lang,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                     Locale locale,
+                                     @AuthenticationPrincipal User user) {
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        String resolved = localizedContentService.resolveLanguage(lang, acceptLanguage != null ? locale : null);
+        Object post = resolved == null
+            ? contentService.getPostById(id)
+            : localizedContentService.getPost(id, resolved);
+        if (post != null && user != null) {
+            historyService.recordView(user.getId(), id);
+        }
+        return localizedResponse(post);
+    }
+
+    /**
+     * 獲取部落格文章的預先渲染結果
+     * 尚未渲染完成時僅返回狀態，前端可稍後重試
+     * @param id 部落格文章ID
+     * @return 渲染後的HTML、目錄、字數與閱讀時間
+     */
+    @GetMapping("/posts/{id}/rendered")
+    @Operation(summary = "獲取部落格文章的預先渲染結果")
+    public ResponseEntity<RenderedPostResponse> getRenderedPost(@PathVariable String id) {
+        return contentRenderService.getRendered(id)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 獲取與文章相關的文章與作品
+     * 結果由背景預先計算，依相似度由高到低排序
+     * @param id 部落格文章ID
+     * @return 相關內容列表
+     */
+    @GetMapping("/posts/{id}/related")
+    @Operation(summary = "獲取部落格文章的相關內容")
+    public ResponseEntity<List<RelatedContentResponse>> getRelatedContent(@PathVariable String id) {
+        return ResponseEntity.ok(relatedContentService.getRelated(id));
+    }
+
+    /**
+     * 獲取文章的上一篇與下一篇
+     * @param id 部落格文章ID
+     * @param scope all 表示全部文章，category 表示同分類文章
+     * @return 相鄰文章摘要
+     */
+    @GetMapping("/posts/{id}/neighbors")
+    @Operation(summary = "獲取部落格文章的上一篇與下一篇")
+    public ResponseEntity<PostNeighborsResponse> getPostNeighbors(@PathVariable String id,
+                                                                  @RequestParam(defaultValue = "all") String scope) {
+        return postNeighborService.getNeighbors(id, scope)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 對文章按讚
+     * 重複按讚不會重複計數
+     * @param id 部落格文章ID
+     * @param user 目前登入的使用者
+     * @return 按讚狀態
+     */
+    @PostMapping("/posts/{id}/like")
+    @Operation(summary = "對部落格文章按讚")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<LikeResponse> likePost(@PathVariable String id, @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return likeService.like(id, user.getId())
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 取消文章按讚
+     * @param id 部落格文章ID
+     * @param user 目前登入的使用者
+     * @return 按讚狀態
+     */
+    @DeleteMapping("/posts/{id}/like")
+    @Operation(summary = "取消部落格文章按讚")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<LikeResponse> unlikePost(@PathVariable String id, @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (!UuidV7Generator.isValid(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return likeService.unlike(id, user.getId())
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 批量查詢目前使用者是否已對多篇文章按讚
+     * 未登入時全部為false
+     * @param ids 文章ID列表（最多100筆）
+     * @param user 目前登入的使用者
+     * @return 文章ID → 是否已按讚
+     */
+    @GetMapping("/posts/liked")
+    @Operation(summary = "批量查詢目前使用者的按讚狀態")
+    public ResponseEntity<Map<String, Boolean>> getLikedPosts(@RequestParam List<String> ids,
+                                                              @AuthenticationPrincipal User user) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(likeService.likedByUser(ids, user == null ? null : user.getId()));
+    }
+
+    /**
+     * 分頁獲取指定分類的部落格文章
+     * @param key 分類鍵值
+     * @param page 頁碼（從0開始）
+     * @param size 每頁筆數（1-50）
+     * @return 依日期由新到舊排序的文章分頁
+     */
+    @GetMapping("/posts/category/{key}")
+    @Operation(summary = "分頁列出指定分類的部落格文章")
+    public ResponseEntity<Page<BlogPost>> getPostsByCategory(@PathVariable String key,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(contentService.getPostsByCategory(key, Math.max(page, 0), clampPageSize(size)));
+    }
+
+    /**
+     * 以游標分頁獲取帶有指定標籤的部落格文章
+     * @param tags 標籤列表
+     * @param match any 表示帶有任一標籤，all 表示帶有全部標籤
+     * @param cursor 上一頁返回的游標，第一頁不帶
+     * @param size 每頁筆數（1-50）
+     * @return 依日期由新到舊排序的文章
+     */
+    @GetMapping("/posts/tagged")
+    @Operation(summary = "依標籤游標分頁列出部落格文章")
+    public ResponseEntity<CursorPage<BlogPost>> getPostsByTags(@RequestParam List<String> tags,
+                                                               @RequestParam(defaultValue = ContentService.TAG_MATCH_ANY) String match,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(contentService.getPostsByTags(tags, match, cursor, clampPageSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -144,6 +540,29 @@ public class ContentController {
         return ResponseEntity.ok(contentService.updatePost(id, request));
     }
 
+    /**
+     * 部分更新部落格文章
+     * 只更新請求中有帶值的欄位，須帶上讀取時的版本號
+     * @param id 部落格文章ID
+     * @param request 部分更新資料
+     * @return 更新後的部落格文章；版本衝突時返回409與目前版本號
+     */
+    @PatchMapping("/posts/{id}")
+    @Operation(summary = "部分更新部落格文章")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<?> patchPost(@PathVariable String id, @RequestBody BlogPostPatchRequest request) {
+        if (request.getVersion() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return contentService.patchPost(id, request)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (VersionConflictException e) {
+            return versionConflict(e);
+        }
+    }
+
     /**
      * 刪除指定的部落格文章
      * @param id 要刪除的部落格文章ID
@@ -156,6 +575,114 @@ public class ContentController {
         contentService.deletePost(id);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 分類相關端點
+     */
+
+    /**
+     * 獲取各分類的文章與作品數量
+     * @return 分類統計
+     */
+    @GetMapping("/categories")
+    @Operation(summary = "列出各分類的內容數量")
+    public ResponseEntity<CategoryCountsResponse> getCategories() {
+        return ResponseEntity.ok(contentService.getCategoryCounts());
+    }
+
+    /**
+     * 獲取各標籤的文章與作品數量
+     * @return 標籤統計
+     */
+    @GetMapping("/tags")
+    @Operation(summary = "列出各標籤的內容數量")
+    public ResponseEntity<TagCountsResponse> getTags() {
+        return ResponseEntity.ok(contentService.getTagCounts());
+    }
+
+    /**
+     * 彙總統計相關端點
+     */
+
+    /**
+     * 獲取每月封存統計
+     * 資料來自定期刷新的物化視圖，寫入後可能有短暫延遲
+     * @return 依月份由新到舊排序的文章與作品數量
+     */
+    @GetMapping("/archive")
+    @Operation(summary = "依月份列出文章與作品數量")
+    public ResponseEntity<ArchiveResponse> getArchive() {
+        return ResponseEntity.ok(contentStatsService.getArchive());
+    }
+
+    /**
+     * 獲取內容總覽統計
+     * 資料來源同封存統計
+     * @return 文章與作品的總數及各分類數量
+     */
+    @GetMapping("/stats/content")
+    @Operation(summary = "獲取內容總覽統計")
+    public ResponseEntity<ContentStatsResponse> getContentStats() {
+        return ResponseEntity.ok(contentStatsService.getStats());
+    }
+
+    /**
+     * 同步相關端點
+     */
+
+    /**
+     * 增量同步文章與作品
+     * 返回游標之後新增、變更或刪除的內容，供用戶端維護本地副本；
+     * hasMore 為true時應立即以 nextCursor 繼續，reset 為true時須清空本地資料並從頭同步
+     * @param since 上次同步返回的游標，第一次同步不帶
+     * @param limit 每頁最多筆數（1-500），回應大小另有上限
+     * @return 變更內容與下次同步的游標
+     */
+    @GetMapping("/sync")
+    @Operation(summary = "增量同步文章與作品")
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since,
+                                             @RequestParam(defaultValue = "200") int limit) {
+        try {
+            return ResponseEntity.ok(syncService.getChanges(since, Math.max(1, Math.min(limit, 500))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 搜尋建議相關端點
+     */
+
+    /**
+     * 標題自動完成
+     * 以記憶體前綴索引比對文章與作品集標題，支援中文標題的拼音與拼音首字母
+     * @param q 使用者輸入的前綴
+     * @param limit 最多返回的筆數（1-20）
+     * @return 依熱門程度排序的建議列表
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "標題自動完成建議")
+    public ResponseEntity<List<SuggestionResponse>> suggest(@RequestParam String q,
+                                                            @RequestParam(defaultValue = "8") int limit) {
+        int size = Math.max(1, Math.min(limit, 20));
+        return ResponseEntity.ok(suggestService.suggest(q, size));
+    }
+
+    /**
+     * 回應內容隨 Accept-Language 而不同，需告知快取依該標頭區分
+     */
+    private static <T> ResponseEntity<T> localizedResponse(T body) {
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE).body(body);
+    }
+
+    private static ResponseEntity<VersionConflictResponse> versionConflict(VersionConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(new VersionConflictResponse(e.getId(), e.getCurrentVersion(), e.getMessage()));
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, 50));
+    }
 }
 
 
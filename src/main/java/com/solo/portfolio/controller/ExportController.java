@@ -0,0 +1,76 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 資料匯出控制器
+ * 提供管理員以串流方式匯出文章、評論與使用者，用於備份與分析
+ * 路徑位於 /api/admin 之下，僅管理員與超級使用者可存取
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "資料匯出", description = "管理員串流匯出內容")
+@SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 串流匯出資料
+     * 依ID排序輸出；中斷後可將收到的最後一個ID傳入 after 繼續匯出
+     * @param type 資料類型：posts、comments 或 users
+     * @param format 輸出格式：ndjson 或 csv
+     * @param after 由此ID之後開始匯出（不含）
+     * @param gzip 是否以 gzip 壓縮輸出
+     * @return 串流回應
+     */
+    @GetMapping("/{type}")
+    @Operation(summary = "串流匯出資料（僅管理員）")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String type,
+                                                        @RequestParam(defaultValue = ExportService.FORMAT_NDJSON) String format,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "false") boolean gzip) {
+        if (!exportService.isSupported(type, format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = type + "." + format + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+            : ExportService.FORMAT_CSV.equals(format) ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+            : MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 64 * 1024)) {
+                    long rows = exportService.export(type, format, after, gzipStream);
+                    log.info("Exported {} {} rows (gzip)", rows, type);
+                }
+            } else {
+                long rows = exportService.export(type, format, after, outputStream);
+                log.info("Exported {} {} rows", rows, type);
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+}
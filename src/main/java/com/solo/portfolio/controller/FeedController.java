@@ -0,0 +1,111 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 訂閱與網站地圖控制器
+ * 送出預先產生的 gzip 內容，支援 ETag 條件請求；
+ * 用戶端不接受 gzip 時才於送出時解壓
+ */
+@RestController
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "訂閱與網站地圖", description = "Atom 訂閱與 sitemap.xml")
+public class FeedController {
+
+    private static final String CACHE_CONTROL = "public, max-age=300";
+
+    private final FeedService feedService;
+
+    /**
+     * Atom 訂閱：最新文章
+     */
+    @GetMapping("/feed.xml")
+    @Operation(summary = "Atom 訂閱")
+    public void feed(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(FeedService.FEED, "application/atom+xml;charset=UTF-8", request, response);
+    }
+
+    /**
+     * 網站地圖：全部文章與作品
+     */
+    @GetMapping("/sitemap.xml")
+    @Operation(summary = "網站地圖")
+    public void sitemap(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(FeedService.SITEMAP, "application/xml;charset=UTF-8", request, response);
+    }
+
+    private void write(String name, String contentType, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        Optional<FeedService.FeedDocument> resolved = feedService.getDocument(name);
+        if (resolved.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        FeedService.FeedDocument document = resolved.get();
+
+        response.setHeader(HttpHeaders.ETAG, document.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), document)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(document.gzip().length);
+            response.getOutputStream().write(document.gzip());
+            return;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(document.gzip()))) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    /**
+     * If-None-Match 可能列出多個 ETag，或經代理轉送後去掉弱標記
+     */
+    private static boolean matches(String ifNoneMatch, FeedService.FeedDocument document) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String strong = "\"" + document.version() + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || tag.equals(document.etag()) || tag.equals(strong)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
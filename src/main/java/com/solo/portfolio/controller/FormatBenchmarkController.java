@@ -0,0 +1,42 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.model.dto.FormatBenchmarkResult;
+import com.solo.portfolio.service.FormatBenchmarkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 回應格式比較控制器
+ * 提供管理員以實際資料比較 JSON、CBOR 與 Smile 的大小與編碼耗時
+ * 路徑位於 /api/admin 之下，僅管理員與超級使用者可存取
+ */
+@RestController
+@RequestMapping("/api/admin/formats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "回應格式", description = "二進位回應格式比較")
+@SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+public class FormatBenchmarkController {
+
+    private final FormatBenchmarkService formatBenchmarkService;
+
+    /**
+     * 比較各格式的編碼大小與耗時
+     * @param postId 評論樣本的文章ID，未指定時取評論最多的文章
+     * @param iterations 計時的迭代次數（上限 2000）
+     * @return 每個樣本與格式的結果
+     */
+    @GetMapping("/benchmark")
+    @Operation(summary = "比較回應格式（僅管理員）")
+    public ResponseEntity<List<FormatBenchmarkResult>> benchmark(@RequestParam(required = false) String postId,
+                                                                 @RequestParam(defaultValue = "200") int iterations) {
+        return ResponseEntity.ok(formatBenchmarkService.run(postId, iterations));
+    }
+}
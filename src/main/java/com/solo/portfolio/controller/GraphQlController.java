@@ -0,0 +1,178 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.model.dto.CommentResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.User;
+import com.solo.portfolio.service.BlogPostService;
+import com.solo.portfolio.service.CommentService;
+import com.solo.portfolio.service.ContentRenderService;
+import com.solo.portfolio.service.ContentRenderService.GeneratedExcerpt;
+import com.solo.portfolio.service.PortfolioItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL 唯讀查詢控制器
+ * 關聯欄位以 @BatchMapping 宣告，每個請求中同一欄位的所有查找合併為一個批次載入器，
+ * 重複的鍵只查一次；批次內先以 MGET 讀取緩存，未命中的再以單次 IN 查詢讀取，
+ * 評論樹無論多深都不會產生逐筆查詢
+ */
+@Controller
+@RequiredArgsConstructor
+public class GraphQlController {
+
+    private final BlogPostService blogPostService;
+    private final PortfolioItemService portfolioItemService;
+    private final CommentService commentService;
+    private final ContentRenderService contentRenderService;
+
+    @QueryMapping
+    public BlogPost post(@Argument String id) {
+        return blogPostService.getBlogPosts(List.of(id)).stream().findFirst().orElse(null);
+    }
+
+    @QueryMapping
+    public List<BlogPost> posts(@Argument List<String> ids) {
+        return blogPostService.getBlogPosts(ids);
+    }
+
+    @QueryMapping
+    public PortfolioItem portfolioItem(@Argument String id) {
+        return portfolioItemService.getPortfolioItems(List.of(id)).stream().findFirst().orElse(null);
+    }
+
+    @QueryMapping
+    public List<PortfolioItem> portfolioItems(@Argument List<String> ids) {
+        return portfolioItemService.getPortfolioItems(ids);
+    }
+
+    @QueryMapping
+    public List<CommentResponse> comments(@Argument String postId) {
+        return commentService.getCommentsByPosts(List.of(postId)).getOrDefault(postId, List.of());
+    }
+
+    /**
+     * 文章的評論
+     */
+    @BatchMapping(typeName = "BlogPost", field = "comments")
+    public Map<BlogPost, List<CommentResponse>> postComments(List<BlogPost> posts) {
+        Map<String, List<CommentResponse>> byPost = commentService.getCommentsByPosts(
+            posts.stream().map(BlogPost::getId).toList());
+        Map<BlogPost, List<CommentResponse>> result = new LinkedHashMap<>();
+        posts.forEach(post -> result.put(post, byPost.get(post.getId())));
+        return result;
+    }
+
+    /**
+     * 文章的英文摘要，作者未填寫時以渲染時產生的摘要替代
+     */
+    @BatchMapping(typeName = "BlogPost", field = "excerpt")
+    public Map<BlogPost, String> postExcerpt(List<BlogPost> posts) {
+        return excerpts(posts, BlogPost::getExcerpt, GeneratedExcerpt::excerpt);
+    }
+
+    /**
+     * 文章的中文摘要，作者未填寫時以渲染時產生的摘要替代
+     */
+    @BatchMapping(typeName = "BlogPost", field = "excerptZh")
+    public Map<BlogPost, String> postExcerptZh(List<BlogPost> posts) {
+        return excerpts(posts, BlogPost::getExcerptZh, GeneratedExcerpt::excerptZh);
+    }
+
+    /**
+     * 評論所屬的文章
+     */
+    @BatchMapping(typeName = "Comment", field = "post")
+    public Map<CommentResponse, BlogPost> commentPost(List<CommentResponse> comments) {
+        Map<String, BlogPost> posts = blogPostService.getBlogPosts(comments.stream()
+                .map(CommentResponse::getPostId)
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        Map<CommentResponse, BlogPost> result = new HashMap<>();
+        comments.forEach(comment -> result.put(comment, posts.get(comment.getPostId())));
+        return result;
+    }
+
+    /**
+     * 評論作者
+     */
+    @BatchMapping(typeName = "Comment", field = "author")
+    public Map<CommentResponse, User> commentAuthor(List<CommentResponse> comments) {
+        Map<String, User> authors = commentService.getAuthors(comments);
+        Map<CommentResponse, User> result = new HashMap<>();
+        comments.forEach(comment -> result.put(comment,
+            comment.getUserId() == null ? null : authors.get(comment.getUserId())));
+        return result;
+    }
+
+    /**
+     * 所回覆的評論
+     * 回覆與被回覆的評論屬於同一篇文章，由文章評論列表中找出
+     */
+    @BatchMapping(typeName = "Comment", field = "parent")
+    public Map<CommentResponse, CommentResponse> commentParent(List<CommentResponse> comments) {
+        Map<String, CommentResponse> byId = siblings(comments).stream()
+            .collect(Collectors.toMap(CommentResponse::getId, Function.identity(), (a, b) -> a));
+        Map<CommentResponse, CommentResponse> result = new HashMap<>();
+        comments.forEach(comment -> result.put(comment,
+            comment.getParentId() == null ? null : byId.get(comment.getParentId())));
+        return result;
+    }
+
+    /**
+     * 直接回覆
+     */
+    @BatchMapping(typeName = "Comment", field = "replies")
+    public Map<CommentResponse, List<CommentResponse>> commentReplies(List<CommentResponse> comments) {
+        Map<String, List<CommentResponse>> byParent = siblings(comments).stream()
+            .filter(comment -> comment.getParentId() != null)
+            .collect(Collectors.groupingBy(CommentResponse::getParentId));
+        Map<CommentResponse, List<CommentResponse>> result = new HashMap<>();
+        comments.forEach(comment -> result.put(comment, byParent.getOrDefault(comment.getId(), List.of())));
+        return result;
+    }
+
+    /**
+     * 以一次批量讀取取得這批評論所屬文章的全部評論
+     */
+    private List<CommentResponse> siblings(List<CommentResponse> comments) {
+        return commentService.getCommentsByPosts(comments.stream().map(CommentResponse::getPostId).toList())
+            .values().stream()
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    /**
+     * 只為未填寫摘要的文章查詢產生的摘要，批次內單次 IN 查詢
+     */
+    private Map<BlogPost, String> excerpts(List<BlogPost> posts, Function<BlogPost, String> authored,
+                                           Function<GeneratedExcerpt, String> generated) {
+        Map<String, GeneratedExcerpt> byPost = contentRenderService.getGeneratedExcerpts(posts.stream()
+            .filter(post -> isBlank(authored.apply(post)))
+            .map(BlogPost::getId)
+            .toList());
+        Map<BlogPost, String> result = new LinkedHashMap<>();
+        posts.forEach(post -> {
+            String value = authored.apply(post);
+            GeneratedExcerpt fallback = byPost.get(post.getId());
+            result.put(post, isBlank(value) && fallback != null ? generated.apply(fallback) : value);
+        });
+        return result;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
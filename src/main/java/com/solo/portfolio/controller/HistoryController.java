@@ -0,0 +1,47 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.model.dto.HistoryEntryResponse;
+import com.solo.portfolio.model.entity.User;
+import com.solo.portfolio.service.HistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 個人資料控制器
+ * 提供目前登入使用者的最近瀏覽紀錄
+ */
+@RestController
+@RequestMapping("/api/me")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "個人資料", description = "目前使用者的瀏覽紀錄")
+@SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+public class HistoryController {
+
+    private final HistoryService historyService;
+
+    /**
+     * 獲取最近瀏覽的文章
+     * @param limit 筆數上限（1–100）
+     * @param user 目前使用者
+     * @return 依瀏覽時間由新到舊排列的紀錄
+     */
+    @GetMapping("/history")
+    @Operation(summary = "獲取最近瀏覽的文章")
+    public ResponseEntity<List<HistoryEntryResponse>> getHistory(@RequestParam(defaultValue = "20") int limit,
+                                                                 @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+        int size = Math.max(1, Math.min(limit, 100));
+        return ResponseEntity.ok(historyService.getHistory(user.getId(), size));
+    }
+}
@@ -0,0 +1,63 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.model.dto.ImportJobResponse;
+import com.solo.portfolio.service.BulkImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 批量匯入控制器
+ * 提供管理員以 NDJSON 串流匯入文章、作品與評論
+ * 路徑位於 /api/admin 之下，僅管理員與超級使用者可存取
+ */
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "批量匯入", description = "管理員批量匯入內容")
+@SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    /**
+     * 匯入 NDJSON 內容
+     * 請求內容以串流方式逐行讀取，每行一筆 JSON 物件
+     * @param type 內容類型：posts、portfolio 或 comments
+     * @param jobId 選填的工作ID，匯入期間可用來查詢進度
+     * @param request HTTP請求，用於讀取原始內容串流
+     * @return 匯入結果，包含各類計數與逐列錯誤
+     */
+    @PostMapping(value = "/{type}", consumes = {"application/x-ndjson", "application/json", "text/plain"})
+    @Operation(summary = "以 NDJSON 批量匯入內容（僅管理員）")
+    public ResponseEntity<ImportJobResponse> importContent(@PathVariable String type,
+                                                           @RequestParam(required = false) String jobId,
+                                                           HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(bulkImportService.importNdjson(type, jobId, request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 查詢匯入進度
+     * @param jobId 工作ID
+     * @return 目前的匯入進度
+     */
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "查詢批量匯入進度（僅管理員）")
+    public ResponseEntity<ImportJobResponse> getJob(@PathVariable String jobId) {
+        return bulkImportService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,123 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.model.dto.MediaAssetResponse;
+import com.solo.portfolio.service.MediaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 媒體檔案控制器
+ * 提供圖片上傳、媒體資訊查詢與檔案下載；
+ * 檔案以內容雜湊值定址，內容永不改變，回應帶有一年的 immutable 快取標頭
+ */
+@RestController
+@RequestMapping("/api/media")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "媒體檔案", description = "圖片上傳與縮圖版本")
+public class MediaController {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * Tomcat 支援 sendfile 時設定的請求屬性，以及要求以 sendfile 送出檔案的屬性
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final MediaService mediaService;
+
+    /**
+     * 上傳圖片
+     * 相同內容重複上傳時返回既有紀錄；縮圖版本於背景產生，完成前狀態為 PENDING
+     * @param file 圖片檔案（multipart 欄位名稱 file）
+     * @return 媒體檔案資訊
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "上傳圖片")
+    @SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+    public ResponseEntity<MediaAssetResponse> upload(@RequestParam("file") MultipartFile file) throws IOException {
+        try {
+            return ResponseEntity.ok(mediaService.store(file));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 獲取媒體檔案資訊
+     * 包含尺寸、模糊預覽字串與各縮圖版本網址
+     * @param hash 內容雜湊值
+     * @return 媒體檔案資訊
+     */
+    @GetMapping("/{hash}")
+    @Operation(summary = "獲取媒體檔案資訊")
+    public ResponseEntity<MediaAssetResponse> getAsset(@PathVariable String hash) {
+        return mediaService.getAsset(hash)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 下載原始檔或縮圖版本
+     * Tomcat 支援時交由 sendfile 以零拷貝送出；否則以 FileChannel.transferTo 寫入回應串流，
+     * 此時目標只是包裝 OutputStream 的通道，JDK 仍會經過緩衝複製，並非零拷貝
+     * @param hash 內容雜湊值
+     * @param name 檔名：original 或縮圖版本名稱，例如 w640.webp
+     */
+    @GetMapping("/{hash}/{name:.+}")
+    @Operation(summary = "下載圖片檔案")
+    public void getFile(@PathVariable String hash, @PathVariable String name,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<MediaService.MediaFile> resolved = mediaService.resolveFile(hash, name);
+        if (resolved.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        MediaService.MediaFile file = resolved.get();
+
+        String etag = "\"" + hash + "-" + name + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(file.size());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 由 Tomcat 在回應提交後以作業系統的 sendfile 直接自檔案送出
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, file.size());
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < file.size()) {
+                position += channel.transferTo(position, file.size() - position, out);
+            }
+        }
+    }
+}
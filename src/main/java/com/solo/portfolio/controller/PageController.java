@@ -0,0 +1,56 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.model.dto.PostPageResponse;
+import com.solo.portfolio.model.entity.User;
+import com.solo.portfolio.service.LocalizedContentService;
+import com.solo.portfolio.service.PostPageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+
+/**
+ * 頁面組合控制器
+ * 以單一請求返回整個頁面所需的資料，減少前端的往返次數
+ */
+@RestController
+@RequestMapping("/api/pages")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "頁面組合", description = "單一請求取得整頁資料")
+public class PageController {
+
+    private final PostPageService postPageService;
+    private final LocalizedContentService localizedContentService;
+
+    /**
+     * 獲取文章頁面資料
+     * 包含文章、第一頁評論、計數、按讚狀態、上下篇與相關內容；
+     * 選用區塊逾時時省略並列於 degraded。語系規則同文章端點
+     * @param id 文章ID
+     * @param lang 指定語系（en、zh 或 all）
+     * @param acceptLanguage Accept-Language 標頭
+     * @param locale 由 Accept-Language 解析出的語系
+     * @param user 目前使用者，未登入時為null
+     * @return 文章頁面資料
+     */
+    @GetMapping("/post/{id}")
+    @Operation(summary = "獲取文章頁面資料")
+    public ResponseEntity<PostPageResponse> getPostPage(@PathVariable String id,
+                                                        @RequestParam(required = false) String lang,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+                                                        Locale locale,
+                                                        @AuthenticationPrincipal User user) {
+        String resolved = localizedContentService.resolveLanguage(lang, acceptLanguage != null ? locale : null);
+        return postPageService.getPostPage(id, resolved, user == null ? null : user.getId())
+            .map(page -> ResponseEntity.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE)
+                .body(page))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,72 @@
+package com.solo.portfolio.controller;
+
+import com.solo.portfolio.config.OpenApiConfig;
+import com.solo.portfolio.model.dto.PostRevisionResponse;
+import com.solo.portfolio.model.dto.PostRevisionSummary;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.service.ContentService;
+import com.solo.portfolio.service.PostRevisionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 文章修訂歷史控制器
+ * 提供列出、檢視與還原文章的歷史版本
+ * 路徑位於 /api/admin 之下，僅管理員與超級使用者可存取
+ */
+@RestController
+@RequestMapping("/api/admin/posts/{id}/revisions")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+@Tag(name = "修訂歷史", description = "文章版本歷史與還原")
+@SecurityRequirement(name = OpenApiConfig.BEARER_SCHEME_NAME)
+public class RevisionController {
+
+    private final PostRevisionService postRevisionService;
+    private final ContentService contentService;
+
+    /**
+     * 列出文章的修訂歷史
+     * @param id 文章ID
+     * @return 由新到舊的修訂摘要
+     */
+    @GetMapping
+    @Operation(summary = "列出文章的修訂歷史（僅管理員）")
+    public ResponseEntity<List<PostRevisionSummary>> listRevisions(@PathVariable String id) {
+        return ResponseEntity.ok(postRevisionService.listRevisions(id));
+    }
+
+    /**
+     * 檢視指定版本的完整內容
+     * @param id 文章ID
+     * @param revisionNo 版本號
+     * @return 版本內容
+     */
+    @GetMapping("/{revisionNo}")
+    @Operation(summary = "檢視文章的指定版本（僅管理員）")
+    public ResponseEntity<PostRevisionResponse> getRevision(@PathVariable String id, @PathVariable int revisionNo) {
+        return postRevisionService.getRevision(id, revisionNo)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 將文章還原為指定版本
+     * @param id 文章ID
+     * @param revisionNo 版本號
+     * @return 還原後的文章
+     */
+    @PostMapping("/{revisionNo}/restore")
+    @Operation(summary = "將文章還原為指定版本（僅管理員）")
+    public ResponseEntity<BlogPost> restoreRevision(@PathVariable String id, @PathVariable int revisionNo) {
+        return contentService.restorePostRevision(id, revisionNo)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,32 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 單月封存統計資料傳輸物件
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveMonthResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 月份，格式為 yyyy-MM
+     */
+    private String month;
+
+    /**
+     * 該月發表的文章數量
+     */
+    private long posts;
+
+    /**
+     * 該月發表的作品數量
+     */
+    private long portfolio;
+}
@@ -0,0 +1,30 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 封存統計回應資料傳輸物件
+ * 用於部落格側欄的「依月份瀏覽」
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 統計版本戳記
+     * 物化視圖最近一次刷新的時間（毫秒），尚未刷新過時為0
+     */
+    private long version;
+
+    /**
+     * 各月份統計，由新到舊排序
+     */
+    private List<ArchiveMonthResponse> months;
+}
@@ -0,0 +1,86 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 部落格文章部分更新請求資料傳輸物件
+ * 只更新有帶值的欄位；未帶或為null的欄位保持不變
+ */
+@Data
+public class BlogPostPatchRequest {
+    /**
+     * 讀取文章時取得的版本號（必填）
+     * 與目前版本不一致時表示文章已被他人修改，更新會被拒絕
+     */
+    private Long version;
+
+    /**
+     * 文章封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 文章是否鎖定
+     */
+    private Boolean isLocked;
+
+    /**
+     * 文章分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 是否為精選文章
+     */
+    private Boolean isFeatured;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 英文摘要
+     */
+    private String excerpt;
+
+    /**
+     * 中文摘要
+     */
+    private String excerptZh;
+
+    /**
+     * 英文內容
+     */
+    private String content;
+
+    /**
+     * 中文內容
+     */
+    private String contentZh;
+
+    /**
+     * 標籤列表
+     * 空列表表示清除
+     */
+    private List<String> tags;
+
+    /**
+     * 排程發佈時間，有值時文章先保持鎖定，到時間自動發佈
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * 是否取消排程發佈
+     * 為true時清空排程時間（忽略 publishAt），文章維持目前的鎖定狀態
+     */
+    private Boolean clearPublishAt;
+}
@@ -2,6 +2,9 @@ package com.solo.portfolio.model.dto;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 部落格文章請求資料傳輸物件
  * 用於接收創建或更新部落格文章的請求資料
@@ -60,4 +63,22 @@ public class BlogPostRequest {
      * 中文內容
      */
     private String contentZh;
+
+    /**
+     * 標籤列表
+     * 更新時為null表示保留原有標籤，空列表表示清除
+     */
+    private List<String> tags;
+
+    /**
+     * 排程發佈時間
+     * 有值時文章先保持鎖定，到時間自動發佈；更新時為null表示保留目前的排程
+     */
+    private LocalDateTime publishAt;
+
+    /**
+     * 是否取消排程發佈
+     * 為true時清空排程時間（忽略 publishAt），文章維持目前的鎖定狀態
+     */
+    private Boolean clearPublishAt;
 }
@@ -0,0 +1,28 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 分類統計回應資料傳輸物件
+ * 用於返回各分類下的文章與作品數量
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryCountsResponse {
+    /**
+     * 各分類的文章數量
+     * 鍵為分類鍵值，值為數量
+     */
+    private Map<String, Long> posts;
+
+    /**
+     * 各分類的作品數量
+     * 鍵為分類鍵值，值為數量
+     */
+    private Map<String, Long> portfolio;
+}
@@ -0,0 +1,71 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 樹狀評論節點資料傳輸物件
+ * 欄位與 CommentResponse 相同，另含巢狀回覆；
+ * 頂層評論另帶討論串的回覆總數與載入更多回覆的游標
+ */
+@Data
+@NoArgsConstructor
+public class CommentNodeResponse {
+    /**
+     * 評論唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 所屬文章ID
+     */
+    private String postId;
+
+    /**
+     * 評論者ID
+     */
+    private String userId;
+
+    /**
+     * 評論者名稱
+     */
+    private String username;
+
+    /**
+     * 評論者頭像URL
+     */
+    private String avatarUrl;
+
+    /**
+     * 建立時間（ISO-8601）
+     */
+    private String date;
+
+    /**
+     * 評論內容
+     */
+    private String text;
+
+    /**
+     * 所回覆的評論ID，頂層評論為null
+     */
+    private String parentId;
+
+    /**
+     * 巢狀回覆，依建立時間排序
+     */
+    private List<CommentNodeResponse> replies = new ArrayList<>();
+
+    /**
+     * 討論串的回覆總數（含所有層級），只在頂層評論提供
+     */
+    private Integer replyCount;
+
+    /**
+     * 載入其餘回覆的游標，回覆已全部內嵌時為null
+     */
+    private String repliesCursor;
+}
@@ -0,0 +1,47 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * 內容總覽統計回應資料傳輸物件
+ * 用於管理後台儀表板
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentStatsResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 統計版本戳記
+     * 物化視圖最近一次刷新的時間（毫秒），尚未刷新過時為0
+     */
+    private long version;
+
+    /**
+     * 文章總數
+     */
+    private long totalPosts;
+
+    /**
+     * 作品總數
+     */
+    private long totalPortfolio;
+
+    /**
+     * 各分類的文章數量
+     * 鍵為分類鍵值，值為數量
+     */
+    private Map<String, Long> postsByCategory;
+
+    /**
+     * 各分類的作品數量
+     * 鍵為分類鍵值，值為數量
+     */
+    private Map<String, Long> portfolioByCategory;
+}
@@ -0,0 +1,33 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游標分頁回應資料傳輸物件
+ * 以上一頁最後一筆的排序鍵作為游標（keyset），翻頁成本與頁數無關
+ *
+ * @param <T> 項目類型
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    /**
+     * 本頁項目
+     */
+    private List<T> items;
+
+    /**
+     * 下一頁的游標，沒有下一頁時為null
+     */
+    private String nextCursor;
+
+    /**
+     * 是否還有下一頁
+     */
+    private boolean hasMore;
+}
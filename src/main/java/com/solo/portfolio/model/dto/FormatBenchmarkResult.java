@@ -0,0 +1,44 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 回應格式比較結果資料傳輸物件
+ * 單一樣本資料以單一格式編碼的大小與平均耗時
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormatBenchmarkResult {
+    /**
+     * 樣本名稱：posts 或 comments
+     */
+    private String payload;
+
+    /**
+     * 樣本包含的資料筆數
+     */
+    private Integer items;
+
+    /**
+     * 格式：json、cbor 或 smile
+     */
+    private String format;
+
+    /**
+     * 編碼後的位元組數
+     */
+    private Integer bytes;
+
+    /**
+     * 再經 gzip 壓縮後的位元組數
+     */
+    private Integer gzipBytes;
+
+    /**
+     * 平均編碼耗時（微秒）
+     */
+    private Double encodeMicros;
+}
@@ -0,0 +1,51 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 最近瀏覽紀錄資料傳輸物件
+ * 用於「繼續閱讀」列表
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryEntryResponse {
+    /**
+     * 文章唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 文章發表日期
+     */
+    private LocalDateTime date;
+
+    /**
+     * 最近一次瀏覽時間（毫秒時間戳）
+     */
+    private Long viewedAt;
+}
@@ -0,0 +1,65 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 批量匯入工作回應資料傳輸物件
+ * 返回匯入進度、各類計數與逐列錯誤
+ */
+@Data
+@NoArgsConstructor
+public class ImportJobResponse {
+    /**
+     * 匯入工作ID
+     */
+    private String jobId;
+
+    /**
+     * 匯入內容類型：posts、portfolio 或 comments
+     */
+    private String type;
+
+    /**
+     * 工作狀態：RUNNING、COMPLETED 或 FAILED
+     */
+    private String status;
+
+    /**
+     * 已讀取的資料列數
+     */
+    private long processed;
+
+    /**
+     * 成功寫入的資料列數
+     */
+    private long inserted;
+
+    /**
+     * 因ID已存在而略過的資料列數
+     */
+    private long skipped;
+
+    /**
+     * 失敗的資料列數
+     */
+    private long failed;
+
+    /**
+     * 逐列錯誤（最多保留前若干筆）
+     */
+    private List<ImportRowError> errors;
+
+    /**
+     * 工作開始時間
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * 工作結束時間，執行中為null
+     */
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,29 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量匯入單列錯誤資料傳輸物件
+ * 記錄匯入失敗或略過的資料列及原因
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    /**
+     * 資料列在 NDJSON 內容中的行號（從1開始）
+     */
+    private long line;
+
+    /**
+     * 資料列的ID，無法解析時為null
+     */
+    private String id;
+
+    /**
+     * 錯誤原因
+     */
+    private String message;
+}
@@ -0,0 +1,30 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 按讚回應資料傳輸物件
+ * 返回目前使用者對文章的按讚狀態
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeResponse {
+    /**
+     * 文章ID
+     */
+    private String postId;
+
+    /**
+     * 目前使用者是否已按讚
+     */
+    private boolean liked;
+
+    /**
+     * 此次請求是否改變了按讚狀態
+     * 重複按讚或重複取消時為false
+     */
+    private boolean changed;
+}
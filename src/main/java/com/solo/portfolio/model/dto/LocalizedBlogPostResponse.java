@@ -0,0 +1,126 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 單一語系部落格文章回應資料傳輸物件
+ * 依 Accept-Language 或 lang 參數選出一組標題、摘要與內容，
+ * 取代同時返回中英文欄位的完整實體，以減少回應大小
+ */
+@Data
+@NoArgsConstructor
+public class LocalizedBlogPostResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 文章唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 回應所採用的語系
+     * en 表示英文，zh 表示中文
+     */
+    private String lang;
+
+    /**
+     * 文章封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 文章是否被鎖定
+     */
+    private Boolean isLocked;
+
+    /**
+     * 文章建立時間戳（毫秒）
+     */
+    private Long createdAt;
+
+    /**
+     * 文章分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 文章獲得的讚數
+     */
+    private Integer likes;
+
+    /**
+     * 文章的評論數量
+     */
+    private Integer commentsCount;
+
+    /**
+     * 文章的瀏覽次數
+     */
+    private Integer views;
+
+    /**
+     * 是否為精選文章
+     */
+    private Boolean isFeatured;
+
+    /**
+     * 標題
+     * 所選語系缺少時改用另一語系
+     */
+    private String title;
+
+    /**
+     * 摘要
+     * 所選語系缺少時改用另一語系
+     */
+    private String excerpt;
+
+    /**
+     * 內容
+     * 所選語系缺少時改用另一語系
+     */
+    private String content;
+
+    /**
+     * 文章發表日期
+     */
+    private LocalDateTime date;
+
+    /**
+     * 標籤列表
+     */
+    private List<String> tags;
+
+    /**
+     * 內容預先渲染後的HTML
+     * 僅單篇文章回應且渲染完成時提供
+     */
+    private String contentHtml;
+
+    /**
+     * 內容目錄
+     * 僅單篇文章回應且渲染完成時提供
+     */
+    private List<TocEntry> toc;
+
+    /**
+     * 字數
+     */
+    private Integer wordCount;
+
+    /**
+     * 預估閱讀分鐘數
+     */
+    private Integer readingMinutes;
+
+    /**
+     * 預先渲染狀態
+     * PENDING、PROCESSING、READY 或 FAILED
+     */
+    private String renderStatus;
+}
@@ -0,0 +1,65 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 單一語系作品集項目回應資料傳輸物件
+ * 依 Accept-Language 或 lang 參數選出一個標題
+ */
+@Data
+@NoArgsConstructor
+public class LocalizedPortfolioItemResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 作品唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 回應所採用的語系
+     * en 表示英文，zh 表示中文
+     */
+    private String lang;
+
+    /**
+     * 作品展示圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 標題
+     * 所選語系缺少時改用另一語系
+     */
+    private String title;
+
+    /**
+     * 作品分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 作品瀏覽次數
+     */
+    private Integer views;
+
+    /**
+     * 是否為精選作品
+     */
+    private Boolean isFeatured;
+
+    /**
+     * 作品發表日期
+     */
+    private LocalDateTime date;
+
+    /**
+     * 標籤列表
+     */
+    private List<String> tags;
+}
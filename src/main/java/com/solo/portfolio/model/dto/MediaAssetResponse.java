@@ -0,0 +1,66 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 媒體檔案資料傳輸物件
+ * 用於上傳結果與媒體資訊查詢
+ */
+@Data
+@NoArgsConstructor
+public class MediaAssetResponse {
+    /**
+     * 原始檔內容的 SHA-256 雜湊值
+     */
+    private String hash;
+
+    /**
+     * 原始檔的MIME類型
+     */
+    private String contentType;
+
+    /**
+     * 原始檔大小（位元組）
+     */
+    private long byteSize;
+
+    /**
+     * 原始圖片寬度
+     */
+    private int width;
+
+    /**
+     * 原始圖片高度
+     */
+    private int height;
+
+    /**
+     * 處理狀態：PENDING、READY 或 FAILED
+     */
+    private String status;
+
+    /**
+     * 模糊預覽字串，處理完成前為空
+     */
+    private String blurhash;
+
+    /**
+     * 原始檔網址
+     */
+    private String url;
+
+    /**
+     * 已產生的縮圖版本
+     */
+    private List<MediaVariantResponse> variants = new ArrayList<>();
+
+    /**
+     * 上傳時間
+     */
+    private LocalDateTime createdAt;
+}
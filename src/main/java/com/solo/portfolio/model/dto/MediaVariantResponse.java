@@ -0,0 +1,28 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 媒體縮圖版本資料傳輸物件
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaVariantResponse {
+    /**
+     * 圖片格式：webp、avif 或 jpg
+     */
+    private String format;
+
+    /**
+     * 寬度（像素）
+     */
+    private int width;
+
+    /**
+     * 檔案網址
+     */
+    private String url;
+}
@@ -0,0 +1,49 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 作品集項目部分更新請求資料傳輸物件
+ * 只更新有帶值的欄位；未帶或為null的欄位保持不變
+ */
+@Data
+public class PortfolioItemPatchRequest {
+    /**
+     * 讀取作品時取得的版本號（必填）
+     * 與目前版本不一致時表示作品已被他人修改，更新會被拒絕
+     */
+    private Long version;
+
+    /**
+     * 作品展示圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 作品分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 是否為精選作品
+     */
+    private Boolean isFeatured;
+
+    /**
+     * 標籤列表
+     * 空列表表示清除
+     */
+    private List<String> tags;
+}
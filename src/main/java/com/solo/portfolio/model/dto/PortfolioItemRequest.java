@@ -2,6 +2,8 @@ package com.solo.portfolio.model.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 /**
  * 作品集項目請求資料傳輸物件
  * 用於接收創建或更新作品集項目的請求資料
@@ -34,4 +36,10 @@ public class PortfolioItemRequest {
      * true表示作品會在首頁突出顯示
      */
     private Boolean isFeatured;
+
+    /**
+     * 標籤列表
+     * 更新時為null表示保留原有標籤，空列表表示清除
+     */
+    private List<String> tags;
 }
@@ -0,0 +1,20 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+
+/**
+ * 作品排序移動請求資料傳輸物件
+ * 以移動後的前後鄰居指定位置，兩者皆為null時不移動
+ */
+@Data
+public class PortfolioMoveRequest {
+    /**
+     * 移動後排在前面的作品ID，移到最前面時為null
+     */
+    private String previousId;
+
+    /**
+     * 移動後排在後面的作品ID，移到最後面時為null
+     */
+    private String nextId;
+}
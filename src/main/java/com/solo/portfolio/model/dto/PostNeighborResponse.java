@@ -0,0 +1,49 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 相鄰文章摘要資料傳輸物件
+ * 用於文章頁面的上一篇／下一篇連結
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostNeighborResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 文章唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 文章發表日期
+     */
+    private LocalDateTime date;
+}
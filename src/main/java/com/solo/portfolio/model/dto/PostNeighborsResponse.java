@@ -0,0 +1,38 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 上一篇／下一篇文章回應資料傳輸物件
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostNeighborsResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 文章ID
+     */
+    private String postId;
+
+    /**
+     * 查詢範圍
+     * all 表示全部文章，category 表示同分類文章
+     */
+    private String scope;
+
+    /**
+     * 上一篇（較舊）文章，沒有時為null
+     */
+    private PostNeighborResponse previous;
+
+    /**
+     * 下一篇（較新）文章，沒有時為null
+     */
+    private PostNeighborResponse next;
+}
@@ -0,0 +1,67 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文章頁面組合資料傳輸物件
+ * 一次返回開啟文章頁面所需的全部資料；
+ * 選用區塊在期限內未完成或失敗時為null，並列於 degraded
+ */
+@Data
+@NoArgsConstructor
+public class PostPageResponse {
+    /**
+     * 文章：指定語系時為單語系內容，否則為完整雙語實體
+     */
+    private Object post;
+
+    /**
+     * 預先渲染結果，只在返回完整雙語實體時提供（單語系內容已包含渲染欄位）
+     */
+    private RenderedPostResponse rendered;
+
+    /**
+     * 第一頁討論串：最早的若干則頂層評論，各自內嵌最早的幾則回覆；
+     * 後續頁面與其餘回覆以游標向評論端點載入
+     */
+    private CursorPage<CommentNodeResponse> comments;
+
+    /**
+     * 讚數
+     */
+    private Integer likes;
+
+    /**
+     * 瀏覽次數
+     */
+    private Integer views;
+
+    /**
+     * 評論數
+     */
+    private Integer commentsCount;
+
+    /**
+     * 目前使用者是否已按讚，未登入時為false
+     */
+    private Boolean liked;
+
+    /**
+     * 上一篇與下一篇
+     */
+    private PostNeighborsResponse neighbors;
+
+    /**
+     * 相關內容
+     */
+    private List<RelatedContentResponse> related;
+
+    /**
+     * 逾時或失敗而省略的區塊名稱
+     */
+    private List<String> degraded = new ArrayList<>();
+}
@@ -0,0 +1,75 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章修訂版本資料傳輸物件
+ * 包含還原後的完整版本內容
+ */
+@Data
+@NoArgsConstructor
+public class PostRevisionResponse {
+    /**
+     * 文章ID
+     */
+    private String postId;
+
+    /**
+     * 版本號
+     */
+    private Integer revisionNo;
+
+    /**
+     * 建立時間
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 英文摘要
+     */
+    private String excerpt;
+
+    /**
+     * 中文摘要
+     */
+    private String excerptZh;
+
+    /**
+     * 英文內容
+     */
+    private String content;
+
+    /**
+     * 中文內容
+     */
+    private String contentZh;
+
+    /**
+     * 分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 標籤列表
+     */
+    private List<String> tags;
+}
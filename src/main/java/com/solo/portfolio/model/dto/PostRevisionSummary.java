@@ -0,0 +1,42 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章修訂紀錄摘要資料傳輸物件
+ * 用於列出修訂歷史，不含內容
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevisionSummary {
+    /**
+     * 版本號
+     */
+    private Integer revisionNo;
+
+    /**
+     * 紀錄類型：SNAPSHOT 或 DELTA
+     */
+    private String kind;
+
+    /**
+     * 此版本變更的欄位名稱
+     */
+    private List<String> changedFields;
+
+    /**
+     * 壓縮後的儲存大小（位元組）
+     */
+    private int storedBytes;
+
+    /**
+     * 建立時間
+     */
+    private LocalDateTime createdAt;
+}
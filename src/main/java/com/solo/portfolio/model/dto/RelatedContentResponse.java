@@ -0,0 +1,54 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 相關內容回應資料傳輸物件
+ * 用於在文章頁面推薦相似的文章與作品
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedContentResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 內容類型
+     * post 表示部落格文章，portfolio 表示作品集項目
+     */
+    private String type;
+
+    /**
+     * 內容唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 分類鍵值
+     */
+    private String categoryKey;
+
+    /**
+     * 餘弦相似度（0-1），數值越大越相關
+     */
+    private double score;
+}
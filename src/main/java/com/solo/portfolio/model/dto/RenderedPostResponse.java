@@ -0,0 +1,84 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章預先渲染結果回應資料傳輸物件
+ * 返回背景產生的HTML、目錄、字數與閱讀時間，以及目前的渲染狀態
+ */
+@Data
+@NoArgsConstructor
+public class RenderedPostResponse implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 文章ID
+     */
+    private String postId;
+
+    /**
+     * 渲染狀態
+     * PENDING、PROCESSING、READY 或 FAILED
+     */
+    private String status;
+
+    /**
+     * 英文內容渲染後的HTML（已清理）
+     */
+    private String contentHtml;
+
+    /**
+     * 中文內容渲染後的HTML（已清理）
+     */
+    private String contentZhHtml;
+
+    /**
+     * 英文內容目錄
+     */
+    private List<TocEntry> toc;
+
+    /**
+     * 中文內容目錄
+     */
+    private List<TocEntry> tocZh;
+
+    /**
+     * 英文內容字數
+     */
+    private Integer wordCount;
+
+    /**
+     * 中文內容字數
+     */
+    private Integer wordCountZh;
+
+    /**
+     * 英文內容預估閱讀分鐘數
+     */
+    private Integer readingMinutes;
+
+    /**
+     * 中文內容預估閱讀分鐘數
+     */
+    private Integer readingMinutesZh;
+
+    /**
+     * 由英文內容產生的摘要
+     */
+    private String excerpt;
+
+    /**
+     * 由中文內容產生的摘要
+     */
+    private String excerptZh;
+
+    /**
+     * 最後一次渲染完成時間
+     */
+    private LocalDateTime renderedAt;
+}
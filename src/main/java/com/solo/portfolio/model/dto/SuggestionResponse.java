@@ -0,0 +1,46 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 搜尋建議回應資料傳輸物件
+ * 用於向搜尋框返回標題自動完成的候選項目
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    /**
+     * 內容類型
+     * post 表示部落格文章，portfolio 表示作品集項目
+     */
+    private String type;
+
+    /**
+     * 內容唯一識別碼
+     */
+    private String id;
+
+    /**
+     * 英文標題
+     */
+    private String title;
+
+    /**
+     * 中文標題
+     */
+    private String titleZh;
+
+    /**
+     * 封面圖片URL
+     */
+    private String imageUrl;
+
+    /**
+     * 熱門程度
+     * 用於排序建議結果，數值越大排序越前
+     */
+    private long popularity;
+}
@@ -0,0 +1,54 @@
+package com.solo.portfolio.model.dto;
+
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 增量同步回應資料傳輸物件
+ * 包含游標之後新增或變更的內容，以及已刪除內容的ID（墓碑）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+    /**
+     * 新增或變更的文章
+     */
+    private List<BlogPost> posts = new ArrayList<>();
+
+    /**
+     * 新增或變更的作品
+     */
+    private List<PortfolioItem> portfolioItems = new ArrayList<>();
+
+    /**
+     * 已刪除的文章ID
+     */
+    private List<String> deletedPostIds = new ArrayList<>();
+
+    /**
+     * 已刪除的作品ID
+     */
+    private List<String> deletedPortfolioItemIds = new ArrayList<>();
+
+    /**
+     * 下次同步使用的游標
+     */
+    private String nextCursor;
+
+    /**
+     * 是否還有尚未返回的變更，為true時應立即以 nextCursor 繼續同步
+     */
+    private boolean hasMore;
+
+    /**
+     * 游標已過期（相關墓碑已清除），用戶端須清空本地資料並從頭同步
+     */
+    private boolean reset;
+}
@@ -0,0 +1,28 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 標籤雲回應資料傳輸物件
+ * 用於返回各標籤下的文章與作品數量
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountsResponse {
+    /**
+     * 各標籤的文章數量
+     * 鍵為標籤，值為數量
+     */
+    private Map<String, Long> posts;
+
+    /**
+     * 各標籤的作品數量
+     * 鍵為標籤，值為數量
+     */
+    private Map<String, Long> portfolio;
+}
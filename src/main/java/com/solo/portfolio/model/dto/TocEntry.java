@@ -0,0 +1,33 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 文章目錄項目資料傳輸物件
+ * 對應渲染後HTML中的一個標題
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TocEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 標題層級（1-6）
+     */
+    private int level;
+
+    /**
+     * 標題文字
+     */
+    private String text;
+
+    /**
+     * 標題錨點ID，可用於 #anchor 連結
+     */
+    private String anchor;
+}
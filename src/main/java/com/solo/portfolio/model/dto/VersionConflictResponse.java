@@ -0,0 +1,29 @@
+package com.solo.portfolio.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 版本衝突回應資料傳輸物件
+ * 部分更新帶上的版本號已過期時返回，前端可依目前版本重新載入後再送出
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionConflictResponse {
+    /**
+     * 內容ID
+     */
+    private String id;
+
+    /**
+     * 目前的版本號
+     */
+    private Long currentVersion;
+
+    /**
+     * 錯誤訊息
+     */
+    private String message;
+}
@@ -3,16 +3,23 @@ package com.solo.portfolio.model.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 部落格文章實體類
  * 用於儲存部落格文章的所有相關資訊
+ * 更新時只寫入有變更的欄位，避免改寫未變動的大型TEXT欄位
  * 支援中英文雙語內容
  */
 @Entity
+@DynamicUpdate
 @Table(name = "blog_posts", schema = "public")
 @Data
 @NoArgsConstructor
@@ -22,6 +29,7 @@ public class BlogPost implements Serializable {
      * 文章唯一識別碼
      */
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
 
     /**
@@ -113,14 +121,49 @@ public class BlogPost implements Serializable {
     @Column(columnDefinition = "TEXT")
     private String contentZh;
 
+    /**
+     * 標籤
+     * 以Postgres文字陣列儲存，已正規化為小寫且不重複
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "text[]", nullable = false)
+    private List<String> tags = new ArrayList<>();
+
+    /**
+     * 樂觀鎖版本號
+     * 每次更新遞增，PATCH 請求須帶上讀取時的版本號，不一致時拒絕更新
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private LocalDateTime date;
 
+    /**
+     * 排程發佈時間
+     * 設定後文章保持鎖定，到達此時間由排程解除鎖定並清空此欄位；為空表示沒有待發佈的排程
+     */
+    @Column(name = "publish_at")
+    private LocalDateTime publishAt;
+
     @Column(name = "created_at_ts")
     private LocalDateTime createdAtTs;
 
+    /**
+     * 記錄最後更新時間
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAtTs = LocalDateTime.now();
+        updatedAt = createdAtTs;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
 
@@ -0,0 +1,136 @@
+package com.solo.portfolio.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章預先渲染結果實體類
+ * 儲存文章每次編輯後於背景產生的衍生資料：
+ * 已清理的HTML、目錄、字數與閱讀時間
+ * 讓每次瀏覽不必重新渲染Markdown
+ */
+@Entity
+@Table(name = "blog_post_renders", schema = "public")
+@Data
+@NoArgsConstructor
+public class BlogPostRender implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 對應的文章ID
+     */
+    @Id
+    @Column(name = "post_id", columnDefinition = "uuid")
+    private String postId;
+
+    /**
+     * 渲染狀態
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RenderStatus status;
+
+    /**
+     * 英文內容渲染後的HTML
+     */
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
+    /**
+     * 中文內容渲染後的HTML
+     */
+    @Column(name = "content_zh_html", columnDefinition = "TEXT")
+    private String contentZhHtml;
+
+    /**
+     * 英文內容的目錄（JSON陣列）
+     */
+    @Column(columnDefinition = "TEXT")
+    private String toc;
+
+    /**
+     * 中文內容的目錄（JSON陣列）
+     */
+    @Column(name = "toc_zh", columnDefinition = "TEXT")
+    private String tocZh;
+
+    /**
+     * 英文內容字數
+     */
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    /**
+     * 中文內容字數（中日韓文字每字計一）
+     */
+    @Column(name = "word_count_zh")
+    private Integer wordCountZh;
+
+    /**
+     * 英文內容預估閱讀分鐘數
+     */
+    @Column(name = "reading_minutes")
+    private Integer readingMinutes;
+
+    /**
+     * 中文內容預估閱讀分鐘數
+     */
+    @Column(name = "reading_minutes_zh")
+    private Integer readingMinutesZh;
+
+    /**
+     * 由英文內容產生的摘要
+     * 作者未填寫摘要時於讀取端替代，不寫回文章
+     */
+    @Column(columnDefinition = "TEXT")
+    private String excerpt;
+
+    /**
+     * 由中文內容產生的摘要
+     */
+    @Column(name = "excerpt_zh", columnDefinition = "TEXT")
+    private String excerptZh;
+
+    /**
+     * 渲染來源內容的雜湊值
+     * 用於判斷內容是否已變更、結果是否過期
+     */
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash;
+
+    /**
+     * 樂觀鎖版本號
+     * 標記待渲染時遞增，讓進行中的舊渲染工作無法覆寫較新的狀態
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * 渲染失敗時的錯誤訊息
+     */
+    @Column(length = 500)
+    private String error;
+
+    /**
+     * 最後一次渲染完成時間
+     */
+    @Column(name = "rendered_at")
+    private LocalDateTime renderedAt;
+
+    /**
+     * 記錄最後更新時間
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
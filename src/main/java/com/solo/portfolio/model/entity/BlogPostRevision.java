@@ -0,0 +1,80 @@
+package com.solo.portfolio.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章修訂紀錄實體類
+ * 每次儲存文章後記錄一個版本；內容以與前一版本的差異壓縮儲存，
+ * 每隔固定版本數存一次完整快照，還原任一版本最多只需套用有限個差異
+ */
+@Entity
+@Table(name = "blog_post_revisions", schema = "public",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "revision_no"}))
+@Data
+@NoArgsConstructor
+public class BlogPostRevision implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 修訂紀錄唯一識別碼
+     */
+    @Id
+    @Column(columnDefinition = "uuid")
+    private String id;
+
+    /**
+     * 對應的文章ID
+     */
+    @Column(name = "post_id", columnDefinition = "uuid", nullable = false)
+    private String postId;
+
+    /**
+     * 版本號，同一篇文章內從1開始遞增
+     */
+    @Column(name = "revision_no", nullable = false)
+    private Integer revisionNo;
+
+    /**
+     * 紀錄類型
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RevisionKind kind;
+
+    /**
+     * GZIP 壓縮後的 JSON 內容：快照為完整欄位，差異為變更的欄位
+     */
+    @Column(columnDefinition = "bytea", nullable = false)
+    private byte[] payload;
+
+    /**
+     * 此版本完整內容的雜湊值
+     * 用於確認前一版本與儲存前的文章一致，不一致時改存快照
+     */
+    @Column(name = "state_hash", length = 64, nullable = false)
+    private String stateHash;
+
+    /**
+     * 此版本變更的欄位名稱，以逗號分隔
+     */
+    @Column(name = "changed_fields", length = 500)
+    private String changedFields;
+
+    /**
+     * 建立時間
+     */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -14,12 +14,13 @@ import java.time.LocalDateTime;
 public class Comment implements Serializable {
     private static final long serialVersionUID = 1L;
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
 
-    @Column(name = "post_id", length = 64, nullable = false)
+    @Column(name = "post_id", columnDefinition = "uuid", nullable = false)
     private String postId;
 
-    @Column(name = "user_id", length = 36, nullable = false)
+    @Column(name = "user_id", columnDefinition = "uuid", nullable = false)
     private String userId;
 
     @Column(length = 100, nullable = false)
@@ -31,7 +32,7 @@ public class Comment implements Serializable {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String text;
 
-    @Column(name = "parent_id", length = 36)
+    @Column(name = "parent_id", columnDefinition = "uuid")
     private String parentId;
 
     @Column(name = "created_at", nullable = false)
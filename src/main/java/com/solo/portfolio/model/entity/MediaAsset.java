@@ -0,0 +1,101 @@
+package com.solo.portfolio.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 媒體檔案實體類
+ * 以原始檔內容的 SHA-256 雜湊值為主鍵，相同內容只儲存一次；
+ * 記錄原始圖片尺寸、背景產生的縮圖版本與模糊預覽字串
+ */
+@Entity
+@Table(name = "media_assets", schema = "public")
+@Data
+@NoArgsConstructor
+public class MediaAsset implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 原始檔內容的 SHA-256 雜湊值（小寫十六進位）
+     */
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    /**
+     * 原始檔的MIME類型
+     */
+    @Column(name = "content_type", length = 50, nullable = false)
+    private String contentType;
+
+    /**
+     * 原始檔大小（位元組）
+     */
+    @Column(name = "byte_size", nullable = false)
+    private Long byteSize;
+
+    /**
+     * 原始圖片寬度（像素）
+     */
+    @Column(nullable = false)
+    private Integer width;
+
+    /**
+     * 原始圖片高度（像素）
+     */
+    @Column(nullable = false)
+    private Integer height;
+
+    /**
+     * 模糊預覽字串（BlurHash），處理完成前為空
+     */
+    @Column(length = 64)
+    private String blurhash;
+
+    /**
+     * 已產生的縮圖版本檔名，例如 w640.webp
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "text[]", nullable = false)
+    private List<String> variants = new ArrayList<>();
+
+    /**
+     * 處理狀態
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private MediaStatus status;
+
+    /**
+     * 處理失敗時的錯誤訊息
+     */
+    @Column(length = 500)
+    private String error;
+
+    /**
+     * 上傳時間
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 處理完成時間
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
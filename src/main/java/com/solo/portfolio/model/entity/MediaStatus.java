@@ -0,0 +1,22 @@
+package com.solo.portfolio.model.entity;
+
+/**
+ * 媒體檔案處理狀態列舉
+ * 標示背景產生縮圖版本的進度
+ */
+public enum MediaStatus {
+    /**
+     * 原始檔已儲存，等待背景執行緒產生縮圖版本
+     */
+    PENDING,
+
+    /**
+     * 縮圖版本與模糊預覽已產生完成
+     */
+    READY,
+
+    /**
+     * 處理失敗，錯誤訊息記錄於 error 欄位；原始檔仍可讀取
+     */
+    FAILED
+}
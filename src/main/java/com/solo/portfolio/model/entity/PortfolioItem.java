@@ -3,16 +3,23 @@ package com.solo.portfolio.model.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 作品集項目實體類
  * 用於儲存作品集中的各個項目資訊
+ * 更新時只寫入有變更的欄位，避免改寫未變動的大型TEXT欄位
  * 支援中英文雙語標題
  */
 @Entity
+@DynamicUpdate
 @Table(name = "portfolio_items", schema = "public")
 @Data
 @NoArgsConstructor
@@ -22,6 +29,7 @@ public class PortfolioItem implements Serializable {
      * 作品唯一識別碼
      */
     @Id
+    @Column(columnDefinition = "uuid")
     private String id;
 
     /**
@@ -51,6 +59,14 @@ public class PortfolioItem implements Serializable {
      */
     @Column(length = 100)
     private String categoryKey;
+
+    /**
+     * 標籤
+     * 以Postgres文字陣列儲存，已正規化為小寫且不重複
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "text[]", nullable = false)
+    private List<String> tags = new ArrayList<>();
     
     /**
      * 作品瀏覽次數
@@ -68,6 +84,21 @@ public class PortfolioItem implements Serializable {
      */
     private LocalDateTime date;
 
+    /**
+     * 手動排序鍵
+     * 分數索引字串，依字典序（"C" 定序）排列；移動作品時只改寫該作品的鍵
+     */
+    @Column(name = "rank_key")
+    private String rankKey;
+
+    /**
+     * 樂觀鎖版本號
+     * 每次更新遞增，PATCH 請求須帶上讀取時的版本號，不一致時拒絕更新
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 記錄建立時間
      */
@@ -21,17 +21,18 @@ public class RefreshToken {
     
     /**
      * 重整權杖記錄的唯一識別碼
-     * 使用UUID自動生成
+     * 使用依時間遞增的UUIDv7自動生成
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Column(columnDefinition = "uuid")
     private String id;
     
     /**
      * 關聯的使用者ID
      * 指向擁有此重整權杖的使用者
      */
-    @Column(name = "user_id", nullable = false)
+    @Column(name = "user_id", columnDefinition = "uuid", nullable = false)
     private String userId;
     
     /**
@@ -0,0 +1,27 @@
+package com.solo.portfolio.model.entity;
+
+/**
+ * 文章預先渲染狀態列舉
+ * 標示背景渲染工作目前的進度
+ */
+public enum RenderStatus {
+    /**
+     * 已排入佇列，等待背景執行緒處理
+     */
+    PENDING,
+
+    /**
+     * 背景執行緒處理中
+     */
+    PROCESSING,
+
+    /**
+     * 渲染完成，結果可供讀取
+     */
+    READY,
+
+    /**
+     * 渲染失敗，錯誤訊息記錄於 error 欄位
+     */
+    FAILED
+}
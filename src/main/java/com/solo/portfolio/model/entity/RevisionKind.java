@@ -0,0 +1,16 @@
+package com.solo.portfolio.model.entity;
+
+/**
+ * 文章修訂紀錄類型列舉
+ */
+public enum RevisionKind {
+    /**
+     * 完整快照，還原時從此開始套用差異
+     */
+    SNAPSHOT,
+
+    /**
+     * 與前一個修訂版本的差異
+     */
+    DELTA
+}
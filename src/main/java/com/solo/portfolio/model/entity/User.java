@@ -31,10 +31,11 @@ public class User implements UserDetails {
     
     /**
      * 使用者唯一識別碼
-     * 使用UUID自動生成
+     * 使用依時間遞增的UUIDv7自動生成
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
+    @Column(columnDefinition = "uuid")
     private String id;
     
     /**
@@ -0,0 +1,42 @@
+package com.solo.portfolio.repository;
+
+import com.solo.portfolio.model.entity.BlogPostRender;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 文章預先渲染結果資料存儲庫介面
+ * 提供對渲染結果實體的基本CRUD操作
+ *
+ * @see BlogPostRender 文章預先渲染結果實體
+ */
+public interface BlogPostRenderRepository extends JpaRepository<BlogPostRender, String> {
+
+    /**
+     * 將文章標記為待渲染，紀錄不存在時新增
+     * 單一語句完成且遞增版本號，進行中的渲染工作之後寫回會因版本不符而失敗
+     * @param postId 文章ID
+     * @return 影響的筆數
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO blog_post_renders (post_id, status, version, updated_at) "
+        + "VALUES (:postId, 'PENDING', 0, CURRENT_TIMESTAMP) ON CONFLICT (post_id) DO UPDATE "
+        + "SET status = 'PENDING', version = blog_post_renders.version + 1, updated_at = CURRENT_TIMESTAMP",
+        nativeQuery = true)
+    int markPending(@Param("postId") String postId);
+
+    /**
+     * 批量查詢渲染時產生的摘要
+     * @param postIds 文章ID集合
+     * @return 每列依序為 文章ID、英文摘要、中文摘要
+     */
+    @Query("SELECT r.postId, r.excerpt, r.excerptZh FROM BlogPostRender r WHERE r.postId IN :postIds")
+    List<Object[]> findExcerpts(@Param("postIds") Collection<String> postIds);
+}
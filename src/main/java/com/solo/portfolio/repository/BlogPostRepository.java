@@ -1,8 +1,18 @@
 package com.solo.portfolio.repository;
 
 import com.solo.portfolio.model.entity.BlogPost;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 部落格文章資料存儲庫介面
@@ -19,6 +29,14 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, String> {
      */
     List<BlogPost> findByIsLockedFalse();
     
+    /**
+     * 查找排程發佈時間在指定時間之前的文章，依發佈時間先後排序
+     * 對應 publish_at 的部分索引，只涵蓋尚有排程的文章
+     * @param time 時間上限（含）
+     * @return 最多50篇有排程的文章
+     */
+    List<BlogPost> findTop50ByPublishAtLessThanEqualOrderByPublishAtAsc(LocalDateTime time);
+    
     /**
      * 根據分類查找文章
      * @param categoryKey 分類鍵值
@@ -26,11 +44,179 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, String> {
      */
     List<BlogPost> findByCategoryKey(String categoryKey);
     
+    /**
+     * 分頁查詢指定分類的文章
+     * 排序應為 date DESC, id，以命中 (category_key, date DESC, id) 索引
+     * @param categoryKey 分類鍵值
+     * @param pageable 分頁與排序參數
+     * @return 指定分類的文章分頁
+     */
+    Page<BlogPost> findByCategoryKey(String categoryKey, Pageable pageable);
+    
+    /**
+     * 統計各分類的文章數量
+     * @return 每列為 [分類鍵值, 數量]
+     */
+    @Query("select p.categoryKey, count(p) from BlogPost p group by p.categoryKey")
+    List<Object[]> countByCategory();
+    
+    /**
+     * 直接自資料庫讀取文章的計數欄位，不經過實體緩存
+     * @param id 文章ID
+     * @return 至多一列 [讚數, 瀏覽數, 評論數]
+     */
+    @Query("select p.likes, p.views, p.commentsCount from BlogPost p where p.id = :id")
+    List<Object[]> findCounters(@Param("id") String id);
+    
+    /**
+     * 讀取所有文章的熱門程度計數，供搜尋建議刷新排序
+     * @return 每列為 [文章ID, 瀏覽數, 讚數]
+     */
+    @Query("select p.id, p.views, p.likes from BlogPost p")
+    List<Object[]> findPopularity();
+    
     /**
      * 查找熱門文章（根據瀏覽次數排序）
      * @return 前10篇最熱門的文章
      */
     List<BlogPost> findTop10ByOrderByViewsDesc();
-}
-
+    
+    /**
+     * 以唯讀游標依ID順序串流讀取文章
+     * 設定 fetch size 讓驅動分批取回資料列，必須在交易中使用並於用畢後關閉
+     * @param after 起始ID（不含）
+     * @return 文章串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from BlogPost p where p.id > :after order by p.id")
+    Stream<BlogPost> streamAllAfter(@Param("after") String after);
 
+    /**
+     * 依ID順序串流讀取全部文章，供匯出使用
+     * @return 文章串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from BlogPost p order by p.id")
+    Stream<BlogPost> streamAll();
+    
+    /**
+     * 游標分頁查詢帶有任一指定標籤的文章
+     * 以 && 命中 tags 的 GIN 索引，依 (date, id) 由新到舊排序
+     * @param tags 以逗號分隔的標籤
+     * @param cursorDate 上一頁最後一筆的日期
+     * @param cursorId 上一頁最後一筆的ID
+     * @param limit 最多返回筆數
+     * @return 文章列表
+     */
+    @Query(value = "SELECT * FROM blog_posts WHERE tags && string_to_array(:tags, ',') "
+        + "AND (date, id) < (:cursorDate, :cursorId) ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<BlogPost> findByAnyTag(@Param("tags") String tags,
+                                @Param("cursorDate") LocalDateTime cursorDate,
+                                @Param("cursorId") String cursorId,
+                                @Param("limit") int limit);
+    
+    /**
+     * 游標分頁查詢帶有全部指定標籤的文章
+     * 以 @> 命中 tags 的 GIN 索引，依 (date, id) 由新到舊排序
+     * @param tags 以逗號分隔的標籤
+     * @param cursorDate 上一頁最後一筆的日期
+     * @param cursorId 上一頁最後一筆的ID
+     * @param limit 最多返回筆數
+     * @return 文章列表
+     */
+    @Query(value = "SELECT * FROM blog_posts WHERE tags @> string_to_array(:tags, ',') "
+        + "AND (date, id) < (:cursorDate, :cursorId) ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<BlogPost> findByAllTags(@Param("tags") String tags,
+                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                 @Param("cursorId") String cursorId,
+                                 @Param("limit") int limit);
+    
+    /**
+     * 統計各標籤的文章數量
+     * @return 每列為 [標籤, 數量]
+     */
+    @Query(value = "SELECT t.tag, count(*) FROM blog_posts CROSS JOIN LATERAL unnest(tags) AS t(tag) GROUP BY t.tag",
+        nativeQuery = true)
+    List<Object[]> countByTag();
+    
+    /**
+     * 查詢指定位置之前（較舊）的一篇文章
+     * 以 (date, id) 列比較命中 (date, id) 索引，只讀取摘要欄位
+     * @param date 目前文章的日期
+     * @param id 目前文章的ID
+     * @return 較舊的相鄰文章
+     */
+    @Query(value = "SELECT id, title, title_zh AS \"titleZh\", image_url AS \"imageUrl\", "
+        + "category_key AS \"categoryKey\", date FROM blog_posts "
+        + "WHERE (date, id) < (:date, :id) ORDER BY date DESC, id DESC LIMIT 1", nativeQuery = true)
+    Optional<NeighborView> findPrevious(@Param("date") LocalDateTime date, @Param("id") String id);
+    
+    /**
+     * 查詢指定位置之後（較新）的一篇文章
+     * @param date 目前文章的日期
+     * @param id 目前文章的ID
+     * @return 較新的相鄰文章
+     */
+    @Query(value = "SELECT id, title, title_zh AS \"titleZh\", image_url AS \"imageUrl\", "
+        + "category_key AS \"categoryKey\", date FROM blog_posts "
+        + "WHERE (date, id) > (:date, :id) ORDER BY date, id LIMIT 1", nativeQuery = true)
+    Optional<NeighborView> findNext(@Param("date") LocalDateTime date, @Param("id") String id);
+    
+    /**
+     * 查詢同分類中指定位置之前（較舊）的一篇文章
+     * 命中 (category_key, date, id) 索引
+     * @param categoryKey 分類鍵值
+     * @param date 目前文章的日期
+     * @param id 目前文章的ID
+     * @return 較舊的相鄰文章
+     */
+    @Query(value = "SELECT id, title, title_zh AS \"titleZh\", image_url AS \"imageUrl\", "
+        + "category_key AS \"categoryKey\", date FROM blog_posts "
+        + "WHERE category_key = :categoryKey AND (date, id) < (:date, :id) "
+        + "ORDER BY date DESC, id DESC LIMIT 1", nativeQuery = true)
+    Optional<NeighborView> findPreviousInCategory(@Param("categoryKey") String categoryKey,
+                                                  @Param("date") LocalDateTime date,
+                                                  @Param("id") String id);
+    
+    /**
+     * 查詢同分類中指定位置之後（較新）的一篇文章
+     * @param categoryKey 分類鍵值
+     * @param date 目前文章的日期
+     * @param id 目前文章的ID
+     * @return 較新的相鄰文章
+     */
+    @Query(value = "SELECT id, title, title_zh AS \"titleZh\", image_url AS \"imageUrl\", "
+        + "category_key AS \"categoryKey\", date FROM blog_posts "
+        + "WHERE category_key = :categoryKey AND (date, id) > (:date, :id) "
+        + "ORDER BY date, id LIMIT 1", nativeQuery = true)
+    Optional<NeighborView> findNextInCategory(@Param("categoryKey") String categoryKey,
+                                              @Param("date") LocalDateTime date,
+                                              @Param("id") String id);
+    
+    /**
+     * 只查詢文章目前的版本號
+     * @param id 文章ID
+     * @return 版本號
+     */
+    @Query("select p.version from BlogPost p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+    
+    /**
+     * 相鄰文章的摘要投影
+     * 避免為了上一篇／下一篇連結讀取整篇內容
+     */
+    interface NeighborView {
+        String getId();
+        String getTitle();
+        String getTitleZh();
+        String getImageUrl();
+        String getCategoryKey();
+        LocalDateTime getDate();
+    }
+}
@@ -0,0 +1,49 @@
+package com.solo.portfolio.repository;
+
+import com.solo.portfolio.model.entity.BlogPostRevision;
+import com.solo.portfolio.model.entity.RevisionKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 文章修訂紀錄資料存儲庫介面
+ * 提供對修訂紀錄實體的基本CRUD操作
+ *
+ * @see BlogPostRevision 文章修訂紀錄實體
+ */
+public interface BlogPostRevisionRepository extends JpaRepository<BlogPostRevision, String> {
+    /**
+     * 依版本號由新到舊列出文章的修訂紀錄
+     * @param postId 文章ID
+     * @return 修訂紀錄列表
+     */
+    List<BlogPostRevision> findByPostIdOrderByRevisionNoDesc(String postId);
+
+    /**
+     * 查找文章最新的修訂紀錄
+     * @param postId 文章ID
+     * @return 最新的修訂紀錄
+     */
+    Optional<BlogPostRevision> findFirstByPostIdOrderByRevisionNoDesc(String postId);
+
+    /**
+     * 查找指定版本之前（含）最近的一個指定類型紀錄，用於找出還原起點的快照
+     * @param postId 文章ID
+     * @param kind 紀錄類型
+     * @param revisionNo 版本號上限
+     * @return 修訂紀錄
+     */
+    Optional<BlogPostRevision> findFirstByPostIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc(
+        String postId, RevisionKind kind, Integer revisionNo);
+
+    /**
+     * 依版本號順序查找區間內的修訂紀錄
+     * @param postId 文章ID
+     * @param from 起始版本號（含）
+     * @param to 結束版本號（含）
+     * @return 修訂紀錄列表
+     */
+    List<BlogPostRevision> findByPostIdAndRevisionNoBetweenOrderByRevisionNo(String postId, Integer from, Integer to);
+}
@@ -1,9 +1,16 @@
 package com.solo.portfolio.repository;
 
 import com.solo.portfolio.model.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 評論資料存儲庫介面
@@ -16,7 +23,35 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
      * @return 評論列表
      */
     List<Comment> findByPostIdOrderByCreatedAtAsc(String postId);
-}
 
+    /**
+     * 以單次查詢獲取多篇文章的評論，並按建立時間升序排序
+     * @param postIds 文章ID集合
+     * @return 評論列表
+     */
+    List<Comment> findByPostIdInOrderByCreatedAtAsc(Collection<String> postIds);
 
+    /**
+     * 以唯讀游標依ID順序串流讀取評論
+     * 設定 fetch size 讓驅動分批取回資料列，必須在交易中使用並於用畢後關閉
+     * @param after 起始ID（不含）
+     * @return 評論串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Comment c where c.id > :after order by c.id")
+    Stream<Comment> streamAllAfter(@Param("after") String after);
 
+    /**
+     * 依ID順序串流讀取全部評論，供匯出使用
+     * @return 評論串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Comment c order by c.id")
+    Stream<Comment> streamAll();
+}
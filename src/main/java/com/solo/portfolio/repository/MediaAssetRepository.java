@@ -0,0 +1,42 @@
+package com.solo.portfolio.repository;
+
+import com.solo.portfolio.model.entity.MediaAsset;
+import com.solo.portfolio.model.entity.MediaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 媒體檔案資料存儲庫介面
+ * 提供對媒體檔案實體的基本CRUD操作
+ *
+ * @see MediaAsset 媒體檔案實體
+ */
+public interface MediaAssetRepository extends JpaRepository<MediaAsset, String> {
+
+    /**
+     * 查詢上傳已久仍在等待處理的檔案
+     * 用於重新排入因重啟而中斷的處理工作
+     * @param status 處理狀態
+     * @param before 上傳時間上限
+     * @return 媒體檔案列表
+     */
+    List<MediaAsset> findTop50ByStatusAndCreatedAtBefore(MediaStatus status, LocalDateTime before);
+
+    /**
+     * 將處理失敗的檔案重設為等待處理
+     * 以條件更新完成，同時上傳相同內容時只有一個請求會重設成功
+     * @param hash 內容雜湊值
+     * @return 更新的筆數
+     */
+    @Transactional
+    @Modifying
+    @Query("update MediaAsset a set a.status = com.solo.portfolio.model.entity.MediaStatus.PENDING, a.error = null "
+        + "where a.hash = :hash and a.status = com.solo.portfolio.model.entity.MediaStatus.FAILED")
+    int resetFailed(@Param("hash") String hash);
+}
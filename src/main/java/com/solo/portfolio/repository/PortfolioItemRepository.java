@@ -1,8 +1,19 @@
 package com.solo.portfolio.repository;
 
 import com.solo.portfolio.model.entity.PortfolioItem;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 作品集項目資料存儲庫介面
@@ -14,17 +25,133 @@ import java.util.List;
  */
 public interface PortfolioItemRepository extends JpaRepository<PortfolioItem, String> {
     /**
-     * 查找所有精選作品
+     * 依手動排序查找所有作品
+     * @return 作品列表
+     */
+    List<PortfolioItem> findAllByOrderByRankKeyAscIdAsc();
+    
+    /**
+     * 依手動排序查找所有精選作品
      * @return 精選作品列表
      */
-    List<PortfolioItem> findByIsFeaturedTrue();
+    List<PortfolioItem> findByIsFeaturedTrueOrderByRankKeyAscIdAsc();
     
     /**
-     * 根據分類查找作品
+     * 根據分類依手動排序查找作品
      * @param categoryKey 分類鍵值
      * @return 指定分類的作品列表
      */
-    List<PortfolioItem> findByCategoryKey(String categoryKey);
+    List<PortfolioItem> findByCategoryKeyOrderByRankKeyAscIdAsc(String categoryKey);
+    
+    /**
+     * 查詢目前最前面的排序鍵
+     * @return 最小的排序鍵，尚無作品時為空
+     */
+    @Query("select min(p.rankKey) from PortfolioItem p")
+    Optional<String> findMinRankKey();
+    
+    /**
+     * 查詢最長的排序鍵長度，用於判斷是否需要重新平衡
+     * @return 最長的排序鍵長度，尚無作品時為null
+     */
+    @Query("select max(length(p.rankKey)) from PortfolioItem p")
+    Integer findMaxRankKeyLength();
+    
+    /**
+     * 是否有尚未指派排序鍵的作品（例如批量匯入的資料）
+     * @return 有時為true
+     */
+    boolean existsByRankKeyIsNull();
+    
+    /**
+     * 以列鎖讀取作品，移動作品時鎖住自身與前後鄰居
+     * @param ids 作品ID
+     * @return 作品列表
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PortfolioItem p where p.id in :ids")
+    List<PortfolioItem> findAllByIdForUpdate(@Param("ids") Collection<String> ids);
+    
+    /**
+     * 只更新排序鍵
+     * 不遞增版本號，排序變更不會讓進行中的編輯發生版本衝突
+     * @param id 作品ID
+     * @param rankKey 新的排序鍵
+     * @return 更新的筆數
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PortfolioItem p set p.rankKey = :rankKey where p.id = :id")
+    int updateRankKey(@Param("id") String id, @Param("rankKey") String rankKey);
+    
+    /**
+     * 分頁查詢指定分類的作品
+     * 排序應為 date DESC, id，以命中 (category_key, date DESC, id) 索引
+     * @param categoryKey 分類鍵值
+     * @param pageable 分頁與排序參數
+     * @return 指定分類的作品分頁
+     */
+    Page<PortfolioItem> findByCategoryKey(String categoryKey, Pageable pageable);
+    
+    /**
+     * 統計各分類的作品數量
+     * @return 每列為 [分類鍵值, 數量]
+     */
+    @Query("select p.categoryKey, count(p) from PortfolioItem p group by p.categoryKey")
+    List<Object[]> countByCategory();
+    
+    /**
+     * 讀取所有作品的瀏覽數，供搜尋建議刷新排序
+     * @return 每列為 [作品ID, 瀏覽數]
+     */
+    @Query("select p.id, p.views from PortfolioItem p")
+    List<Object[]> findPopularity();
+    
+    /**
+     * 游標分頁查詢帶有任一指定標籤的作品
+     * 以 && 命中 tags 的 GIN 索引，依 (date, id) 由新到舊排序
+     * @param tags 以逗號分隔的標籤
+     * @param cursorDate 上一頁最後一筆的日期
+     * @param cursorId 上一頁最後一筆的ID
+     * @param limit 最多返回筆數
+     * @return 作品列表
+     */
+    @Query(value = "SELECT * FROM portfolio_items WHERE tags && string_to_array(:tags, ',') "
+        + "AND (date, id) < (:cursorDate, :cursorId) ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PortfolioItem> findByAnyTag(@Param("tags") String tags,
+                                @Param("cursorDate") LocalDateTime cursorDate,
+                                @Param("cursorId") String cursorId,
+                                @Param("limit") int limit);
+    
+    /**
+     * 游標分頁查詢帶有全部指定標籤的作品
+     * 以 @> 命中 tags 的 GIN 索引，依 (date, id) 由新到舊排序
+     * @param tags 以逗號分隔的標籤
+     * @param cursorDate 上一頁最後一筆的日期
+     * @param cursorId 上一頁最後一筆的ID
+     * @param limit 最多返回筆數
+     * @return 作品列表
+     */
+    @Query(value = "SELECT * FROM portfolio_items WHERE tags @> string_to_array(:tags, ',') "
+        + "AND (date, id) < (:cursorDate, :cursorId) ORDER BY date DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<PortfolioItem> findByAllTags(@Param("tags") String tags,
+                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                 @Param("cursorId") String cursorId,
+                                 @Param("limit") int limit);
+    
+    /**
+     * 統計各標籤的作品數量
+     * @return 每列為 [標籤, 數量]
+     */
+    @Query(value = "SELECT t.tag, count(*) FROM portfolio_items CROSS JOIN LATERAL unnest(tags) AS t(tag) GROUP BY t.tag",
+        nativeQuery = true)
+    List<Object[]> countByTag();
+    
+    /**
+     * 只查詢作品目前的版本號
+     * @param id 作品ID
+     * @return 版本號
+     */
+    @Query("select p.version from PortfolioItem p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
 }
-
-
@@ -1,10 +1,16 @@
 package com.solo.portfolio.repository;
 
 import com.solo.portfolio.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 使用者資料存儲庫介面
@@ -49,4 +55,29 @@ public interface UserRepository extends JpaRepository<User, String> {
      * @return 如果電子郵件已存在返回true，否則返回false
      */
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+    
+    /**
+     * 以唯讀游標依ID順序串流讀取使用者
+     * 設定 fetch size 讓驅動分批取回資料列，必須在交易中使用並於用畢後關閉
+     *
+     * @param after 起始ID（不含）
+     * @return 使用者串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u where u.id > :after order by u.id")
+    Stream<User> streamAllAfter(@Param("after") String after);
+
+    /**
+     * 依ID順序串流讀取全部使用者，供匯出使用
+     * @return 使用者串流
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from User u order by u.id")
+    Stream<User> streamAll();
+}
@@ -1,11 +1,15 @@
 package com.solo.portfolio.service;
 
 import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.UuidV7Generator;
 import com.solo.portfolio.repository.BlogPostRepository;
 import com.solo.portfolio.service.cache.BlogPostCacheService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -44,6 +48,24 @@ public class BlogPostService {
         return blogPost;
     }
     
+    /**
+     * 依ID批量獲取文章
+     * 以單次 MGET 讀取緩存，未命中的以單次查詢自資料庫讀取後以管線寫回緩存
+     * @param ids 文章ID列表
+     * @return 依請求順序排列的文章，格式不符或不存在的ID略過，重複的ID只返回一次
+     */
+    public List<BlogPost> getBlogPosts(List<String> ids) {
+        List<String> distinct = ids.stream().filter(UuidV7Generator::isValid).distinct().toList();
+        Map<String, BlogPost> found = new HashMap<>(blogPostCacheService.getCachedBlogPosts(distinct));
+        List<String> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            List<BlogPost> loaded = blogPostRepository.findAllById(missing);
+            loaded.forEach(post -> found.put(post.getId(), post));
+            blogPostCacheService.cacheBlogPosts(loaded);
+        }
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+    
     /**
      * 獲取精選博客文章列表
      * 優先從緩存中獲取，如果緩存中不存在則從數據庫獲取並緩存
@@ -0,0 +1,138 @@
+package com.solo.portfolio.service;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * BlurHash 模糊預覽編碼器
+ * 將圖片以少量餘弦分量近似，編碼成二、三十個字元的字串；
+ * 用戶端可在原圖載入前先解碼出模糊的佔位圖。
+ * 計算量與像素數成正比，呼叫端應先將圖片縮小至數十像素寬
+ */
+public final class BlurHash {
+
+    private static final String BASE83 =
+        "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    /**
+     * sRGB 8位元值對應的線性亮度，避免逐像素重複計算冪次
+     */
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double v = i / 255.0;
+            SRGB_TO_LINEAR[i] = v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+        }
+    }
+
+    private BlurHash() {
+    }
+
+    /**
+     * 編碼圖片
+     * @param image 圖片，建議先縮小至 32 像素寬左右
+     * @param componentsX 水平分量數（1 到 9）
+     * @param componentsY 垂直分量數（1 到 9）
+     * @return BlurHash 字串
+     * @throws IllegalArgumentException 分量數超出範圍時拋出
+     */
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash components must be between 1 and 9");
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[][] cosX = cosines(componentsX, width);
+        double[][] cosY = cosines(componentsY, height);
+        double[][] factors = new double[componentsX * componentsY][3];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = pixels[y * width + x];
+                double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xff];
+                double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xff];
+                double b = SRGB_TO_LINEAR[rgb & 0xff];
+                for (int j = 0; j < componentsY; j++) {
+                    for (int i = 0; i < componentsX; i++) {
+                        double basis = cosX[i][x] * cosY[j][y];
+                        double[] factor = factors[j * componentsX + i];
+                        factor[0] += basis * r;
+                        factor[1] += basis * g;
+                        factor[2] += basis * b;
+                    }
+                }
+            }
+        }
+        for (int k = 0; k < factors.length; k++) {
+            // 直流分量取平均，交流分量乘以 2
+            double scale = (k == 0 ? 1.0 : 2.0) / (width * height);
+            factors[k][0] *= scale;
+            factors[k][1] *= scale;
+            factors[k][2] *= scale;
+        }
+
+        StringBuilder hash = new StringBuilder();
+        appendBase83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maximumValue = 1;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double value : factors[k]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(value));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            appendBase83(hash, quantisedMaximum, 1);
+        } else {
+            appendBase83(hash, 0, 1);
+        }
+
+        double[] dc = factors[0];
+        appendBase83(hash, (linearToSrgb(dc[0]) << 16) + (linearToSrgb(dc[1]) << 8) + linearToSrgb(dc[2]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            double[] ac = factors[k];
+            int value = quantiseAc(ac[0], maximumValue) * 19 * 19
+                + quantiseAc(ac[1], maximumValue) * 19
+                + quantiseAc(ac[2], maximumValue);
+            appendBase83(hash, value, 2);
+        }
+        return hash.toString();
+    }
+
+    private static double[][] cosines(int components, int size) {
+        double[][] table = new double[components][size];
+        for (int c = 0; c < components; c++) {
+            for (int p = 0; p < size; p++) {
+                table[c][p] = Math.cos(Math.PI * c * p / size);
+            }
+        }
+        return table;
+    }
+
+    private static int quantiseAc(double value, double maximumValue) {
+        double normalized = value / maximumValue;
+        double curved = Math.copySign(Math.sqrt(Math.abs(normalized)), normalized);
+        return (int) Math.max(0, Math.min(18, Math.floor(curved * 9 + 9.5)));
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        if (v <= 0.0031308) {
+            return (int) (v * 12.92 * 255 + 0.5);
+        }
+        return (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void appendBase83(StringBuilder out, int value, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            int divisor = 1;
+            for (int k = 0; k < i; k++) {
+                divisor *= 83;
+            }
+            out.append(BASE83.charAt((value / divisor) % 83));
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.ImportJobResponse;
+import com.solo.portfolio.model.dto.ImportRowError;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.Comment;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import com.solo.portfolio.service.cache.CommentCacheService;
+import com.solo.portfolio.service.cache.FacetCacheService;
+import com.solo.portfolio.service.cache.PortfolioItemCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 批量匯入服務類
+ * 逐行解析 NDJSON 內容，每累積一批即以 JDBC 批次寫入，不會將整份內容載入記憶體。
+ * ID 已存在的資料列會略過；整批寫入失敗時改為逐列重試以找出實際失敗的資料列。
+ * 相關緩存與索引在匯入結束時統一失效一次，而非每列一次
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    public static final String TYPE_POSTS = "posts";
+    public static final String TYPE_PORTFOLIO = "portfolio";
+    public static final String TYPE_COMMENTS = "comments";
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /**
+     * 每批寫入的資料列數
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * 每個工作最多保留的逐列錯誤數
+     */
+    private static final int MAX_REPORTED_ERRORS = 200;
+
+    /**
+     * 已結束工作的保留時間
+     */
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
+    private static final String DEFAULT_AVATAR_URL = "/images/profile.jpg";
+
+
+    private static final String INSERT_POST_SQL =
+        "INSERT INTO blog_posts (id, image_url, is_locked, created_at, category_key, likes, comments_count, views, "
+            + "is_featured, title, title_zh, excerpt, excerpt_zh, content, content_zh, date, created_at_ts, tags) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String INSERT_PORTFOLIO_SQL =
+        "INSERT INTO portfolio_items (id, image_url, title, title_zh, category_key, views, is_featured, date, "
+            + "created_at, updated_at, tags) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String INSERT_COMMENT_SQL =
+        "INSERT INTO comments (id, post_id, user_id, username, avatar_url, text, parent_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final SuggestService suggestService;
+    private final FacetCacheService facetCacheService;
+    private final BlogPostCacheService blogPostCacheService;
+    private final PortfolioItemCacheService portfolioItemCacheService;
+    private final CommentCacheService commentCacheService;
+    private final ContentStatsService contentStatsService;
+    private final FeedService feedService;
+    private final ColumnTypeService columnTypeService;
+
+    /**
+     * 匯入工作進度，供另一個請求查詢
+     */
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 匯入 NDJSON 內容
+     * 在呼叫端執行緒中串流讀取請求內容，直到讀完為止
+     * @param type 內容類型：posts、portfolio 或 comments
+     * @param jobId 呼叫端指定的工作ID，可用於匯入期間查詢進度；為空時自動產生
+     * @param body NDJSON 內容，每行一筆 JSON 物件
+     * @return 匯入結果
+     */
+    public ImportJobResponse importNdjson(String type, String jobId, InputStream body) {
+        ImportTarget target = resolveTarget(type);
+        purgeFinishedJobs();
+
+        ImportJob job = new ImportJob(jobId == null || jobId.isBlank() ? UUID.randomUUID().toString() : jobId, type);
+        if (jobs.putIfAbsent(job.id, job) != null) {
+            throw new IllegalArgumentException("Import job already exists: " + job.id);
+        }
+
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                job.processed.incrementAndGet();
+                try {
+                    chunk.add(target.parse(lineNumber, line));
+                } catch (Exception e) {
+                    job.fail(lineNumber, null, rootMessage(e));
+                    continue;
+                }
+                if (chunk.size() >= CHUNK_SIZE) {
+                    flush(target, chunk, job);
+                    chunk.clear();
+                }
+            }
+            flush(target, chunk, job);
+            job.finish(STATUS_COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Bulk import {} of {} aborted after {} rows", job.id, type, job.processed.get(), e);
+            job.abort(rootMessage(e));
+        } finally {
+            if (job.inserted.get() > 0) {
+                invalidateCaches(target, job);
+            }
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 查詢匯入工作進度
+     * @param jobId 工作ID
+     * @return 匯入進度；工作不存在或已過期時為空
+     */
+    public Optional<ImportJobResponse> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toResponse);
+    }
+
+    /**
+     * 寫入一批資料列
+     * 先查出已存在的ID並略過，其餘以單一交易批次寫入；
+     * 批次失敗時整批回滾，改為逐列寫入並記錄各列錯誤
+     */
+    private void flush(ImportTarget target, List<PendingRow> chunk, ImportJob job) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existing = findExistingIds(target.table(), chunk);
+        Set<String> seen = new HashSet<>();
+        List<PendingRow> toInsert = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            if (existing.contains(row.id()) || !seen.add(row.id())) {
+                job.skipped.incrementAndGet();
+            } else {
+                toInsert.add(row);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object[]> args = toInsert.stream().map(PendingRow::args).toList();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(target.insertSql(), args));
+            toInsert.forEach(job::inserted);
+        } catch (DataAccessException e) {
+            log.warn("Bulk import {} batch failed, retrying {} rows individually: {}",
+                job.id, toInsert.size(), rootMessage(e));
+            for (PendingRow row : toInsert) {
+                try {
+                    if (jdbcTemplate.update(target.insertSql(), row.args()) > 0) {
+                        job.inserted(row);
+                    } else {
+                        job.skipped.incrementAndGet();
+                    }
+                } catch (DataAccessException rowError) {
+                    job.fail(row.line(), row.id(), rootMessage(rowError));
+                }
+            }
+        }
+    }
+
+    private Set<String> findExistingIds(String table, List<PendingRow> chunk) {
+        String idType = columnTypeService.columnType(table, "id");
+        boolean uuid = ColumnTypeService.UUID_TYPE.equals(idType);
+        // uuid 欄位無法比對格式不符的ID，這些列必定不存在，留待寫入時逐列記錄錯誤
+        String[] ids = chunk.stream().map(PendingRow::id)
+            .filter(id -> !uuid || UuidV7Generator.isValid(id))
+            .distinct().toArray(String[]::new);
+        if (ids.length == 0) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(jdbcTemplate.query("SELECT id FROM " + table + " WHERE id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf(idType, ids)),
+            (rs, rowNum) -> rs.getString(1)));
+    }
+
+    /**
+     * 匯入結束後統一失效相關緩存與索引
+     */
+    private void invalidateCaches(ImportTarget target, ImportJob job) {
+        try {
+            switch (target.type()) {
+                case TYPE_POSTS -> {
+                    blogPostCacheService.deleteLocalizedPostCache(null);
+                    // 匯入的文章可能插在任何位置，改變的相鄰關係不只限於新文章本身
+                    blogPostCacheService.deleteAllNeighborsCache();
+                    facetCacheService.evict(RedisCacheConstants.FACET_POSTS_CATEGORY);
+                    facetCacheService.evict(RedisCacheConstants.FACET_POSTS_TAG);
+                    contentStatsService.markDirty();
+                    feedService.markDirty();
+                    suggestService.rebuild();
+                }
+                case TYPE_PORTFOLIO -> {
+                    portfolioItemCacheService.deleteLocalizedItemCache(null);
+                    facetCacheService.evict(RedisCacheConstants.FACET_PORTFOLIO_CATEGORY);
+                    facetCacheService.evict(RedisCacheConstants.FACET_PORTFOLIO_TAG);
+                    contentStatsService.markDirty();
+                    feedService.markDirty();
+                    suggestService.rebuild();
+                }
+                case TYPE_COMMENTS -> job.affectedPostIds.forEach(commentCacheService::deletePostCommentsCache);
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to invalidate caches after bulk import {}", job.id, e);
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private ImportTarget resolveTarget(String type) {
+        return switch (type == null ? "" : type) {
+            case TYPE_POSTS -> new ImportTarget(TYPE_POSTS, "blog_posts", INSERT_POST_SQL, this::parsePost);
+            case TYPE_PORTFOLIO -> new ImportTarget(TYPE_PORTFOLIO, "portfolio_items", INSERT_PORTFOLIO_SQL, this::parsePortfolioItem);
+            case TYPE_COMMENTS -> new ImportTarget(TYPE_COMMENTS, "comments", INSERT_COMMENT_SQL, this::parseComment);
+            default -> throw new IllegalArgumentException("Unsupported import type: " + type);
+        };
+    }
+
+    /**
+     * 解析文章資料列，缺少的欄位套用與新建文章相同的預設值
+     */
+    private PendingRow parsePost(long line, String json) throws IOException {
+        BlogPost post = objectMapper.readValue(json, BlogPost.class);
+        String id = isBlank(post.getId()) ? UuidV7Generator.newId() : post.getId();
+        LocalDateTime now = LocalDateTime.now();
+        return new PendingRow(line, id, null, new Object[]{
+            id,
+            post.getImageUrl(),
+            post.getIsLocked() != null ? post.getIsLocked() : false,
+            post.getCreatedAt() != null ? post.getCreatedAt() : System.currentTimeMillis(),
+            post.getCategoryKey(),
+            post.getLikes() != null ? post.getLikes() : 0,
+            post.getCommentsCount() != null ? post.getCommentsCount() : 0,
+            post.getViews() != null ? post.getViews() : 0,
+            post.getIsFeatured() != null ? post.getIsFeatured() : false,
+            post.getTitle(),
+            post.getTitleZh(),
+            post.getExcerpt(),
+            post.getExcerptZh(),
+            post.getContent(),
+            post.getContentZh(),
+            post.getDate() != null ? post.getDate() : now,
+            post.getCreatedAtTs() != null ? post.getCreatedAtTs() : now,
+            textArray(post.getTags())
+        });
+    }
+
+    /**
+     * 解析作品資料列
+     */
+    private PendingRow parsePortfolioItem(long line, String json) throws IOException {
+        PortfolioItem item = objectMapper.readValue(json, PortfolioItem.class);
+        String id = isBlank(item.getId()) ? UuidV7Generator.newId() : item.getId();
+        LocalDateTime now = LocalDateTime.now();
+        return new PendingRow(line, id, null, new Object[]{
+            id,
+            item.getImageUrl(),
+            item.getTitle(),
+            item.getTitleZh(),
+            item.getCategoryKey(),
+            item.getViews() != null ? item.getViews() : 0,
+            item.getIsFeatured() != null ? item.getIsFeatured() : false,
+            item.getDate() != null ? item.getDate() : now,
+            item.getCreatedAt() != null ? item.getCreatedAt() : now,
+            item.getUpdatedAt() != null ? item.getUpdatedAt() : now,
+            textArray(item.getTags())
+        });
+    }
+
+    /**
+     * 解析評論資料列
+     * 文章與使用者必須已存在，否則由外鍵約束回報該列錯誤
+     */
+    private PendingRow parseComment(long line, String json) throws IOException {
+        Comment comment = objectMapper.readValue(json, Comment.class);
+        if (isBlank(comment.getPostId()) || isBlank(comment.getUserId())
+            || isBlank(comment.getUsername()) || isBlank(comment.getText())) {
+            throw new IllegalArgumentException("postId, userId, username and text are required");
+        }
+        String id = isBlank(comment.getId()) ? UuidV7Generator.newId() : comment.getId();
+        LocalDateTime createdAt = comment.getCreatedAt() != null ? comment.getCreatedAt() : LocalDateTime.now();
+        return new PendingRow(line, id, comment.getPostId(), new Object[]{
+            id,
+            comment.getPostId(),
+            comment.getUserId(),
+            comment.getUsername(),
+            isBlank(comment.getAvatarUrl()) ? DEFAULT_AVATAR_URL : comment.getAvatarUrl(),
+            comment.getText(),
+            comment.getParentId(),
+            createdAt,
+            comment.getUpdatedAt() != null ? comment.getUpdatedAt() : createdAt
+        });
+    }
+
+    /**
+     * 將標籤以與 API 相同的規則正規化後綁定為 text[] 參數，
+     * 缺少標籤時寫入空陣列以符合欄位的 NOT NULL 約束
+     */
+    private static SqlTypeValue textArray(List<String> tags) {
+        String[] values = ContentService.normalizeTags(tags).toArray(String[]::new);
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection con, int sqlType, String typeName) throws SQLException {
+                return con.createArrayOf("text", values);
+            }
+        };
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+        return message.length() > 300 ? message.substring(0, 300) : message;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        PendingRow parse(long line, String json) throws IOException;
+    }
+
+    /**
+     * 匯入目標：資料表、寫入語句與資料列解析方式
+     */
+    private record ImportTarget(String type, String table, String insertSql, RowParser parser) {
+        PendingRow parse(long line, String json) throws IOException {
+            return parser.parse(line, json);
+        }
+    }
+
+    /**
+     * 待寫入的資料列
+     * @param line 行號
+     * @param id 資料列ID
+     * @param postId 評論所屬文章ID，僅評論使用
+     * @param args 寫入語句的參數
+     */
+    private record PendingRow(long line, String id, String postId, Object[] args) {
+    }
+
+    /**
+     * 匯入工作的執行狀態
+     * 計數可能在匯入期間被另一個請求讀取，因此使用原子型別
+     */
+    private static class ImportJob {
+        private final String id;
+        private final String type;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private final Set<String> affectedPostIds = ConcurrentHashMap.newKeySet();
+        private volatile String status = STATUS_RUNNING;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        void inserted(PendingRow row) {
+            inserted.incrementAndGet();
+            if (row.postId() != null) {
+                affectedPostIds.add(row.postId());
+            }
+        }
+
+        void fail(long line, String rowId, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ImportRowError(line, rowId, message));
+                }
+            }
+        }
+
+        /**
+         * 讀取內容中斷時結束工作，錯誤行號記為0
+         */
+        void abort(String message) {
+            synchronized (errors) {
+                errors.add(new ImportRowError(0, null, "Import aborted: " + message));
+            }
+            finish(STATUS_FAILED);
+        }
+
+        void finish(String finalStatus) {
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+        }
+
+        ImportJobResponse toResponse() {
+            ImportJobResponse response = new ImportJobResponse();
+            response.setJobId(id);
+            response.setType(type);
+            response.setStatus(status);
+            response.setProcessed(processed.get());
+            response.setInserted(inserted.get());
+            response.setSkipped(skipped.get());
+            response.setFailed(failed.get());
+            synchronized (errors) {
+                response.setErrors(new ArrayList<>(errors));
+            }
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            return response;
+        }
+    }
+}
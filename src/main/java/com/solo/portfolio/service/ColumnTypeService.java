@@ -0,0 +1,43 @@
+package com.solo.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 資料表欄位型別查詢服務類
+ * ID 欄位遷移至 uuid 前後型別不同，以陣列綁定參數時必須使用實際的元素型別；
+ * 每個欄位只查詢一次 information_schema
+ */
+@Service
+@RequiredArgsConstructor
+public class ColumnTypeService {
+
+    public static final String UUID_TYPE = "uuid";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 已查詢的欄位型別：資料表.欄位 → 型別名稱
+     */
+    private final Map<String, String> columnTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 查詢欄位的型別名稱（如 uuid、varchar）
+     * @param table 資料表名稱
+     * @param column 欄位名稱
+     * @return 型別名稱，查無欄位時為 varchar
+     */
+    public String columnType(String table, String column) {
+        return columnTypes.computeIfAbsent(table + "." + column, key -> {
+            String type = jdbcTemplate.queryForObject(
+                "SELECT udt_name FROM information_schema.columns "
+                    + "WHERE table_schema = 'public' AND table_name = ? AND column_name = ?",
+                String.class, table, column);
+            return type == null ? "varchar" : type;
+        });
+    }
+}
@@ -4,16 +4,22 @@ import com.solo.portfolio.model.dto.CommentRequest;
 import com.solo.portfolio.model.dto.CommentResponse;
 import com.solo.portfolio.model.entity.Comment;
 import com.solo.portfolio.model.entity.User;
+import com.solo.portfolio.model.entity.UuidV7Generator;
 import com.solo.portfolio.repository.CommentRepository;
 import com.solo.portfolio.repository.UserRepository;
 import com.solo.portfolio.service.cache.CommentCacheService;
+import com.solo.portfolio.service.cache.UserCacheService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -25,13 +31,16 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final CommentCacheService commentCacheService;
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     
     public CommentService(CommentRepository commentRepository,
                          CommentCacheService commentCacheService,
-                         UserRepository userRepository) {
+                         UserRepository userRepository,
+                         UserCacheService userCacheService) {
         this.commentRepository = commentRepository;
         this.commentCacheService = commentCacheService;
         this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
     }
     
     // 移除重複的 userRepository 聲明
@@ -59,6 +68,62 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 批量獲取多篇文章的評論
+     * 以單次 MGET 讀取緩存，未命中的文章以單次查詢讀取後以管線寫回緩存
+     * @param postIds 文章ID列表
+     * @return 文章ID → 評論列表（依建立時間排序），順序與輸入相同，格式不符的ID略過，重複的ID只返回一次
+     */
+    public Map<String, List<CommentResponse>> getCommentsByPosts(List<String> postIds) {
+        List<String> distinct = postIds.stream().filter(UuidV7Generator::isValid).distinct().toList();
+        Map<String, List<Comment>> found = new HashMap<>(commentCacheService.getCachedPostCommentsBatch(distinct));
+        List<String> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<String, List<Comment>> loaded = new HashMap<>();
+            // 沒有評論的文章也緩存空列表，避免重複查詢
+            missing.forEach(id -> loaded.put(id, new ArrayList<>()));
+            commentRepository.findByPostIdInOrderByCreatedAtAsc(missing)
+                .forEach(comment -> loaded.get(comment.getPostId()).add(comment));
+            found.putAll(loaded);
+            commentCacheService.cachePostCommentsBatch(loaded);
+        }
+        Map<String, List<CommentResponse>> result = new LinkedHashMap<>();
+        distinct.forEach(id -> result.put(id, found.get(id).stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList())));
+        return result;
+    }
+
+    /**
+     * 批量獲取評論作者
+     * 先以評論上的使用者名稱從用戶緩存批量讀取（ID相符才採用），
+     * 其餘以單次查詢依ID讀取後寫回緩存
+     * @param comments 評論列表
+     * @return 使用者ID → 使用者，已不存在的使用者略過
+     */
+    public Map<String, User> getAuthors(List<CommentResponse> comments) {
+        Map<String, String> usernames = new LinkedHashMap<>();
+        comments.stream()
+            .filter(comment -> comment.getUserId() != null)
+            .forEach(comment -> usernames.putIfAbsent(comment.getUserId(), comment.getUsername()));
+
+        Map<String, User> found = new HashMap<>();
+        List<String> names = usernames.values().stream().filter(Objects::nonNull).distinct().toList();
+        // 使用者可能已改名，緩存中的同名使用者必須是同一人
+        userCacheService.getAll(names).values().stream()
+            .filter(user -> usernames.containsKey(user.getId()))
+            .forEach(user -> found.put(user.getId(), user));
+
+        List<String> missing = usernames.keySet().stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            userRepository.findAllById(missing).forEach(user -> {
+                found.put(user.getId(), user);
+                userCacheService.put(user);
+            });
+        }
+        return found;
+    }
+
     /**
      * 新增評論
      * @param username 使用者名稱
@@ -71,7 +136,7 @@ public class CommentService {
                 .orElseThrow(() -> new RuntimeException("使用者不存在"));
 
         Comment c = new Comment();
-        c.setId(UUID.randomUUID().toString());
+        c.setId(UuidV7Generator.newId());
         c.setPostId(req.getPostId());
         c.setUserId(user.getId());
         c.setUsername(user.getUsername());
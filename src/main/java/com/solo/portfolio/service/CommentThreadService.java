@@ -0,0 +1,232 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.model.dto.CommentNodeResponse;
+import com.solo.portfolio.model.dto.CursorPage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 樹狀評論服務類
+ * 頂層評論以 (created_at, id) 游標分頁，每個討論串內嵌最早的若干則回覆，
+ * 其餘回覆以討論串游標另行載入。回覆以遞迴CTE沿 (post_id, parent_id) 索引展開，
+ * 結果依建立時間排序，父評論必定排在子評論之前，單次走訪即可組成樹狀結構
+ */
+@Service
+public class CommentThreadService {
+
+    private static final String COLUMNS = "id, post_id, user_id, username, avatar_url, text, parent_id, created_at";
+
+    /**
+     * 一頁頂層評論
+     */
+    private static final String ROOTS_SQL =
+        "SELECT " + COLUMNS + " FROM comments "
+            + "WHERE post_id = ? AND parent_id IS NULL AND (created_at, id) > (?, ?) "
+            + "ORDER BY created_at, id LIMIT ?";
+
+    /**
+     * 多個討論串的回覆：展開所有後代並記錄所屬討論串，
+     * 每個討論串只取最早的若干則，同時以視窗函式計算回覆總數
+     */
+    private static final String THREAD_REPLIES_SQL =
+        "WITH RECURSIVE thread AS ("
+            + " SELECT " + COLUMNS + ", parent_id AS root_id FROM comments WHERE post_id = ? AND parent_id = ANY(?)"
+            + " UNION ALL"
+            + " SELECT c.id, c.post_id, c.user_id, c.username, c.avatar_url, c.text, c.parent_id, c.created_at, t.root_id"
+            + " FROM comments c JOIN thread t ON c.post_id = t.post_id AND c.parent_id = t.id"
+            + ") SELECT " + COLUMNS + ", root_id, total FROM ("
+            + " SELECT thread.*, row_number() OVER (PARTITION BY root_id ORDER BY created_at, id) AS rn,"
+            + " count(*) OVER (PARTITION BY root_id) AS total FROM thread"
+            + ") ranked WHERE rn <= ? ORDER BY created_at, id";
+
+    /**
+     * 單一評論之下、游標之後的回覆
+     */
+    private static final String REPLIES_AFTER_SQL =
+        "WITH RECURSIVE thread AS ("
+            + " SELECT " + COLUMNS + " FROM comments WHERE parent_id = ?"
+            + " UNION ALL"
+            + " SELECT c.id, c.post_id, c.user_id, c.username, c.avatar_url, c.text, c.parent_id, c.created_at"
+            + " FROM comments c JOIN thread t ON c.post_id = t.post_id AND c.parent_id = t.id"
+            + ") SELECT " + COLUMNS + " FROM thread WHERE (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT ?";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) ->
+        new Row(toNode(rs), rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ColumnTypeService columnTypeService;
+
+    public CommentThreadService(JdbcTemplate jdbcTemplate, ColumnTypeService columnTypeService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.columnTypeService = columnTypeService;
+    }
+
+    /**
+     * 分頁獲取文章的討論串
+     * @param postId 文章ID
+     * @param cursor 上一頁返回的游標，第一頁為null
+     * @param size 每頁頂層評論數
+     * @param inlineReplies 每個討論串內嵌的回覆數
+     * @return 依建立時間排序的頂層評論，各自帶有巢狀回覆
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public CursorPage<CommentNodeResponse> getThreads(String postId, String cursor, int size, int inlineReplies) {
+        KeysetCursor after = KeysetCursor.decodeAscending(cursor);
+        List<Row> roots = jdbcTemplate.query(ROOTS_SQL, ROW_MAPPER,
+            postId, Timestamp.valueOf(after.date()), after.id(), size + 1);
+        boolean hasMore = roots.size() > size;
+        if (hasMore) {
+            roots = roots.subList(0, size);
+        }
+        if (roots.isEmpty()) {
+            return new CursorPage<>(new ArrayList<>(), null, false);
+        }
+
+        Map<String, CommentNodeResponse> nodes = new HashMap<>();
+        List<CommentNodeResponse> items = new ArrayList<>();
+        for (Row root : roots) {
+            root.node().setReplyCount(0);
+            nodes.put(root.node().getId(), root.node());
+            items.add(root.node());
+        }
+
+        if (inlineReplies > 0) {
+            String[] rootIds = nodes.keySet().toArray(String[]::new);
+            Map<String, Row> lastInlined = new HashMap<>();
+            jdbcTemplate.query(THREAD_REPLIES_SQL, ps -> {
+                ps.setString(1, postId);
+                ps.setArray(2, ps.getConnection().createArrayOf(parentIdType(), rootIds));
+                ps.setInt(3, inlineReplies);
+            }, rs -> {
+                Row reply = ROW_MAPPER.mapRow(rs, 0);
+                CommentNodeResponse root = nodes.get(rs.getString("root_id"));
+                root.setReplyCount(rs.getInt("total"));
+                attach(nodes, reply.node());
+                lastInlined.put(root.getId(), reply);
+            });
+            lastInlined.forEach((rootId, last) -> {
+                CommentNodeResponse root = nodes.get(rootId);
+                if (root.getReplyCount() > inlineReplies) {
+                    root.setRepliesCursor(new KeysetCursor(last.createdAt(), last.node().getId()).encode());
+                }
+            });
+        } else {
+            // 不內嵌回覆時仍需回覆總數，讓用戶端顯示「載入更多」
+            countReplies(postId, nodes);
+        }
+
+        Row last = roots.get(roots.size() - 1);
+        String nextCursor = hasMore ? new KeysetCursor(last.createdAt(), last.node().getId()).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * 載入評論之下的更多回覆
+     * 返回所有層級中建立時間在游標之後的回覆；父評論在同一頁時巢狀排列，
+     * 否則列於頂層，由用戶端依 parentId 接回先前載入的評論
+     * @param commentId 評論ID，通常為討論串的頂層評論
+     * @param cursor 討論串游標或上一頁返回的游標，為null時從第一則回覆開始
+     * @param size 每頁回覆數
+     * @return 依建立時間排序的回覆
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public CursorPage<CommentNodeResponse> getReplies(String commentId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decodeAscending(cursor);
+        List<Row> rows = jdbcTemplate.query(REPLIES_AFTER_SQL, ROW_MAPPER,
+            commentId, Timestamp.valueOf(after.date()), after.id(), size + 1);
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+
+        Map<String, CommentNodeResponse> nodes = new HashMap<>();
+        List<CommentNodeResponse> items = new ArrayList<>();
+        for (Row row : rows) {
+            if (!attach(nodes, row.node())) {
+                items.add(row.node());
+            }
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Row last = rows.get(rows.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.node().getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * parent_id 欄位的實際型別，遷移至 uuid 前為 varchar，陣列參數須使用相同的元素型別
+     */
+    private String parentIdType() {
+        return columnTypeService.columnType("comments", "parent_id");
+    }
+
+    /**
+     * 將節點接到已出現的父節點之下並登記
+     * 資料依建立時間排序，父節點必定先出現
+     * @return 找到父節點時為true
+     */
+    private static boolean attach(Map<String, CommentNodeResponse> nodes, CommentNodeResponse node) {
+        nodes.put(node.getId(), node);
+        CommentNodeResponse parent = node.getParentId() == null ? null : nodes.get(node.getParentId());
+        if (parent == null) {
+            return false;
+        }
+        parent.getReplies().add(node);
+        return true;
+    }
+
+    /**
+     * 只計算各討論串的回覆總數
+     */
+    private void countReplies(String postId, Map<String, CommentNodeResponse> roots) {
+        String[] rootIds = roots.keySet().toArray(String[]::new);
+        jdbcTemplate.query("WITH RECURSIVE thread AS ("
+                + " SELECT id, post_id, parent_id AS root_id FROM comments WHERE post_id = ? AND parent_id = ANY(?)"
+                + " UNION ALL"
+                + " SELECT c.id, c.post_id, t.root_id FROM comments c JOIN thread t ON c.post_id = t.post_id AND c.parent_id = t.id"
+                + ") SELECT root_id, count(*) FROM thread GROUP BY root_id",
+            ps -> {
+                ps.setString(1, postId);
+                ps.setArray(2, ps.getConnection().createArrayOf(parentIdType(), rootIds));
+            }, rs -> {
+                CommentNodeResponse root = roots.get(rs.getString(1));
+                root.setReplyCount(rs.getInt(2));
+                if (root.getReplyCount() > 0) {
+                    root.setRepliesCursor(KeysetCursor.START.encode());
+                }
+            });
+    }
+
+    private static CommentNodeResponse toNode(ResultSet rs) throws SQLException {
+        CommentNodeResponse node = new CommentNodeResponse();
+        node.setId(rs.getString("id"));
+        node.setPostId(rs.getString("post_id"));
+        node.setUserId(rs.getString("user_id"));
+        node.setUsername(rs.getString("username"));
+        node.setAvatarUrl(rs.getString("avatar_url"));
+        node.setText(rs.getString("text"));
+        node.setParentId(rs.getString("parent_id"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        node.setDate(createdAt == null ? null : createdAt.toLocalDateTime().atOffset(ZoneOffset.UTC).toString());
+        return node;
+    }
+
+    /**
+     * 查詢結果列與其排序鍵
+     */
+    private record Row(CommentNodeResponse node, LocalDateTime createdAt) {
+    }
+}
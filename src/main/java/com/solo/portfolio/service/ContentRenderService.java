@@ -0,0 +1,263 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.model.dto.RenderedPostResponse;
+import com.solo.portfolio.model.dto.TocEntry;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.BlogPostRender;
+import com.solo.portfolio.model.entity.RenderStatus;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.repository.BlogPostRenderRepository;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 文章預先渲染服務類
+ * 在文章建立或更新後，於背景執行緒將 content/contentZh 渲染為已清理的HTML，
+ * 產生內容摘要，計算字數、閱讀時間與目錄，並連同狀態旗標一併儲存與緩存。
+ * 渲染工作每次編輯只做一次，而非每次瀏覽都做。
+ * 產生的摘要只存於渲染結果，作者未填寫摘要時於讀取端替代，不會寫回文章本身
+ */
+@Slf4j
+@Service
+public class ContentRenderService {
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostRenderRepository blogPostRenderRepository;
+    private final BlogPostCacheService blogPostCacheService;
+    private final FeedService feedService;
+    private final MarkdownRenderer markdownRenderer;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor contentTaskExecutor;
+
+    public ContentRenderService(BlogPostRepository blogPostRepository,
+                                BlogPostRenderRepository blogPostRenderRepository,
+                                BlogPostCacheService blogPostCacheService,
+                                FeedService feedService,
+                                MarkdownRenderer markdownRenderer,
+                                ObjectMapper objectMapper,
+                                @Qualifier(AsyncConfig.CONTENT_TASK_EXECUTOR) TaskExecutor contentTaskExecutor) {
+        this.blogPostRepository = blogPostRepository;
+        this.blogPostRenderRepository = blogPostRenderRepository;
+        this.blogPostCacheService = blogPostCacheService;
+        this.feedService = feedService;
+        this.markdownRenderer = markdownRenderer;
+        this.objectMapper = objectMapper;
+        this.contentTaskExecutor = contentTaskExecutor;
+    }
+
+    /**
+     * 將文章標記為待渲染
+     * 在請求執行緒呼叫，只寫入一筆狀態
+     * @param postId 文章ID
+     */
+    public void markPending(String postId) {
+        blogPostRenderRepository.markPending(postId);
+        blogPostCacheService.deleteRenderCache(postId);
+    }
+
+    /**
+     * 將渲染工作排入背景執行緒池
+     * @param postId 文章ID
+     */
+    public void renderAsync(String postId) {
+        contentTaskExecutor.execute(() -> render(postId));
+    }
+
+    /**
+     * 渲染文章並儲存結果
+     * 來源內容未變且已完成渲染時直接略過。渲染紀錄以樂觀鎖寫入，
+     * 期間文章再次被標記為待渲染時版本號已遞增，本次結果放棄寫回，交由較新的渲染工作處理
+     * @param postId 文章ID
+     */
+    public void render(String postId) {
+        BlogPost post = blogPostRepository.findById(postId).orElse(null);
+        if (post == null) {
+            return;
+        }
+        String hash = sourceHash(post);
+        BlogPostRender render = blogPostRenderRepository.findById(postId).orElse(null);
+        if (render == null) {
+            blogPostRenderRepository.markPending(postId);
+            render = blogPostRenderRepository.findById(postId).orElse(null);
+            if (render == null) {
+                return;
+            }
+        }
+        if (render.getStatus() == RenderStatus.READY && hash.equals(render.getSourceHash())) {
+            return;
+        }
+
+        try {
+            render.setStatus(RenderStatus.PROCESSING);
+            render = blogPostRenderRepository.save(render);
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Render of blog post {} superseded before it started", postId);
+            return;
+        }
+        try {
+            MarkdownRenderer.Result en = markdownRenderer.render(post.getContent());
+            MarkdownRenderer.Result zh = markdownRenderer.render(post.getContentZh());
+
+            // 渲染期間文章可能又被編輯，此時放棄結果，交由較新的渲染工作處理
+            BlogPost latest = blogPostRepository.findById(postId).orElse(null);
+            if (latest == null || !hash.equals(sourceHash(latest))) {
+                return;
+            }
+
+            render.setContentHtml(en.html());
+            render.setContentZhHtml(zh.html());
+            render.setToc(objectMapper.writeValueAsString(en.toc()));
+            render.setTocZh(objectMapper.writeValueAsString(zh.toc()));
+            render.setWordCount(en.wordCount());
+            render.setWordCountZh(zh.wordCount());
+            render.setReadingMinutes(en.readingMinutes());
+            render.setReadingMinutesZh(zh.readingMinutes());
+            render.setExcerpt(en.excerpt());
+            render.setExcerptZh(zh.excerpt());
+            render.setSourceHash(hash);
+            render.setError(null);
+            render.setRenderedAt(LocalDateTime.now());
+            render.setStatus(RenderStatus.READY);
+            blogPostRenderRepository.save(render);
+
+            blogPostCacheService.deleteRenderCache(postId);
+            blogPostCacheService.deleteLocalizedPostCache(postId);
+            // 訂閱源以產生的摘要替代空白摘要，需重新產生
+            if (isBlank(latest.getExcerpt()) || isBlank(latest.getExcerptZh())) {
+                feedService.markDirty();
+            }
+        } catch (OptimisticLockingFailureException e) {
+            log.debug("Render of blog post {} superseded by a newer edit", postId);
+        } catch (Exception e) {
+            log.error("Failed to render blog post {}", postId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            render.setError(message.length() > 500 ? message.substring(0, 500) : message);
+            render.setStatus(RenderStatus.FAILED);
+            try {
+                blogPostRenderRepository.save(render);
+            } catch (OptimisticLockingFailureException superseded) {
+                log.debug("Render of blog post {} superseded by a newer edit", postId);
+            }
+            blogPostCacheService.deleteRenderCache(postId);
+        }
+    }
+
+    /**
+     * 獲取文章預先渲染結果
+     * 優先從緩存中獲取；尚無渲染紀錄的舊文章會在此時排入背景渲染
+     * @param postId 文章ID
+     * @return 渲染結果；文章不存在時為空
+     */
+    public Optional<RenderedPostResponse> getRendered(String postId) {
+        if (!UuidV7Generator.isValid(postId)) {
+            return Optional.empty();
+        }
+        Optional<RenderedPostResponse> cached = blogPostCacheService.getCachedRender(postId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<BlogPostRender> render = blogPostRenderRepository.findById(postId);
+        if (render.isEmpty()) {
+            if (!blogPostRepository.existsById(postId)) {
+                return Optional.empty();
+            }
+            markPending(postId);
+            renderAsync(postId);
+            RenderedPostResponse pending = new RenderedPostResponse();
+            pending.setPostId(postId);
+            pending.setStatus(RenderStatus.PENDING.name());
+            return Optional.of(pending);
+        }
+
+        RenderedPostResponse response = toResponse(render.get());
+        if (render.get().getStatus() == RenderStatus.READY) {
+            blogPostCacheService.cacheRender(response);
+        }
+        return Optional.of(response);
+    }
+
+    /**
+     * 批量獲取渲染時產生的摘要
+     * 供列表、訂閱源與GraphQL在作者未填寫摘要時替代使用，只讀取摘要欄位
+     * @param postIds 文章ID集合
+     * @return 文章ID對應產生的摘要；尚未渲染的文章不在結果中
+     */
+    public Map<String, GeneratedExcerpt> getGeneratedExcerpts(Collection<String> postIds) {
+        Map<String, GeneratedExcerpt> excerpts = new HashMap<>();
+        List<String> ids = postIds.stream().filter(UuidV7Generator::isValid).distinct().toList();
+        if (ids.isEmpty()) {
+            return excerpts;
+        }
+        for (Object[] row : blogPostRenderRepository.findExcerpts(ids)) {
+            excerpts.put(row[0].toString(), new GeneratedExcerpt((String) row[1], (String) row[2]));
+        }
+        return excerpts;
+    }
+
+    /**
+     * 渲染時由內容產生的英文與中文摘要
+     */
+    public record GeneratedExcerpt(String excerpt, String excerptZh) {
+    }
+
+    private RenderedPostResponse toResponse(BlogPostRender render) {
+        RenderedPostResponse response = new RenderedPostResponse();
+        response.setPostId(render.getPostId());
+        response.setStatus(render.getStatus().name());
+        response.setContentHtml(render.getContentHtml());
+        response.setContentZhHtml(render.getContentZhHtml());
+        response.setToc(parseToc(render.getToc()));
+        response.setTocZh(parseToc(render.getTocZh()));
+        response.setWordCount(render.getWordCount());
+        response.setWordCountZh(render.getWordCountZh());
+        response.setReadingMinutes(render.getReadingMinutes());
+        response.setReadingMinutesZh(render.getReadingMinutesZh());
+        response.setExcerpt(render.getExcerpt());
+        response.setExcerptZh(render.getExcerptZh());
+        response.setRenderedAt(render.getRenderedAt());
+        return response;
+    }
+
+    private List<TocEntry> parseToc(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<ArrayList<TocEntry>>() {});
+        } catch (Exception e) {
+            log.warn("Invalid table of contents JSON", e);
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 計算渲染來源的雜湊值
+     */
+    private static String sourceHash(BlogPost post) {
+        String source = String.valueOf(post.getContent()) + '\u0000' + post.getContentZh();
+        return DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
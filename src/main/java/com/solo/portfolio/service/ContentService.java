@@ -1,17 +1,41 @@
 package com.solo.portfolio.service;
 
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.BlogPostPatchRequest;
 import com.solo.portfolio.model.dto.BlogPostRequest;
+import com.solo.portfolio.model.dto.CategoryCountsResponse;
+import com.solo.portfolio.model.dto.CursorPage;
+import com.solo.portfolio.model.dto.PortfolioItemPatchRequest;
 import com.solo.portfolio.model.dto.PortfolioItemRequest;
+import com.solo.portfolio.model.dto.TagCountsResponse;
 import com.solo.portfolio.model.entity.BlogPost;
 import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.UuidV7Generator;
 import com.solo.portfolio.repository.BlogPostRepository;
 import com.solo.portfolio.repository.PortfolioItemRepository;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import com.solo.portfolio.service.cache.FacetCacheService;
+import com.solo.portfolio.service.cache.PortfolioItemCacheService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * 內容服務類
@@ -30,6 +54,98 @@ public class ContentService {
      */
     private final PortfolioItemRepository portfolioItemRepository;
 
+    /**
+     * 標題自動完成服務
+     * 內容異動時同步更新前綴索引
+     */
+    private final SuggestService suggestService;
+
+    /**
+     * 分面統計緩存服務
+     * 維護各分類的內容數量
+     */
+    private final FacetCacheService facetCacheService;
+
+    /**
+     * 文章緩存服務
+     */
+    private final BlogPostCacheService blogPostCacheService;
+
+    /**
+     * 作品集緩存服務
+     */
+    private final PortfolioItemCacheService portfolioItemCacheService;
+
+    /**
+     * 文章預先渲染服務
+     * 內容變更時排入背景渲染
+     */
+    private final ContentRenderService contentRenderService;
+
+    /**
+     * 文章按讚服務
+     */
+    private final LikeService likeService;
+
+    /**
+     * 相關內容推薦服務
+     * 內容變更時只重算受影響的文章
+     */
+    private final RelatedContentService relatedContentService;
+
+    /**
+     * 上一篇／下一篇文章服務
+     * 相鄰位置變動時清除緩存
+     */
+    private final PostNeighborService postNeighborService;
+
+    /**
+     * 內容彙總統計服務
+     * 影響統計的寫入後標記物化視圖待刷新
+     */
+    private final ContentStatsService contentStatsService;
+
+    /**
+     * 文章修訂歷史服務
+     * 每次儲存後於背景記錄版本
+     */
+    private final PostRevisionService postRevisionService;
+
+    /**
+     * 作品手動排序服務
+     * 新作品排在最前面
+     */
+    private final PortfolioOrderService portfolioOrderService;
+
+    /**
+     * 訂閱與網站地圖服務
+     * 內容異動後標記文件待重新產生
+     */
+    private final FeedService feedService;
+
+    /**
+     * 分類分頁的排序，對應 (category_key, date DESC, id) 索引
+     */
+    private static final Sort CATEGORY_PAGE_SORT = Sort.by(Sort.Order.desc("date"), Sort.Order.asc("id"));
+
+    /**
+     * 交易模板
+     * 部分更新在交易內載入、比對版本並只寫回變更的欄位
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 標籤查詢的比對方式：帶有任一標籤或全部標籤
+     */
+    public static final String TAG_MATCH_ANY = "any";
+    public static final String TAG_MATCH_ALL = "all";
+
+    /**
+     * 每筆內容最多的標籤數與單一標籤的最大長度
+     */
+    private static final int MAX_TAGS = 20;
+    private static final int MAX_TAG_LENGTH = 50;
+
     /**
      * 部落格文章相關方法
      */
@@ -49,7 +165,7 @@ public class ContentService {
      */
     public BlogPost createPost(BlogPostRequest request) {
         BlogPost post = new BlogPost();
-        post.setId(UUID.randomUUID().toString());
+        post.setId(UuidV7Generator.newId());
         post.setImageUrl(request.getImageUrl());
         post.setIsLocked(request.getIsLocked() != null ? request.getIsLocked() : false);
         post.setCategoryKey(request.getCategoryKey());
@@ -60,13 +176,22 @@ public class ContentService {
         post.setExcerptZh(request.getExcerptZh());
         post.setContent(request.getContent());
         post.setContentZh(request.getContentZh());
+        post.setTags(normalizeTags(request.getTags()));
         post.setLikes(0);
         post.setCommentsCount(0);
         post.setViews(0);
         post.setDate(LocalDateTime.now());
         post.setCreatedAt(System.currentTimeMillis());
+        if (Boolean.TRUE.equals(request.getClearPublishAt())) {
+            post.setPublishAt(null);
+        } else if (request.getPublishAt() != null) {
+            post.setPublishAt(request.getPublishAt());
+        }
+        applySchedule(post);
         
-        return blogPostRepository.save(post);
+        BlogPost saved = blogPostRepository.save(post);
+        afterPostSaved(null, saved);
+        return saved;
     }
 
     /**
@@ -78,6 +203,7 @@ public class ContentService {
     public BlogPost updatePost(String id, BlogPostRequest request) {
         BlogPost post = blogPostRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Blog post not found"));
+        BlogPost previous = snapshot(post);
         
         post.setImageUrl(request.getImageUrl());
         post.setIsLocked(request.getIsLocked() != null ? request.getIsLocked() : post.getIsLocked());
@@ -89,12 +215,130 @@ public class ContentService {
         post.setExcerptZh(request.getExcerptZh());
         post.setContent(request.getContent());
         post.setContentZh(request.getContentZh());
+        if (request.getTags() != null) {
+            post.setTags(normalizeTags(request.getTags()));
+        }
+        if (Boolean.TRUE.equals(request.getClearPublishAt())) {
+            post.setPublishAt(null);
+        } else if (request.getPublishAt() != null) {
+            post.setPublishAt(request.getPublishAt());
+        }
+        applySchedule(post);
         
-        return blogPostRepository.save(post);
+        BlogPost saved = blogPostRepository.save(post);
+        afterPostSaved(previous, saved);
+        return saved;
+    }
+
+    /**
+     * 部分更新部落格文章
+     * 只套用請求中有帶值的欄位；實體標記 @DynamicUpdate，UPDATE 只包含實際變更的欄位與版本號。
+     * 版本號與讀取時不一致，或提交時被其他請求搶先更新，皆拋出版本衝突
+     * @param id 文章ID
+     * @param request 部分更新請求資料，須帶版本號
+     * @return 更新後的文章；文章不存在時為空
+     * @throws VersionConflictException 版本衝突時拋出
+     */
+    public Optional<BlogPost> patchPost(String id, BlogPostPatchRequest request) {
+        if (!UuidV7Generator.isValid(id)) {
+            return Optional.empty();
+        }
+        BlogPost[] previous = new BlogPost[1];
+        BlogPost saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                BlogPost post = blogPostRepository.findById(id).orElse(null);
+                if (post == null) {
+                    return null;
+                }
+                if (!Objects.equals(post.getVersion(), request.getVersion())) {
+                    throw new VersionConflictException(id, post.getVersion());
+                }
+                previous[0] = snapshot(post);
+                applyPatch(post, request);
+                return post;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException(id, blogPostRepository.findVersionById(id).orElse(null));
+        }
+        if (saved == null) {
+            return Optional.empty();
+        }
+        afterPostSaved(previous[0], saved);
+        if (!Objects.equals(previous[0].getIsLocked(), saved.getIsLocked())) {
+            blogPostCacheService.deleteFeaturedPostsCache();
+        }
+        return Optional.of(saved);
+    }
+
+    /**
+     * 將文章還原為指定的修訂版本
+     * 還原本身也是一次一般的更新，會產生新的版本，原有歷史不受影響
+     * @param id 文章ID
+     * @param revisionNo 版本號
+     * @return 還原後的文章；文章或版本不存在時為空
+     */
+    public Optional<BlogPost> restorePostRevision(String id, int revisionNo) {
+        if (!UuidV7Generator.isValid(id) || !blogPostRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        return postRevisionService.getRevision(id, revisionNo).map(revision -> {
+            BlogPostRequest request = new BlogPostRequest();
+            request.setTitle(revision.getTitle());
+            request.setTitleZh(revision.getTitleZh());
+            request.setExcerpt(revision.getExcerpt());
+            request.setExcerptZh(revision.getExcerptZh());
+            request.setContent(revision.getContent());
+            request.setContentZh(revision.getContentZh());
+            request.setCategoryKey(revision.getCategoryKey());
+            request.setImageUrl(revision.getImageUrl());
+            request.setTags(revision.getTags());
+            // 排程不屬於修訂內容，未帶 publishAt 時 updatePost 保留目前的排程
+            return updatePost(id, request);
+        });
+    }
+
+    /**
+     * 發佈已到排程時間的文章
+     * 解除鎖定、清空排程時間並將發表日期設為發佈時間；
+     * 文章已取消排程、改期或由其他節點先行發佈時不做任何事
+     * @param id 文章ID
+     * @param now 目前時間
+     * @return 發佈後的文章；未發佈時為空
+     */
+    public Optional<BlogPost> publishScheduledPost(String id, LocalDateTime now) {
+        BlogPost[] previous = new BlogPost[1];
+        BlogPost saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                BlogPost post = blogPostRepository.findById(id).orElse(null);
+                if (post == null || post.getPublishAt() == null || post.getPublishAt().isAfter(now)) {
+                    return null;
+                }
+                previous[0] = snapshot(post);
+                // 發表日期改為實際發佈時間，列表排序、上下篇與訂閱的發表時間才會正確
+                post.setDate(now);
+                post.setPublishAt(null);
+                post.setIsLocked(false);
+                return post;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            // 發佈期間文章被修改，留待下一輪依最新內容判斷
+            return Optional.empty();
+        }
+        if (saved == null) {
+            return Optional.empty();
+        }
+        afterPostSaved(previous[0], saved);
+        blogPostCacheService.deleteFeaturedPostsCache();
+        return Optional.of(saved);
     }
 
     public void deletePost(String id) {
-        blogPostRepository.deleteById(id);
+        blogPostRepository.findById(id).ifPresent(post -> {
+            blogPostRepository.delete(post);
+            afterPostDeleted(post);
+        });
     }
 
     public BlogPost getPostById(String id) {
@@ -102,47 +346,435 @@ public class ContentService {
             .orElseThrow(() -> new RuntimeException("Blog post not found"));
     }
 
+    /**
+     * 分頁獲取指定分類的文章
+     * @param categoryKey 分類鍵值
+     * @param page 頁碼（從0開始）
+     * @param size 每頁筆數
+     * @return 依日期由新到舊排序的文章分頁
+     */
+    public Page<BlogPost> getPostsByCategory(String categoryKey, int page, int size) {
+        return blogPostRepository.findByCategoryKey(categoryKey, PageRequest.of(page, size, CATEGORY_PAGE_SORT));
+    }
+
     // Portfolio Item methods
     public List<PortfolioItem> getAllPortfolioItems() {
-        return portfolioItemRepository.findAll();
+        return portfolioItemRepository.findAllByOrderByRankKeyAscIdAsc();
     }
 
     public PortfolioItem createPortfolioItem(PortfolioItemRequest request) {
         PortfolioItem item = new PortfolioItem();
-        item.setId(UUID.randomUUID().toString());
+        item.setId(UuidV7Generator.newId());
         item.setImageUrl(request.getImageUrl());
         item.setTitle(request.getTitle());
         item.setTitleZh(request.getTitleZh());
         item.setCategoryKey(request.getCategoryKey());
         item.setIsFeatured(request.getIsFeatured() != null ? request.getIsFeatured() : false);
+        item.setTags(normalizeTags(request.getTags()));
+        item.setRankKey(portfolioOrderService.keyForNewItem());
         item.setViews(0);
         item.setDate(LocalDateTime.now());
         item.setCreatedAt(LocalDateTime.now());
         item.setUpdatedAt(LocalDateTime.now());
         
-        return portfolioItemRepository.save(item);
+        PortfolioItem saved = portfolioItemRepository.save(item);
+        afterPortfolioItemSaved(null, saved);
+        return saved;
     }
 
     public PortfolioItem updatePortfolioItem(String id, PortfolioItemRequest request) {
         PortfolioItem item = portfolioItemRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Portfolio item not found"));
+        PortfolioItem previous = snapshot(item);
         
         item.setImageUrl(request.getImageUrl());
         item.setTitle(request.getTitle());
         item.setTitleZh(request.getTitleZh());
         item.setCategoryKey(request.getCategoryKey());
         item.setIsFeatured(request.getIsFeatured() != null ? request.getIsFeatured() : item.getIsFeatured());
+        if (request.getTags() != null) {
+            item.setTags(normalizeTags(request.getTags()));
+        }
         item.setUpdatedAt(LocalDateTime.now());
         
-        return portfolioItemRepository.save(item);
+        PortfolioItem saved = portfolioItemRepository.save(item);
+        afterPortfolioItemSaved(previous, saved);
+        return saved;
     }
 
     public void deletePortfolioItem(String id) {
-        portfolioItemRepository.deleteById(id);
+        portfolioItemRepository.findById(id).ifPresent(item -> {
+            portfolioItemRepository.delete(item);
+            afterPortfolioItemDeleted(item);
+        });
     }
 
     public PortfolioItem getPortfolioItemById(String id) {
         return portfolioItemRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Portfolio item not found"));
     }
+
+    /**
+     * 部分更新作品集項目
+     * 規則同文章的部分更新
+     * @param id 作品ID
+     * @param request 部分更新請求資料，須帶版本號
+     * @return 更新後的作品；作品不存在時為空
+     * @throws VersionConflictException 版本衝突時拋出
+     */
+    public Optional<PortfolioItem> patchPortfolioItem(String id, PortfolioItemPatchRequest request) {
+        if (!UuidV7Generator.isValid(id)) {
+            return Optional.empty();
+        }
+        PortfolioItem[] previous = new PortfolioItem[1];
+        PortfolioItem saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                PortfolioItem item = portfolioItemRepository.findById(id).orElse(null);
+                if (item == null) {
+                    return null;
+                }
+                if (!Objects.equals(item.getVersion(), request.getVersion())) {
+                    throw new VersionConflictException(id, item.getVersion());
+                }
+                previous[0] = snapshot(item);
+                applyPatch(item, request);
+                return item;
+            });
+        } catch (OptimisticLockingFailureException e) {
+            throw new VersionConflictException(id, portfolioItemRepository.findVersionById(id).orElse(null));
+        }
+        if (saved == null) {
+            return Optional.empty();
+        }
+        afterPortfolioItemSaved(previous[0], saved);
+        portfolioItemCacheService.deleteCategoryItemsCache(previous[0].getCategoryKey());
+        portfolioItemCacheService.deleteCategoryItemsCache(saved.getCategoryKey());
+        if (Boolean.TRUE.equals(previous[0].getIsFeatured()) || Boolean.TRUE.equals(saved.getIsFeatured())) {
+            portfolioItemCacheService.deleteFeaturedItemsCache();
+        }
+        return Optional.of(saved);
+    }
+
+    /**
+     * 分頁獲取指定分類的作品
+     * @param categoryKey 分類鍵值
+     * @param page 頁碼（從0開始）
+     * @param size 每頁筆數
+     * @return 依日期由新到舊排序的作品分頁
+     */
+    public Page<PortfolioItem> getPortfolioItemsByCategory(String categoryKey, int page, int size) {
+        return portfolioItemRepository.findByCategoryKey(categoryKey, PageRequest.of(page, size, CATEGORY_PAGE_SORT));
+    }
+
+    /**
+     * 以游標分頁獲取帶有指定標籤的文章
+     * @param tags 標籤列表
+     * @param match any 表示帶有任一標籤，all 表示帶有全部標籤
+     * @param cursor 上一頁返回的游標，第一頁為null
+     * @param size 每頁筆數
+     * @return 依日期由新到舊排序的文章
+     * @throws IllegalArgumentException 標籤為空或游標格式錯誤時拋出
+     */
+    public CursorPage<BlogPost> getPostsByTags(List<String> tags, String match, String cursor, int size) {
+        String tagParam = tagQueryParam(tags);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<BlogPost> rows = TAG_MATCH_ALL.equals(match)
+            ? blogPostRepository.findByAllTags(tagParam, after.date(), after.id(), size + 1)
+            : blogPostRepository.findByAnyTag(tagParam, after.date(), after.id(), size + 1);
+        return toCursorPage(rows, size, post -> new KeysetCursor(post.getDate(), post.getId()));
+    }
+
+    /**
+     * 以游標分頁獲取帶有指定標籤的作品
+     * @param tags 標籤列表
+     * @param match any 表示帶有任一標籤，all 表示帶有全部標籤
+     * @param cursor 上一頁返回的游標，第一頁為null
+     * @param size 每頁筆數
+     * @return 依日期由新到舊排序的作品
+     * @throws IllegalArgumentException 標籤為空或游標格式錯誤時拋出
+     */
+    public CursorPage<PortfolioItem> getPortfolioItemsByTags(List<String> tags, String match, String cursor, int size) {
+        String tagParam = tagQueryParam(tags);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<PortfolioItem> rows = TAG_MATCH_ALL.equals(match)
+            ? portfolioItemRepository.findByAllTags(tagParam, after.date(), after.id(), size + 1)
+            : portfolioItemRepository.findByAnyTag(tagParam, after.date(), after.id(), size + 1);
+        return toCursorPage(rows, size, item -> new KeysetCursor(item.getDate(), item.getId()));
+    }
+
+    /**
+     * 獲取各標籤的文章與作品數量
+     * 優先從Redis哈希讀取，不存在時以 unnest 彙總重建
+     * @return 標籤統計
+     */
+    public TagCountsResponse getTagCounts() {
+        var posts = facetCacheService.getCachedCounts(RedisCacheConstants.FACET_POSTS_TAG)
+            .orElseGet(() -> facetCacheService.cacheCounts(
+                RedisCacheConstants.FACET_POSTS_TAG, blogPostRepository.countByTag()));
+        var portfolio = facetCacheService.getCachedCounts(RedisCacheConstants.FACET_PORTFOLIO_TAG)
+            .orElseGet(() -> facetCacheService.cacheCounts(
+                RedisCacheConstants.FACET_PORTFOLIO_TAG, portfolioItemRepository.countByTag()));
+        return new TagCountsResponse(posts, portfolio);
+    }
+
+    /**
+     * 獲取各分類的文章與作品數量
+     * 優先從Redis哈希讀取，不存在時以一次 GROUP BY 重建
+     * @return 分類統計
+     */
+    public CategoryCountsResponse getCategoryCounts() {
+        var posts = facetCacheService.getCachedCounts(RedisCacheConstants.FACET_POSTS_CATEGORY)
+            .orElseGet(() -> facetCacheService.cacheCounts(
+                RedisCacheConstants.FACET_POSTS_CATEGORY, blogPostRepository.countByCategory()));
+        var portfolio = facetCacheService.getCachedCounts(RedisCacheConstants.FACET_PORTFOLIO_CATEGORY)
+            .orElseGet(() -> facetCacheService.cacheCounts(
+                RedisCacheConstants.FACET_PORTFOLIO_CATEGORY, portfolioItemRepository.countByCategory()));
+        return new CategoryCountsResponse(posts, portfolio);
+    }
+
+    /**
+     * 內容異動後的衍生資料維護
+     */
+
+    /**
+     * 文章儲存後更新索引與統計
+     * @param previous 修改前的文章快照，新建時為null
+     * @param saved 儲存後的文章
+     */
+    private void afterPostSaved(BlogPost previous, BlogPost saved) {
+        postRevisionService.record(previous, saved);
+        suggestService.indexPost(saved);
+        blogPostCacheService.deleteBlogPostCache(saved.getId());
+        blogPostCacheService.deleteLocalizedPostCache(saved.getId());
+        facetCacheService.move(RedisCacheConstants.FACET_POSTS_CATEGORY,
+            previous == null ? null : previous.getCategoryKey(), saved.getCategoryKey());
+        facetCacheService.diff(RedisCacheConstants.FACET_POSTS_TAG,
+            previous == null ? null : previous.getTags(), saved.getTags());
+        if (previous == null
+            || !Objects.equals(previous.getContent(), saved.getContent())
+            || !Objects.equals(previous.getContentZh(), saved.getContentZh())) {
+            contentRenderService.markPending(saved.getId());
+            contentRenderService.renderAsync(saved.getId());
+        }
+        if (previous == null || relatedFieldsChanged(previous, saved)) {
+            relatedContentService.onPostSaved(saved);
+        }
+        if (previous == null || neighborFieldsChanged(previous, saved)) {
+            postNeighborService.evictAround(previous, saved);
+        }
+        if (previous == null || statsFieldsChanged(previous.getCategoryKey(), previous.getDate(),
+            saved.getCategoryKey(), saved.getDate())) {
+            contentStatsService.markDirty();
+        }
+        feedService.markDirty();
+    }
+
+    /**
+     * 文章刪除後更新索引與統計
+     * @param post 已刪除的文章
+     */
+    private void afterPostDeleted(BlogPost post) {
+        suggestService.removePost(post.getId());
+        blogPostCacheService.deleteBlogPostCache(post.getId());
+        blogPostCacheService.deleteLocalizedPostCache(post.getId());
+        // 渲染結果列由外鍵 ON DELETE CASCADE 一併刪除，這裡只需清除緩存
+        blogPostCacheService.deleteRenderCache(post.getId());
+        likeService.deleteLikes(post.getId());
+        relatedContentService.onPostDeleted(post.getId());
+        postNeighborService.evictAround(null, post);
+        contentStatsService.markDirty();
+        feedService.markDirty();
+        facetCacheService.adjust(RedisCacheConstants.FACET_POSTS_CATEGORY, post.getCategoryKey(), -1);
+        facetCacheService.diff(RedisCacheConstants.FACET_POSTS_TAG, post.getTags(), null);
+    }
+
+    /**
+     * 作品儲存後更新索引與統計
+     * @param previous 修改前的作品快照，新建時為null
+     * @param saved 儲存後的作品
+     */
+    private void afterPortfolioItemSaved(PortfolioItem previous, PortfolioItem saved) {
+        suggestService.indexPortfolioItem(saved);
+        portfolioItemCacheService.deletePortfolioItemCache(saved.getId());
+        portfolioItemCacheService.deleteLocalizedItemCache(saved.getId());
+        facetCacheService.move(RedisCacheConstants.FACET_PORTFOLIO_CATEGORY,
+            previous == null ? null : previous.getCategoryKey(), saved.getCategoryKey());
+        facetCacheService.diff(RedisCacheConstants.FACET_PORTFOLIO_TAG,
+            previous == null ? null : previous.getTags(), saved.getTags());
+        if (previous == null
+            || !Objects.equals(previous.getTitle(), saved.getTitle())
+            || !Objects.equals(previous.getTitleZh(), saved.getTitleZh())
+            || !Objects.equals(previous.getCategoryKey(), saved.getCategoryKey())
+            || !Objects.equals(previous.getImageUrl(), saved.getImageUrl())
+            || !Objects.equals(previous.getTags(), saved.getTags())) {
+            relatedContentService.onPortfolioItemSaved(saved);
+        }
+        if (previous == null || statsFieldsChanged(previous.getCategoryKey(), previous.getDate(),
+            saved.getCategoryKey(), saved.getDate())) {
+            contentStatsService.markDirty();
+        }
+        feedService.markDirty();
+    }
+
+    /**
+     * 作品刪除後更新索引與統計
+     * @param item 已刪除的作品
+     */
+    private void afterPortfolioItemDeleted(PortfolioItem item) {
+        suggestService.removePortfolioItem(item.getId());
+        portfolioItemCacheService.deletePortfolioItemCache(item.getId());
+        portfolioItemCacheService.deleteLocalizedItemCache(item.getId());
+        relatedContentService.onPortfolioItemDeleted(item.getId());
+        contentStatsService.markDirty();
+        feedService.markDirty();
+        facetCacheService.adjust(RedisCacheConstants.FACET_PORTFOLIO_CATEGORY, item.getCategoryKey(), -1);
+        facetCacheService.diff(RedisCacheConstants.FACET_PORTFOLIO_TAG, item.getTags(), null);
+    }
+
+    /**
+     * 影響相關內容計算或顯示的欄位是否有變更
+     */
+    private static boolean relatedFieldsChanged(BlogPost previous, BlogPost saved) {
+        return !Objects.equals(previous.getTitle(), saved.getTitle())
+            || !Objects.equals(previous.getTitleZh(), saved.getTitleZh())
+            || !Objects.equals(previous.getExcerpt(), saved.getExcerpt())
+            || !Objects.equals(previous.getExcerptZh(), saved.getExcerptZh())
+            || !Objects.equals(previous.getContent(), saved.getContent())
+            || !Objects.equals(previous.getContentZh(), saved.getContentZh())
+            || !Objects.equals(previous.getCategoryKey(), saved.getCategoryKey())
+            || !Objects.equals(previous.getImageUrl(), saved.getImageUrl())
+            || !Objects.equals(previous.getTags(), saved.getTags());
+    }
+
+    /**
+     * 影響上一篇／下一篇位置或摘要的欄位是否有變更
+     */
+    private static boolean neighborFieldsChanged(BlogPost previous, BlogPost saved) {
+        return !Objects.equals(previous.getDate(), saved.getDate())
+            || !Objects.equals(previous.getCategoryKey(), saved.getCategoryKey())
+            || !Objects.equals(previous.getTitle(), saved.getTitle())
+            || !Objects.equals(previous.getTitleZh(), saved.getTitleZh())
+            || !Objects.equals(previous.getImageUrl(), saved.getImageUrl());
+    }
+
+    /**
+     * 影響每月與各分類統計的欄位是否有變更
+     */
+    private static boolean statsFieldsChanged(String previousCategory, LocalDateTime previousDate,
+                                              String savedCategory, LocalDateTime savedDate) {
+        return !Objects.equals(previousCategory, savedCategory) || !Objects.equals(previousDate, savedDate);
+    }
+
+    /**
+     * 套用文章部分更新的欄位，只有值確實不同時才設定，避免產生多餘的變更
+     */
+    private static void applyPatch(BlogPost post, BlogPostPatchRequest request) {
+        setIfChanged(request.getImageUrl(), post.getImageUrl(), post::setImageUrl);
+        setIfChanged(request.getIsLocked(), post.getIsLocked(), post::setIsLocked);
+        setIfChanged(request.getCategoryKey(), post.getCategoryKey(), post::setCategoryKey);
+        setIfChanged(request.getIsFeatured(), post.getIsFeatured(), post::setIsFeatured);
+        setIfChanged(request.getTitle(), post.getTitle(), post::setTitle);
+        setIfChanged(request.getTitleZh(), post.getTitleZh(), post::setTitleZh);
+        setIfChanged(request.getExcerpt(), post.getExcerpt(), post::setExcerpt);
+        setIfChanged(request.getExcerptZh(), post.getExcerptZh(), post::setExcerptZh);
+        setIfChanged(request.getContent(), post.getContent(), post::setContent);
+        setIfChanged(request.getContentZh(), post.getContentZh(), post::setContentZh);
+        if (request.getTags() != null) {
+            setIfChanged(normalizeTags(request.getTags()), post.getTags(), post::setTags);
+        }
+        if (Boolean.TRUE.equals(request.getClearPublishAt())) {
+            post.setPublishAt(null);
+        } else {
+            setIfChanged(request.getPublishAt(), post.getPublishAt(), post::setPublishAt);
+        }
+        applySchedule(post);
+    }
+
+    /**
+     * 有排程發佈時間的文章在發佈前一律保持鎖定
+     */
+    private static void applySchedule(BlogPost post) {
+        if (post.getPublishAt() != null) {
+            post.setIsLocked(true);
+        }
+    }
+
+    /**
+     * 套用作品部分更新的欄位
+     */
+    private static void applyPatch(PortfolioItem item, PortfolioItemPatchRequest request) {
+        setIfChanged(request.getImageUrl(), item.getImageUrl(), item::setImageUrl);
+        setIfChanged(request.getTitle(), item.getTitle(), item::setTitle);
+        setIfChanged(request.getTitleZh(), item.getTitleZh(), item::setTitleZh);
+        setIfChanged(request.getCategoryKey(), item.getCategoryKey(), item::setCategoryKey);
+        setIfChanged(request.getIsFeatured(), item.getIsFeatured(), item::setIsFeatured);
+        if (request.getTags() != null) {
+            setIfChanged(normalizeTags(request.getTags()), item.getTags(), item::setTags);
+        }
+    }
+
+    private static <T> void setIfChanged(T value, T current, Consumer<T> setter) {
+        if (value != null && !value.equals(current)) {
+            setter.accept(value);
+        }
+    }
+
+    /**
+     * 正規化標籤：去除空白、轉為小寫、移除逗號並去重，
+     * 逗號是查詢參數的分隔符號，不能出現在標籤中
+     */
+    static List<String> normalizeTags(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag == null) {
+                    continue;
+                }
+                String value = tag.replace(",", "").trim().toLowerCase(Locale.ROOT);
+                if (value.length() > MAX_TAG_LENGTH) {
+                    value = value.substring(0, MAX_TAG_LENGTH);
+                }
+                if (!value.isEmpty() && normalized.size() < MAX_TAGS) {
+                    normalized.add(value);
+                }
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    /**
+     * 將查詢標籤轉為以逗號分隔的參數，交由 string_to_array 轉回陣列
+     */
+    private static String tagQueryParam(List<String> tags) {
+        List<String> normalized = normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("At least one tag is required");
+        }
+        return String.join(",", normalized);
+    }
+
+    /**
+     * 多查一筆判斷是否還有下一頁，並以本頁最後一筆產生游標
+     */
+    private static <T> CursorPage<T> toCursorPage(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    private static BlogPost snapshot(BlogPost post) {
+        BlogPost copy = new BlogPost();
+        BeanUtils.copyProperties(post, copy);
+        copy.setTags(post.getTags() == null ? new ArrayList<>() : new ArrayList<>(post.getTags()));
+        return copy;
+    }
+
+    private static PortfolioItem snapshot(PortfolioItem item) {
+        PortfolioItem copy = new PortfolioItem();
+        BeanUtils.copyProperties(item, copy);
+        copy.setTags(item.getTags() == null ? new ArrayList<>() : new ArrayList<>(item.getTags()));
+        return copy;
+    }
 }
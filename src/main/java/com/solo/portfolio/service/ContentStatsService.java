@@ -0,0 +1,162 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.ArchiveMonthResponse;
+import com.solo.portfolio.model.dto.ArchiveResponse;
+import com.solo.portfolio.model.dto.ContentStatsResponse;
+import com.solo.portfolio.service.cache.ContentStatsCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 內容彙總統計服務類
+ * 每月與各分類的數量由物化視圖 content_stats_mv 預先彙總，查詢不再掃描內容表；
+ * 寫入後只標記為待刷新，由排程在寫入停歇一段時間（或等待超過上限）後
+ * 以 REFRESH MATERIALIZED VIEW CONCURRENTLY 刷新，刷新期間讀取不受阻擋
+ */
+@Slf4j
+@Service
+public class ContentStatsService {
+
+    /**
+     * 刷新鎖的存活時間（秒）
+     */
+    private static final long REFRESH_LOCK_TIMEOUT = 300;
+
+    private static final String REFRESH_SQL = "REFRESH MATERIALIZED VIEW CONCURRENTLY content_stats_mv";
+
+    private static final String ARCHIVE_SQL =
+        "SELECT to_char(month, 'YYYY-MM') AS month, "
+            + "sum(CASE WHEN content_type = 'post' THEN item_count ELSE 0 END) AS posts, "
+            + "sum(CASE WHEN content_type = 'portfolio' THEN item_count ELSE 0 END) AS portfolio "
+            + "FROM content_stats_mv WHERE month IS NOT NULL GROUP BY month ORDER BY month DESC";
+
+    private static final String CATEGORY_SQL =
+        "SELECT content_type, category_key, sum(item_count) FROM content_stats_mv GROUP BY content_type, category_key";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentStatsCacheService contentStatsCacheService;
+    private final RedisService redisService;
+
+    /**
+     * 最後一筆寫入後需停歇多久才刷新（毫秒）
+     */
+    private final long quietPeriodMs;
+
+    /**
+     * 第一筆寫入後最多等待多久必定刷新（毫秒），避免持續寫入時統計一直不更新
+     */
+    private final long maxDelayMs;
+
+    public ContentStatsService(JdbcTemplate jdbcTemplate,
+                               ContentStatsCacheService contentStatsCacheService,
+                               RedisService redisService,
+                               @Value("${app.stats.refresh-quiet-ms:10000}") long quietPeriodMs,
+                               @Value("${app.stats.refresh-max-delay-ms:120000}") long maxDelayMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentStatsCacheService = contentStatsCacheService;
+        this.redisService = redisService;
+        this.quietPeriodMs = quietPeriodMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    /**
+     * 獲取每月封存統計
+     * @return 依月份由新到舊排序的統計
+     */
+    public ArchiveResponse getArchive() {
+        long version = contentStatsCacheService.getVersion();
+        return contentStatsCacheService.getCachedArchive(version).orElseGet(() -> {
+            List<ArchiveMonthResponse> months = jdbcTemplate.query(ARCHIVE_SQL, (rs, rowNum) ->
+                new ArchiveMonthResponse(rs.getString(1), rs.getLong(2), rs.getLong(3)));
+            ArchiveResponse archive = new ArchiveResponse(version, new ArrayList<>(months));
+            contentStatsCacheService.cacheArchive(archive);
+            return archive;
+        });
+    }
+
+    /**
+     * 獲取內容總覽統計
+     * @return 文章與作品的總數及各分類數量
+     */
+    public ContentStatsResponse getStats() {
+        long version = contentStatsCacheService.getVersion();
+        return contentStatsCacheService.getCachedStats(version).orElseGet(() -> {
+            Map<String, Long> posts = new TreeMap<>();
+            Map<String, Long> portfolio = new TreeMap<>();
+            long[] totals = new long[2];
+            jdbcTemplate.query(CATEGORY_SQL, rs -> {
+                boolean post = "post".equals(rs.getString(1));
+                long count = rs.getLong(3);
+                totals[post ? 0 : 1] += count;
+                // 未分類的內容只計入總數
+                if (!rs.getString(2).isEmpty()) {
+                    (post ? posts : portfolio).put(rs.getString(2), count);
+                }
+            });
+            ContentStatsResponse stats = new ContentStatsResponse(version, totals[0], totals[1], posts, portfolio);
+            contentStatsCacheService.cacheStats(stats);
+            return stats;
+        });
+    }
+
+    /**
+     * 內容新增、刪除或分類、日期變更後呼叫，標記物化視圖待刷新
+     */
+    public void markDirty() {
+        contentStatsCacheService.markDirty();
+    }
+
+    /**
+     * 依防抖規則刷新物化視圖
+     * 先清除待刷新標記再刷新：刷新期間的新寫入會重新標記，留待下一輪處理。
+     * 刷新成功後寫入新的版本戳記，讀取端隨即改用新的緩存鍵。多個實例以分散式鎖互斥
+     */
+    @Scheduled(fixedDelayString = "${app.stats.refresh-check-ms:5000}", initialDelay = 15000)
+    public void refreshIfDirty() {
+        try {
+            String since = redisService.getRaw(RedisCacheConstants.STATS_CONTENT_DIRTY_SINCE);
+            if (since == null) {
+                return;
+            }
+            String last = redisService.getRaw(RedisCacheConstants.STATS_CONTENT_DIRTY_LAST);
+            long now = System.currentTimeMillis();
+            boolean quiet = last == null || now - Long.parseLong(last) >= quietPeriodMs;
+            boolean overdue = now - Long.parseLong(since) >= maxDelayMs;
+            if (!quiet && !overdue) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read content stats refresh state", e);
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_STATS_REFRESH, token, REFRESH_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            redisService.deleteRaw(RedisCacheConstants.STATS_CONTENT_DIRTY_SINCE);
+            redisService.deleteRaw(RedisCacheConstants.STATS_CONTENT_DIRTY_LAST);
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute(REFRESH_SQL);
+            redisService.setRaw(RedisCacheConstants.STATS_CONTENT_VERSION, String.valueOf(System.currentTimeMillis()));
+            log.debug("Refreshed content_stats_mv in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Failed to refresh content_stats_mv", e);
+            // 刷新失敗時重新標記，下一輪再試
+            contentStatsCacheService.markDirty();
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_STATS_REFRESH, token);
+        }
+    }
+}
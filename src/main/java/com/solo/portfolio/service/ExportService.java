@@ -0,0 +1,220 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.model.dto.UserDto;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.Comment;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.repository.CommentRepository;
+import com.solo.portfolio.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 資料匯出服務類
+ * 以唯讀資料庫游標依ID順序逐列讀取，寫出為 NDJSON 或 CSV。
+ * 每列寫出後即自持久化上下文中分離，記憶體用量與資料表大小無關；
+ * 可由上次匯出的最後一個ID繼續匯出
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    public static final String TYPE_POSTS = "posts";
+    public static final String TYPE_COMMENTS = "comments";
+    public static final String TYPE_USERS = "users";
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    /**
+     * 每寫出多少列將緩衝內容送出一次
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final List<String> POST_COLUMNS = List.of(
+        "id", "title", "titleZh", "categoryKey", "isLocked", "isFeatured", "likes", "commentsCount", "views",
+        "imageUrl", "excerpt", "excerptZh", "content", "contentZh", "tags", "date", "createdAt");
+
+    private static final List<String> COMMENT_COLUMNS = List.of(
+        "id", "postId", "userId", "username", "avatarUrl", "text", "parentId", "createdAt", "updatedAt");
+
+    private static final List<String> USER_COLUMNS = List.of(
+        "id", "username", "email", "avatarUrl", "role", "gender", "birthday", "address", "phone",
+        "createdAt", "updatedAt");
+
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final AuthService authService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(BlogPostRepository blogPostRepository,
+                         CommentRepository commentRepository,
+                         UserRepository userRepository,
+                         AuthService authService,
+                         EntityManager entityManager,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager) {
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.authService = authService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 檢查匯出參數是否有效
+     * @param type 資料類型
+     * @param format 輸出格式
+     * @return 參數有效時為true
+     */
+    public boolean isSupported(String type, String format) {
+        return List.of(TYPE_POSTS, TYPE_COMMENTS, TYPE_USERS).contains(type)
+            && (FORMAT_NDJSON.equals(format) || FORMAT_CSV.equals(format));
+    }
+
+    /**
+     * 匯出資料到輸出串流
+     * 在單一唯讀交易中以游標讀取；呼叫端負責壓縮與關閉輸出串流
+     * @param type 資料類型：posts、comments 或 users
+     * @param format 輸出格式：ndjson 或 csv
+     * @param after 由此ID之後開始匯出（不含），為空時從頭開始
+     * @param out 輸出串流
+     * @return 寫出的資料列數
+     */
+    public long export(String type, String format, String after, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        // 主鍵為 uuid 欄位，無法以空字串作為起點，從頭匯出時改用不帶條件的查詢
+        boolean fromStart = after == null || after.isBlank();
+        Long count;
+        try {
+            count = readOnlyTransaction.execute(status -> switch (type) {
+                case TYPE_POSTS -> write(fromStart ? blogPostRepository.streamAll()
+                        : blogPostRepository.streamAllAfter(after), POST_COLUMNS,
+                    post -> post, ExportService::postRow, format, writer);
+                case TYPE_COMMENTS -> write(fromStart ? commentRepository.streamAll()
+                        : commentRepository.streamAllAfter(after), COMMENT_COLUMNS,
+                    comment -> comment, ExportService::commentRow, format, writer);
+                case TYPE_USERS -> write(fromStart ? userRepository.streamAll()
+                        : userRepository.streamAllAfter(after), USER_COLUMNS,
+                    authService::toDto, user -> userRow(authService.toDto(user)), format, writer);
+                default -> throw new IllegalArgumentException("Unsupported export type: " + type);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 逐列寫出串流內容
+     * @param rows 資料庫串流
+     * @param columns CSV欄位名稱
+     * @param json NDJSON 每列輸出的物件
+     * @param csv CSV 每列的欄位值
+     */
+    private <T> long write(Stream<T> rows, List<String> columns, Function<T, Object> json,
+                           Function<T, List<Object>> csv, String format, Writer writer) {
+        long count = 0;
+        try (rows) {
+            boolean isCsv = FORMAT_CSV.equals(format);
+            if (isCsv) {
+                writer.write(String.join(",", columns));
+                writer.write("\r\n");
+            }
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                if (isCsv) {
+                    writeCsvRow(writer, csv.apply(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(json.apply(row)));
+                    writer.write('\n');
+                }
+                // 寫出後立即分離，避免持久化上下文隨匯出列數成長
+                entityManager.detach(row);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            // 用戶端中斷下載時會在此結束，游標隨串流關閉
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static List<Object> postRow(BlogPost p) {
+        return Arrays.asList(p.getId(), p.getTitle(), p.getTitleZh(), p.getCategoryKey(), p.getIsLocked(),
+            p.getIsFeatured(), p.getLikes(), p.getCommentsCount(), p.getViews(), p.getImageUrl(), p.getExcerpt(),
+            p.getExcerptZh(), p.getContent(), p.getContentZh(), joinTags(p.getTags()), p.getDate(), p.getCreatedAt());
+    }
+
+    /**
+     * 標籤在CSV中以分號連接成單一欄位
+     */
+    private static String joinTags(List<String> tags) {
+        return tags == null ? null : String.join(";", tags);
+    }
+
+    private static List<Object> commentRow(Comment c) {
+        return Arrays.asList(c.getId(), c.getPostId(), c.getUserId(), c.getUsername(), c.getAvatarUrl(),
+            c.getText(), c.getParentId(), c.getCreatedAt(), c.getUpdatedAt());
+    }
+
+    /**
+     * 使用者資料列不含密碼
+     */
+    private static List<Object> userRow(UserDto u) {
+        return Arrays.asList(u.getId(), u.getUsername(), u.getEmail(), u.getAvatarUrl(), u.getRole(),
+            u.getGender(), u.getBirthday(), u.getAddress(), u.getPhone(), u.getCreatedAt(), u.getUpdatedAt());
+    }
+
+    /**
+     * 依 RFC 4180 寫出一列CSV
+     * 含逗號、引號或換行的欄位以雙引號包住，內部引號重複一次
+     */
+    private static void writeCsvRow(Writer writer, List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
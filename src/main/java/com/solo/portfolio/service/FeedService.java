@@ -0,0 +1,360 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 訂閱與網站地圖服務類
+ * Atom 訂閱（/feed.xml）與網站地圖（/sitemap.xml）以串流 XML 寫出並直接 gzip 壓縮，
+ * 壓縮後的位元組與版本存放於 Redis，各實例再依版本保留一份於記憶體。
+ * 內容異動時只標記待重新產生，由排程合併短時間內的多次異動後重新產生；
+ * 訂閱閱讀器與搜尋引擎的輪詢不會查詢資料庫
+ */
+@Slf4j
+@Service
+public class FeedService {
+
+    public static final String FEED = "feed";
+    public static final String SITEMAP = "sitemap";
+
+    private static final List<String> DOCUMENTS = List.of(FEED, SITEMAP);
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    /**
+     * 重新產生鎖的存活時間（秒）
+     */
+    private static final long REBUILD_LOCK_TIMEOUT = 120;
+
+    private static final String FEED_UPDATED_SQL =
+        "SELECT max(coalesce(updated_at, date)) FROM blog_posts WHERE publish_at IS NULL";
+
+    /**
+     * 作者未填寫摘要時以渲染時產生的摘要替代
+     */
+    private static final String FEED_ENTRIES_SQL =
+        "SELECT p.id, p.title, p.title_zh, "
+            + "coalesce(nullif(trim(p.excerpt), ''), r.excerpt) AS excerpt, "
+            + "coalesce(nullif(trim(p.excerpt_zh), ''), r.excerpt_zh) AS excerpt_zh, "
+            + "p.tags, p.date, coalesce(p.updated_at, p.date) AS updated "
+            + "FROM blog_posts p LEFT JOIN blog_post_renders r ON r.post_id = p.id "
+            + "WHERE p.publish_at IS NULL ORDER BY p.date DESC NULLS LAST, p.id DESC LIMIT ?";
+
+    private static final String SITEMAP_POSTS_SQL =
+        "SELECT id, coalesce(updated_at, date) FROM blog_posts WHERE publish_at IS NULL ORDER BY id";
+
+    private static final String SITEMAP_PORTFOLIO_SQL =
+        "SELECT id, coalesce(updated_at, date) FROM portfolio_items ORDER BY id";
+
+    /**
+     * 尚無任何文章時訂閱的更新時間
+     */
+    private static final LocalDateTime EMPTY_FEED_UPDATED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final Pattern INVALID_XML_CHARS =
+        Pattern.compile("[^\\u0009\\u000A\\u000D\\u0020-\\uD7FF\\uE000-\\uFFFD\\x{10000}-\\x{10FFFF}]");
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisService redisService;
+    private final String siteUrl;
+    private final String siteTitle;
+    private final String postPath;
+    private final String portfolioPath;
+    private final int feedEntries;
+
+    /**
+     * 本實例最近一次取得的文件，版本與 Redis 相同時直接使用
+     */
+    private final Map<String, FeedDocument> documents = new ConcurrentHashMap<>();
+
+    public FeedService(JdbcTemplate jdbcTemplate,
+                       RedisService redisService,
+                       @Value("${app.feed.site-url:${oauth2.frontend-success-url:https://solo-react-frontend.vercel.app}}") String siteUrl,
+                       @Value("${app.feed.title:Solo Portfolio}") String siteTitle,
+                       @Value("${app.feed.post-path:/blog/}") String postPath,
+                       @Value("${app.feed.portfolio-path:/portfolio/}") String portfolioPath,
+                       @Value("${app.feed.entries:50}") int feedEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisService = redisService;
+        this.siteUrl = siteUrl.endsWith("/") ? siteUrl.substring(0, siteUrl.length() - 1) : siteUrl;
+        this.siteTitle = siteTitle;
+        this.postPath = postPath;
+        this.portfolioPath = portfolioPath;
+        this.feedEntries = feedEntries;
+    }
+
+    /**
+     * 獲取預先產生的文件
+     * 一般情況只讀取 Redis 中的版本；與本實例持有的版本不同時才取回內容。
+     * 尚未產生過時（例如首次啟動）於本實例即時產生一份，並交由排程寫回 Redis
+     * @param name 文件名稱：feed 或 sitemap
+     * @return 文件；產生失敗時為空
+     */
+    public Optional<FeedDocument> getDocument(String name) {
+        FeedDocument current = documents.get(name);
+        try {
+            String version = redisService.getRaw(RedisCacheConstants.FEED_VERSION_KEY + name);
+            if (version != null) {
+                if (current != null && version.equals(current.version())) {
+                    return Optional.of(current);
+                }
+                byte[] gzip = redisService.getBytes(RedisCacheConstants.FEED_DOCUMENT_KEY + name + ":" + version);
+                if (gzip != null) {
+                    FeedDocument loaded = new FeedDocument(version, gzip);
+                    documents.put(name, loaded);
+                    return Optional.of(loaded);
+                }
+            }
+            markDirty();
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to read {} document from cache", name, e);
+        }
+        if (current != null) {
+            return Optional.of(current);
+        }
+        try {
+            FeedDocument built = build(name);
+            documents.put(name, built);
+            return Optional.of(built);
+        } catch (Exception e) {
+            log.error("Failed to build {} document", name, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 內容新增、修改或刪除後呼叫，標記文件待重新產生
+     */
+    public void markDirty() {
+        try {
+            redisService.setRaw(RedisCacheConstants.FEED_DIRTY, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to mark feed documents dirty", e);
+        }
+    }
+
+    /**
+     * 重新產生待更新的文件
+     */
+    @Scheduled(fixedDelayString = "${app.feed.refresh-check-ms:5000}", initialDelay = 10000)
+    public void rebuildIfDirty() {
+        try {
+            boolean missing = DOCUMENTS.stream()
+                .anyMatch(name -> redisService.getRaw(RedisCacheConstants.FEED_VERSION_KEY + name) == null);
+            if (!missing && redisService.getRaw(RedisCacheConstants.FEED_DIRTY) == null) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read feed rebuild state", e);
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 立即重新產生全部文件
+     * 先清除待更新標記再產生：產生期間的新異動會重新標記，留待下一輪處理。
+     * 內容未變時產生的位元組與 ETag 相同，用戶端的條件請求仍會得到 304。多個實例以分散式鎖互斥
+     * @return 完成產生時為true；其他實例正在產生或產生失敗時為false
+     */
+    public boolean rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_FEED_REBUILD, token, REBUILD_LOCK_TIMEOUT)) {
+            return false;
+        }
+        try {
+            redisService.deleteRaw(RedisCacheConstants.FEED_DIRTY);
+            for (String name : DOCUMENTS) {
+                FeedDocument document = build(name);
+                // 內容以版本為鍵，先寫內容再切換版本，讀取端不會取得與版本不符的內容
+                redisService.setBytes(RedisCacheConstants.FEED_DOCUMENT_KEY + name + ":" + document.version(),
+                    document.gzip(), RedisCacheConstants.FEED_DOCUMENT_CACHE_TIME);
+                redisService.setRaw(RedisCacheConstants.FEED_VERSION_KEY + name, document.version());
+                documents.put(name, document);
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to rebuild feed documents", e);
+            // 產生失敗時重新標記，下一輪再試
+            markDirty();
+            return false;
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_FEED_REBUILD, token);
+        }
+    }
+
+    /**
+     * 產生文件
+     * 資料列逐筆寫入 XML 串流並同時壓縮，不在記憶體中組出完整的未壓縮文件
+     */
+    private FeedDocument build(String name) throws IOException, XMLStreamException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 * 1024);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 8192)) {
+            XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(gzip, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            if (FEED.equals(name)) {
+                writeFeed(xml);
+            } else if (SITEMAP.equals(name)) {
+                writeSitemap(xml);
+            } else {
+                throw new IllegalArgumentException("Unknown feed document: " + name);
+            }
+            xml.writeEndDocument();
+            xml.close();
+        }
+        byte[] bytes = buffer.toByteArray();
+        // GZIP 標頭不含時間，相同內容產生相同位元組，版本可直接由壓縮結果計算
+        return new FeedDocument(DigestUtils.md5DigestAsHex(bytes), bytes);
+    }
+
+    /**
+     * 寫出 Atom 訂閱：依日期由新到舊的最新文章，不含尚待排程發佈的文章；摘要優先使用英文，英文為空時使用中文
+     */
+    private void writeFeed(XMLStreamWriter xml) throws XMLStreamException {
+        LocalDateTime latest = jdbcTemplate.queryForObject(FEED_UPDATED_SQL, LocalDateTime.class);
+        LocalDateTime updated = latest == null ? EMPTY_FEED_UPDATED : latest;
+
+        xml.setDefaultNamespace(ATOM_NS);
+        xml.writeStartElement(ATOM_NS, "feed");
+        xml.writeDefaultNamespace(ATOM_NS);
+        writeElement(xml, "id", siteUrl + "/");
+        writeElement(xml, "title", siteTitle);
+        writeLink(xml, siteUrl + "/");
+        writeElement(xml, "updated", formatTimestamp(updated));
+
+        jdbcTemplate.query(FEED_ENTRIES_SQL, rs -> {
+            try {
+                String id = rs.getString("id");
+                xml.writeStartElement("entry");
+                writeElement(xml, "id", "urn:uuid:" + id);
+                writeElement(xml, "title", pick(rs.getString("title"), rs.getString("title_zh")));
+                writeLink(xml, siteUrl + postPath + id);
+                LocalDateTime date = rs.getObject("date", LocalDateTime.class);
+                LocalDateTime entryUpdated = rs.getObject("updated", LocalDateTime.class);
+                if (date != null) {
+                    writeElement(xml, "published", formatTimestamp(date));
+                }
+                writeElement(xml, "updated", formatTimestamp(entryUpdated != null ? entryUpdated : updated));
+                String summary = pick(rs.getString("excerpt"), rs.getString("excerpt_zh"));
+                if (summary != null) {
+                    writeElement(xml, "summary", summary);
+                }
+                for (String tag : tags(rs)) {
+                    xml.writeEmptyElement("category");
+                    xml.writeAttribute("term", tag);
+                }
+                xml.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e);
+            }
+        }, feedEntries);
+
+        xml.writeEndElement();
+    }
+
+    /**
+     * 寫出網站地圖：首頁、已發佈的文章與全部作品
+     */
+    private void writeSitemap(XMLStreamWriter xml) throws XMLStreamException {
+        xml.setDefaultNamespace(SITEMAP_NS);
+        xml.writeStartElement(SITEMAP_NS, "urlset");
+        xml.writeDefaultNamespace(SITEMAP_NS);
+
+        xml.writeStartElement("url");
+        writeElement(xml, "loc", siteUrl + "/");
+        xml.writeEndElement();
+        writeSitemapUrls(xml, SITEMAP_POSTS_SQL, postPath);
+        writeSitemapUrls(xml, SITEMAP_PORTFOLIO_SQL, portfolioPath);
+
+        xml.writeEndElement();
+    }
+
+    private void writeSitemapUrls(XMLStreamWriter xml, String sql, String path) {
+        jdbcTemplate.query(sql, rs -> {
+            try {
+                xml.writeStartElement("url");
+                writeElement(xml, "loc", siteUrl + path + rs.getString(1));
+                LocalDateTime lastModified = rs.getObject(2, LocalDateTime.class);
+                if (lastModified != null) {
+                    writeElement(xml, "lastmod", formatTimestamp(lastModified));
+                }
+                xml.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        // 內容中的控制字元在 XML 1.0 中不合法，寫出前移除
+        xml.writeCharacters(text == null ? "" : INVALID_XML_CHARS.matcher(text).replaceAll(""));
+        xml.writeEndElement();
+    }
+
+    private static void writeLink(XMLStreamWriter xml, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("rel", "alternate");
+        xml.writeAttribute("href", href);
+    }
+
+    private static String[] tags(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("tags");
+        return array == null ? new String[0] : (String[]) array.getArray();
+    }
+
+    /**
+     * 時間欄位以 UTC 儲存，輸出為 RFC 3339 格式
+     */
+    private static String formatTimestamp(LocalDateTime value) {
+        return value.withNano(0).atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private static String pick(String en, String zh) {
+        return en != null && !en.isBlank() ? en : zh;
+    }
+
+    /**
+     * 預先產生的文件
+     * @param version 壓縮後內容的雜湊值
+     * @param gzip gzip 壓縮後的 XML
+     */
+    public record FeedDocument(String version, byte[] gzip) {
+
+        /**
+         * 弱 ETag：壓縮與未壓縮的回應內容語意相同，共用同一個 ETag
+         */
+        public String etag() {
+            return "W/\"" + version + "\"";
+        }
+    }
+}
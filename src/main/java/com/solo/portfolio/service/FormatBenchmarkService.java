@@ -0,0 +1,109 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.model.dto.CommentResponse;
+import com.solo.portfolio.model.dto.FormatBenchmarkResult;
+import com.solo.portfolio.model.entity.BlogPost;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 回應格式比較服務類
+ * 以目前的實際資料比較 JSON、CBOR 與 Smile 的編碼大小與耗時，
+ * 使用與回應相同的 ObjectMapper 設定，結果可直接反映API的實際表現
+ */
+@Service
+public class FormatBenchmarkService {
+
+    public static final String PAYLOAD_POSTS = "posts";
+    public static final String PAYLOAD_COMMENTS = "comments";
+
+    /**
+     * 迭代次數上限，避免在正式環境佔用過久的CPU
+     */
+    public static final int MAX_ITERATIONS = 2000;
+
+    private final ContentService contentService;
+    private final CommentService commentService;
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    public FormatBenchmarkService(ContentService contentService,
+                                  CommentService commentService,
+                                  ObjectMapper objectMapper,
+                                  MappingJackson2CborHttpMessageConverter cborConverter,
+                                  MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.contentService = contentService;
+        this.commentService = commentService;
+        this.mappers.put("json", objectMapper);
+        this.mappers.put("cbor", cborConverter.getObjectMapper());
+        this.mappers.put("smile", smileConverter.getObjectMapper());
+    }
+
+    /**
+     * 執行比較
+     * 樣本為完整文章列表，以及指定文章（未指定時取評論最多的文章）的評論列表；
+     * 每種格式先暖機再計時，報告平均每次編碼耗時
+     * @param postId 評論樣本的文章ID，可為null
+     * @param iterations 計時的迭代次數
+     * @return 每個樣本與格式的結果
+     */
+    public List<FormatBenchmarkResult> run(String postId, int iterations) {
+        int rounds = Math.max(1, Math.min(iterations, MAX_ITERATIONS));
+        List<BlogPost> posts = contentService.getAllPosts();
+        String commentPostId = postId != null ? postId : posts.stream()
+            .filter(post -> post.getCommentsCount() != null)
+            .max(Comparator.comparing(BlogPost::getCommentsCount))
+            .map(BlogPost::getId)
+            .orElse(null);
+        List<CommentResponse> comments = commentPostId == null ? List.of()
+            : commentService.getCommentsByPost(commentPostId);
+
+        List<FormatBenchmarkResult> results = new ArrayList<>();
+        mappers.forEach((format, mapper) -> {
+            results.add(measure(PAYLOAD_POSTS, posts, posts.size(), format, mapper, rounds));
+            results.add(measure(PAYLOAD_COMMENTS, comments, comments.size(), format, mapper, rounds));
+        });
+        return results;
+    }
+
+    private FormatBenchmarkResult measure(String payload, Object value, int items, String format,
+                                          ObjectMapper mapper, int rounds) {
+        try {
+            byte[] encoded = mapper.writeValueAsBytes(value);
+            // 暖機讓 JIT 編譯序列化路徑，避免第一種格式吃虧
+            for (int i = 0; i < Math.max(10, rounds / 5); i++) {
+                mapper.writeValueAsBytes(value);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                mapper.writeValueAsBytes(value);
+            }
+            double micros = (System.nanoTime() - start) / 1000.0 / rounds;
+            return new FormatBenchmarkResult(payload, items, format, encoded.length, gzipSize(encoded), micros);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode " + payload + " as " + format, e);
+        }
+    }
+
+    private static int gzipSize(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.HistoryEntryResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 最近瀏覽紀錄服務類
+ * 每位使用者一個 Redis 有序集合，成員為文章ID、分數為最近一次瀏覽時間；
+ * 只保留最近的固定筆數並設有過期時間，不寫入資料庫
+ */
+@Slf4j
+@Service
+public class HistoryService {
+
+    private final RedisService redisService;
+    private final BlogPostService blogPostService;
+    private final TaskExecutor historyTaskExecutor;
+
+    public HistoryService(RedisService redisService,
+                          BlogPostService blogPostService,
+                          @Qualifier(AsyncConfig.HISTORY_TASK_EXECUTOR) TaskExecutor historyTaskExecutor) {
+        this.redisService = redisService;
+        this.blogPostService = blogPostService;
+        this.historyTaskExecutor = historyTaskExecutor;
+    }
+
+    /**
+     * 記錄瀏覽
+     * 交由背景執行緒以單次管線寫入，不等待結果；失敗或執行緒池滿載時略過
+     * @param userId 使用者ID
+     * @param postId 文章ID
+     */
+    public void recordView(String userId, String postId) {
+        long viewedAt = System.currentTimeMillis();
+        historyTaskExecutor.execute(() -> {
+            try {
+                redisService.zAddCapped(RedisCacheConstants.USER_HISTORY_KEY + userId, postId, viewedAt,
+                    RedisCacheConstants.USER_HISTORY_MAX_SIZE, RedisCacheConstants.USER_HISTORY_CACHE_TIME);
+            } catch (Exception e) {
+                // 緩存操作失敗時，記錄日誌但不影響主流程
+                log.debug("Failed to record view of post {} for user {}", postId, userId, e);
+            }
+        });
+    }
+
+    /**
+     * 獲取最近瀏覽的文章
+     * 文章以批量讀取（MGET 緩存加單次查詢）取得；已刪除的文章自紀錄中移除
+     * @param userId 使用者ID
+     * @param limit 筆數上限
+     * @return 依瀏覽時間由新到舊排列的紀錄
+     */
+    public List<HistoryEntryResponse> getHistory(String userId, int limit) {
+        String key = RedisCacheConstants.USER_HISTORY_KEY + userId;
+        Map<String, Double> viewed;
+        try {
+            viewed = redisService.zRevRangeWithScores(key, 0, limit - 1);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return List.of();
+        }
+        if (viewed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, BlogPost> posts = blogPostService.getBlogPosts(new ArrayList<>(viewed.keySet())).stream()
+            .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        List<String> removed = viewed.keySet().stream().filter(id -> !posts.containsKey(id)).toList();
+        if (!removed.isEmpty()) {
+            try {
+                redisService.zRemove(key, removed);
+            } catch (Exception e) {
+                // 緩存操作失敗時，記錄日誌但不影響主流程
+            }
+        }
+
+        List<HistoryEntryResponse> entries = new ArrayList<>();
+        viewed.forEach((id, score) -> {
+            BlogPost post = posts.get(id);
+            if (post != null) {
+                entries.add(new HistoryEntryResponse(post.getId(), post.getTitle(), post.getTitleZh(),
+                    post.getImageUrl(), post.getCategoryKey(), post.getDate(), score.longValue()));
+            }
+        });
+        return entries;
+    }
+}
@@ -0,0 +1,73 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.model.entity.UuidV7Generator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 依 (date, id) 排序的游標
+ * 對外以 Base64URL 編碼的不透明字串傳遞
+ *
+ * @param date 上一頁最後一筆的日期
+ * @param id 上一頁最後一筆的ID
+ */
+public record KeysetCursor(LocalDateTime date, String id) {
+
+    /**
+     * 第一頁使用的哨兵游標：比任何實際資料都大，(date, id) &lt; 哨兵 恆成立；
+     * ID 需為合法的 uuid 才能與 uuid 主鍵比較
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0),
+        "ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    /**
+     * 升序分頁第一頁使用的哨兵游標：比任何實際資料都小，(date, id) &gt; 哨兵 恆成立
+     */
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0),
+        "00000000-0000-0000-0000-000000000000");
+
+    /**
+     * 編碼為不透明字串
+     * @return 游標字串
+     */
+    public String encode() {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解碼游標字串
+     * @param cursor 游標字串，為空時表示第一頁
+     * @return 游標
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String id = raw.substring(separator + 1);
+            // ID 會直接與 uuid 主鍵比較，格式不符時視為無效游標而非資料庫錯誤
+            if (!UuidV7Generator.isValid(id)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 解碼升序分頁的游標字串
+     * @param cursor 游標字串，為空時表示第一頁
+     * @return 游標；第一頁為 START
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public static KeysetCursor decodeAscending(String cursor) {
+        return cursor == null || cursor.isBlank() ? START : decode(cursor);
+    }
+}
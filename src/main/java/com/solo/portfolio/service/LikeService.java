@@ -0,0 +1,184 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.LikeResponse;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 文章按讚服務類
+ * 每篇文章以Redis集合記錄按讚的使用者，按讚與取消皆為冪等的O(1)操作；
+ * 只有集合實際變動時才累加讚數增量，並由排程定期批量寫回 blog_posts.likes
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    /**
+     * 讚數寫回鎖的存活時間（秒）
+     */
+    private static final long FLUSH_LOCK_TIMEOUT = 120;
+
+    private static final String FLUSH_SQL =
+        "UPDATE blog_posts SET likes = GREATEST(COALESCE(likes, 0) + ?, 0) WHERE id = ?";
+
+    private static final String CLAIM_BATCH_SQL =
+        "INSERT INTO like_flush_batches (batch_id) VALUES (?) ON CONFLICT (batch_id) DO NOTHING";
+
+    private static final String PURGE_BATCHES_SQL =
+        "DELETE FROM like_flush_batches WHERE flushed_at < CURRENT_TIMESTAMP - INTERVAL '7 days'";
+
+    private final RedisService redisService;
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostCacheService blogPostCacheService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 按讚
+     * @param postId 文章ID
+     * @param userId 使用者ID
+     * @return 按讚狀態；文章不存在時為空
+     */
+    public Optional<LikeResponse> like(String postId, String userId) {
+        if (!blogPostRepository.existsById(postId)) {
+            return Optional.empty();
+        }
+        boolean changed = redisService.sAdd(RedisCacheConstants.BLOG_POST_LIKES_KEY + postId, userId);
+        if (changed) {
+            redisService.hIncrement(RedisCacheConstants.BLOG_POST_LIKE_DELTA, postId, 1);
+        }
+        return Optional.of(new LikeResponse(postId, true, changed));
+    }
+
+    /**
+     * 取消按讚
+     * @param postId 文章ID
+     * @param userId 使用者ID
+     * @return 按讚狀態；文章不存在時為空
+     */
+    public Optional<LikeResponse> unlike(String postId, String userId) {
+        if (!blogPostRepository.existsById(postId)) {
+            return Optional.empty();
+        }
+        boolean changed = redisService.sRemove(RedisCacheConstants.BLOG_POST_LIKES_KEY + postId, userId);
+        if (changed) {
+            redisService.hIncrement(RedisCacheConstants.BLOG_POST_LIKE_DELTA, postId, -1);
+        }
+        return Optional.of(new LikeResponse(postId, false, changed));
+    }
+
+    /**
+     * 批量查詢使用者是否已對多篇文章按讚
+     * 以單次管線呼叫完成，適用於一頁文章列表
+     * @param postIds 文章ID列表
+     * @param userId 使用者ID，未登入時為null
+     * @return 文章ID → 是否已按讚，順序與輸入相同
+     */
+    public Map<String, Boolean> likedByUser(List<String> postIds, String userId) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (userId == null) {
+            postIds.forEach(id -> result.put(id, false));
+            return result;
+        }
+        List<String> keys = postIds.stream().map(id -> RedisCacheConstants.BLOG_POST_LIKES_KEY + id).toList();
+        List<Boolean> liked = redisService.sIsMemberPipelined(keys, userId);
+        for (int i = 0; i < postIds.size(); i++) {
+            result.put(postIds.get(i), i < liked.size() && liked.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 查詢文章尚未寫回資料庫的讚數增量
+     * 包含累積中與寫回中的兩個哈希，與資料庫中的讚數相加即為目前讚數
+     * @param postId 文章ID
+     * @return 讚數增量
+     */
+    public long pendingDelta(String postId) {
+        return redisService.hGetCounter(RedisCacheConstants.BLOG_POST_LIKE_DELTA, postId)
+            + redisService.hGetCounter(RedisCacheConstants.BLOG_POST_LIKE_DELTA_FLUSHING, postId);
+    }
+
+    /**
+     * 刪除文章的按讚紀錄
+     * @param postId 文章ID
+     */
+    public void deleteLikes(String postId) {
+        try {
+            redisService.deleteRaw(RedisCacheConstants.BLOG_POST_LIKES_KEY + postId);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+
+    /**
+     * 將累積的讚數增量批量寫回資料庫
+     * 先以RENAMENX把增量哈希整批移出，寫回期間的新增量會累積到新的哈希，不會遺失；
+     * 上次寫回中斷而殘留的哈希會在下次執行時優先處理。多個實例以分散式鎖互斥。
+     * 每批增量帶有批次ID，與讚數更新在同一交易內寫入 like_flush_batches；
+     * 交易已提交但Redis哈希尚未刪除時，重試會因批次ID已存在而略過，不會重複套用
+     */
+    @Scheduled(fixedDelayString = "${app.likes.flush-interval-ms:30000}", initialDelay = 30000)
+    public void flushLikeDeltas() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_LIKES_FLUSH, token, FLUSH_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            if (!redisService.hasKey(RedisCacheConstants.BLOG_POST_LIKE_DELTA_FLUSHING)
+                && !redisService.renameIfAbsent(RedisCacheConstants.BLOG_POST_LIKE_DELTA,
+                    RedisCacheConstants.BLOG_POST_LIKE_DELTA_FLUSHING)) {
+                return;
+            }
+            redisService.setRawIfAbsent(RedisCacheConstants.BLOG_POST_LIKE_FLUSH_BATCH, UUID.randomUUID().toString());
+            String batchId = redisService.getRaw(RedisCacheConstants.BLOG_POST_LIKE_FLUSH_BATCH);
+            Map<String, Long> deltas = redisService.hGetAllCounters(RedisCacheConstants.BLOG_POST_LIKE_DELTA_FLUSHING);
+            List<Object[]> args = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+            if (!args.isEmpty()) {
+                Boolean applied = transactionTemplate.execute(status -> {
+                    if (jdbcTemplate.update(CLAIM_BATCH_SQL, batchId) == 0) {
+                        return false;
+                    }
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+                    jdbcTemplate.update(PURGE_BATCHES_SQL);
+                    return true;
+                });
+                if (!Boolean.TRUE.equals(applied)) {
+                    log.info("Like delta batch {} was already applied, discarding it", batchId);
+                }
+            }
+            redisService.deleteRaw(List.of(RedisCacheConstants.BLOG_POST_LIKE_DELTA_FLUSHING,
+                RedisCacheConstants.BLOG_POST_LIKE_FLUSH_BATCH));
+
+            for (Object[] row : args) {
+                String postId = (String) row[1];
+                blogPostCacheService.deleteBlogPostCache(postId);
+                blogPostCacheService.deleteLocalizedPostCache(postId);
+            }
+            if (!args.isEmpty()) {
+                log.debug("Flushed like deltas for {} posts", args.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush like deltas", e);
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_LIKES_FLUSH, token);
+        }
+    }
+}
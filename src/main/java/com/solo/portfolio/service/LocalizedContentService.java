@@ -0,0 +1,240 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.LocalizedBlogPostResponse;
+import com.solo.portfolio.model.dto.LocalizedPortfolioItemResponse;
+import com.solo.portfolio.model.dto.RenderedPostResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.RenderStatus;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.repository.PortfolioItemRepository;
+import com.solo.portfolio.service.ContentRenderService.GeneratedExcerpt;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import com.solo.portfolio.service.cache.PortfolioItemCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 單語系內容服務類
+ * 將雙語的文章與作品實體收斂成單一語系的回應，
+ * 並以「語系 + ID」為鍵分別緩存，每個語系只需轉換一次
+ */
+@Service
+@RequiredArgsConstructor
+public class LocalizedContentService {
+
+    /**
+     * 要求返回完整雙語實體的 lang 參數值
+     */
+    public static final String LANG_ALL = "all";
+
+    private final BlogPostRepository blogPostRepository;
+    private final PortfolioItemRepository portfolioItemRepository;
+    private final BlogPostCacheService blogPostCacheService;
+    private final PortfolioItemCacheService portfolioItemCacheService;
+    private final ContentRenderService contentRenderService;
+
+    /**
+     * 決定回應語系
+     * lang 參數優先；未指定時採用 Accept-Language 解析出的語系
+     * @param lang 請求參數指定的語系，可為 en、zh 或 all
+     * @param locale 由 Accept-Language 解析出的語系，未帶該標頭時為null
+     * @return en 或 zh；要求完整雙語內容時返回null
+     */
+    public String resolveLanguage(String lang, Locale locale) {
+        if (lang != null && !lang.isBlank()) {
+            String normalized = lang.trim().toLowerCase(Locale.ROOT);
+            if (LANG_ALL.equals(normalized)) {
+                return null;
+            }
+            return normalized.startsWith(RedisCacheConstants.LANG_ZH)
+                ? RedisCacheConstants.LANG_ZH : RedisCacheConstants.LANG_EN;
+        }
+        if (locale == null) {
+            return null;
+        }
+        return RedisCacheConstants.LANG_ZH.equals(locale.getLanguage())
+            ? RedisCacheConstants.LANG_ZH : RedisCacheConstants.LANG_EN;
+    }
+
+    /**
+     * 獲取單語系文章列表
+     * @param lang 語系
+     * @return 單語系文章列表
+     */
+    public List<LocalizedBlogPostResponse> getPosts(String lang) {
+        Optional<List<LocalizedBlogPostResponse>> cached = blogPostCacheService.getCachedLocalizedPostList(lang);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<LocalizedBlogPostResponse> posts = toLocalized(blogPostRepository.findAll(), lang);
+        blogPostCacheService.cacheLocalizedPostList(lang, posts);
+        return posts;
+    }
+
+    /**
+     * 獲取單語系文章
+     * @param id 文章ID
+     * @param lang 語系
+     * @return 單語系文章
+     */
+    public LocalizedBlogPostResponse getPost(String id, String lang) {
+        Optional<LocalizedBlogPostResponse> cached = blogPostCacheService.getCachedLocalizedPost(id, lang);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        BlogPost post = blogPostRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Blog post not found"));
+        Optional<RenderedPostResponse> rendered = contentRenderService.getRendered(id);
+        LocalizedBlogPostResponse localized = toLocalized(post, lang, rendered
+            .map(render -> new GeneratedExcerpt(render.getExcerpt(), render.getExcerptZh()))
+            .orElse(null));
+        rendered.ifPresent(render -> {
+            // 與內容相同的語系回退規則：所要語系沒有渲染結果時改用另一語系
+            boolean zh = RedisCacheConstants.LANG_ZH.equals(lang);
+            boolean useZh = zh ? render.getContentZhHtml() != null : render.getContentHtml() == null;
+            localized.setRenderStatus(render.getStatus());
+            localized.setContentHtml(useZh ? render.getContentZhHtml() : render.getContentHtml());
+            localized.setToc(useZh ? render.getTocZh() : render.getToc());
+            localized.setWordCount(useZh ? render.getWordCountZh() : render.getWordCount());
+            localized.setReadingMinutes(useZh ? render.getReadingMinutesZh() : render.getReadingMinutes());
+        });
+        // 渲染完成後才緩存，避免將尚未產生HTML的版本緩存下來
+        if (RenderStatus.READY.name().equals(localized.getRenderStatus())) {
+            blogPostCacheService.cacheLocalizedPost(localized);
+        }
+        return localized;
+    }
+
+    /**
+     * 獲取單語系作品列表
+     * @param lang 語系
+     * @return 單語系作品列表
+     */
+    public List<LocalizedPortfolioItemResponse> getPortfolioItems(String lang) {
+        Optional<List<LocalizedPortfolioItemResponse>> cached = portfolioItemCacheService.getCachedLocalizedItemList(lang);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        List<LocalizedPortfolioItemResponse> items = portfolioItemRepository.findAllByOrderByRankKeyAscIdAsc().stream()
+            .map(item -> toLocalized(item, lang))
+            .collect(Collectors.toList());
+        portfolioItemCacheService.cacheLocalizedItemList(lang, items);
+        return items;
+    }
+
+    /**
+     * 獲取單語系作品
+     * @param id 作品ID
+     * @param lang 語系
+     * @return 單語系作品
+     */
+    public LocalizedPortfolioItemResponse getPortfolioItem(String id, String lang) {
+        Optional<LocalizedPortfolioItemResponse> cached = portfolioItemCacheService.getCachedLocalizedItem(id, lang);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        PortfolioItem item = portfolioItemRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Portfolio item not found"));
+        LocalizedPortfolioItemResponse localized = toLocalized(item, lang);
+        portfolioItemCacheService.cacheLocalizedItem(localized);
+        return localized;
+    }
+
+    /**
+     * 將文章實體批量轉換為單語系回應
+     * 作者未填寫的摘要以渲染時產生的摘要替代，一次查詢取得所有文章的產生摘要
+     * @param posts 文章實體列表
+     * @param lang 語系
+     * @return 單語系文章列表，順序與輸入相同
+     */
+    public List<LocalizedBlogPostResponse> toLocalized(List<BlogPost> posts, String lang) {
+        Map<String, GeneratedExcerpt> generated = contentRenderService.getGeneratedExcerpts(
+            posts.stream().map(BlogPost::getId).toList());
+        return posts.stream()
+            .map(post -> toLocalized(post, lang, generated.get(post.getId())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 將文章實體轉換為單語系回應
+     * @param post 文章實體
+     * @param lang 語系
+     * @param generated 渲染時產生的摘要，尚未渲染時為null
+     * @return 單語系文章
+     */
+    private LocalizedBlogPostResponse toLocalized(BlogPost post, String lang, GeneratedExcerpt generated) {
+        boolean zh = RedisCacheConstants.LANG_ZH.equals(lang);
+        LocalizedBlogPostResponse dto = new LocalizedBlogPostResponse();
+        dto.setId(post.getId());
+        dto.setLang(lang);
+        dto.setImageUrl(post.getImageUrl());
+        dto.setIsLocked(post.getIsLocked());
+        dto.setCreatedAt(post.getCreatedAt());
+        dto.setCategoryKey(post.getCategoryKey());
+        dto.setLikes(post.getLikes());
+        dto.setCommentsCount(post.getCommentsCount());
+        dto.setViews(post.getViews());
+        dto.setIsFeatured(post.getIsFeatured());
+        dto.setTitle(pick(zh, post.getTitle(), post.getTitleZh()));
+        dto.setExcerpt(pick(zh,
+            orGenerated(post.getExcerpt(), generated == null ? null : generated.excerpt()),
+            orGenerated(post.getExcerptZh(), generated == null ? null : generated.excerptZh())));
+        dto.setContent(pick(zh, post.getContent(), post.getContentZh()));
+        dto.setDate(post.getDate());
+        dto.setTags(copyTags(post.getTags()));
+        return dto;
+    }
+
+    /**
+     * 將作品實體轉換為單語系回應
+     * @param item 作品實體
+     * @param lang 語系
+     * @return 單語系作品
+     */
+    public LocalizedPortfolioItemResponse toLocalized(PortfolioItem item, String lang) {
+        boolean zh = RedisCacheConstants.LANG_ZH.equals(lang);
+        LocalizedPortfolioItemResponse dto = new LocalizedPortfolioItemResponse();
+        dto.setId(item.getId());
+        dto.setLang(lang);
+        dto.setImageUrl(item.getImageUrl());
+        dto.setTitle(pick(zh, item.getTitle(), item.getTitleZh()));
+        dto.setCategoryKey(item.getCategoryKey());
+        dto.setViews(item.getViews());
+        dto.setIsFeatured(item.getIsFeatured());
+        dto.setDate(item.getDate());
+        dto.setTags(copyTags(item.getTags()));
+        return dto;
+    }
+
+    /**
+     * 複製為一般 ArrayList，確保緩存序列化後可還原
+     */
+    private static List<String> copyTags(List<String> tags) {
+        return tags == null ? new ArrayList<>() : new ArrayList<>(tags);
+    }
+
+    /**
+     * 作者未填寫摘要時改用產生的摘要
+     */
+    private static String orGenerated(String authored, String generated) {
+        return authored != null && !authored.isBlank() ? authored : generated;
+    }
+
+    /**
+     * 選出所要語系的值，該語系為空時改用另一語系
+     */
+    private static String pick(boolean zh, String en, String zhValue) {
+        String preferred = zh ? zhValue : en;
+        String fallback = zh ? en : zhValue;
+        return preferred != null && !preferred.isBlank() ? preferred : fallback;
+    }
+}
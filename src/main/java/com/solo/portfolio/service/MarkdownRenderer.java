@@ -0,0 +1,187 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.model.dto.TocEntry;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Markdown 渲染器
+ * 將文章內容轉為已清理的HTML，並計算目錄、字數、閱讀時間與摘要
+ * 純計算元件，不存取資料庫或緩存
+ */
+@Component
+public class MarkdownRenderer {
+
+    /**
+     * 自動產生摘要的最大字元數（以code point計）
+     */
+    private static final int EXCERPT_LENGTH = 160;
+
+    /**
+     * 拉丁文字每分鐘閱讀字數
+     */
+    private static final double LATIN_WORDS_PER_MINUTE = 220.0;
+
+    /**
+     * 中日韓文字每分鐘閱讀字數
+     */
+    private static final double CJK_CHARS_PER_MINUTE = 400.0;
+
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder().sanitizeUrls(true).build();
+    private final Safelist safelist = Safelist.relaxed()
+            .addAttributes("code", "class")
+            .addAttributes("pre", "class")
+            .preserveRelativeLinks(true);
+
+    /**
+     * 渲染結果
+     * @param html 已清理的HTML
+     * @param toc 目錄
+     * @param wordCount 字數（拉丁單字數 + 中日韓字元數）
+     * @param readingMinutes 預估閱讀分鐘數
+     * @param excerpt 由內容產生的摘要
+     */
+    public record Result(String html, List<TocEntry> toc, int wordCount, int readingMinutes, String excerpt) {
+    }
+
+    /**
+     * 渲染Markdown內容
+     * @param markdown Markdown原文，可為null
+     * @return 渲染結果；原文為空時所有欄位皆為空值
+     */
+    public Result render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return new Result(null, new ArrayList<>(), 0, 0, null);
+        }
+
+        String rawHtml = htmlRenderer.render(parser.parse(markdown));
+        String cleanHtml = Jsoup.clean(rawHtml, "http://localhost/", safelist,
+                new Document.OutputSettings().prettyPrint(false));
+
+        Document doc = Jsoup.parseBodyFragment(cleanHtml);
+        doc.outputSettings().prettyPrint(false);
+        List<TocEntry> toc = buildToc(doc);
+
+        String text = doc.body().text();
+        int[] counts = countWords(text);
+        int wordCount = counts[0] + counts[1];
+        int readingMinutes = wordCount == 0 ? 0
+                : (int) Math.max(1, Math.ceil(counts[0] / LATIN_WORDS_PER_MINUTE + counts[1] / CJK_CHARS_PER_MINUTE));
+
+        return new Result(doc.body().html(), toc, wordCount, readingMinutes, excerpt(text));
+    }
+
+    /**
+     * 為每個標題加上錨點ID並建立目錄
+     * 錨點在清理之後才加入，因此不受白名單影響
+     */
+    private List<TocEntry> buildToc(Document doc) {
+        List<TocEntry> toc = new ArrayList<>();
+        Map<String, Integer> used = new HashMap<>();
+        for (Element heading : doc.select("h1, h2, h3, h4, h5, h6")) {
+            String text = heading.text();
+            String anchor = slugify(text);
+            if (anchor.isEmpty()) {
+                anchor = "section";
+            }
+            int seen = used.merge(anchor, 1, Integer::sum);
+            if (seen > 1) {
+                anchor = anchor + "-" + seen;
+            }
+            heading.attr("id", anchor);
+            toc.add(new TocEntry(heading.tagName().charAt(1) - '0', text, anchor));
+        }
+        return toc;
+    }
+
+    /**
+     * 產生錨點：保留各語系的字母與數字，其他字元轉為連字號
+     */
+    private static String slugify(String text) {
+        StringBuilder slug = new StringBuilder();
+        boolean dash = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (Character.isLetterOrDigit(cp)) {
+                if (dash && slug.length() > 0) {
+                    slug.append('-');
+                }
+                slug.appendCodePoint(Character.toLowerCase(cp));
+                dash = false;
+            } else {
+                dash = true;
+            }
+            i += Character.charCount(cp);
+        }
+        return slug.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 計算字數
+     * 中日韓文字沒有空白分詞，每個字元計為一字；其他文字以連續字母數字為一個單字
+     * @return [拉丁單字數, 中日韓字元數]
+     */
+    private static int[] countWords(String text) {
+        int latin = 0;
+        int cjk = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (isCjk(cp)) {
+                cjk++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(cp)) {
+                if (!inWord) {
+                    latin++;
+                    inWord = true;
+                }
+            } else if (cp != '\'' && cp != '’') {
+                inWord = false;
+            }
+            i += Character.charCount(cp);
+        }
+        return new int[]{latin, cjk};
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 由純文字產生摘要
+     * 超過長度時截斷；截在拉丁單字中間時退回到前一個空白
+     */
+    private static String excerpt(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String trimmed = text.trim();
+        if (trimmed.codePointCount(0, trimmed.length()) <= EXCERPT_LENGTH) {
+            return trimmed;
+        }
+        int end = trimmed.offsetByCodePoints(0, EXCERPT_LENGTH);
+        if (Character.isLetterOrDigit(trimmed.codePointAt(end)) && !isCjk(trimmed.codePointAt(end))) {
+            int space = trimmed.lastIndexOf(' ', end);
+            if (space > end - 30 && space > 0) {
+                end = space;
+            }
+        }
+        return trimmed.substring(0, end).trim() + "…";
+    }
+}
@@ -0,0 +1,556 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.model.dto.MediaAssetResponse;
+import com.solo.portfolio.model.dto.MediaVariantResponse;
+import com.solo.portfolio.model.entity.MediaAsset;
+import com.solo.portfolio.model.entity.MediaStatus;
+import com.solo.portfolio.repository.MediaAssetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 媒體檔案服務類
+ * 上傳的圖片以內容的 SHA-256 雜湊值為檔名存放於本機磁碟，相同內容只保存一份；
+ * 儲存後於有上限的背景執行緒池產生多種寬度的 WebP、AVIF 與 JPEG 縮圖版本及 BlurHash 模糊預覽。
+ * 檔案一經寫入便不再改變，可由控制器以長效快取標頭直接送出
+ */
+@Slf4j
+@Service
+public class MediaService {
+
+    public static final String FILE_ORIGINAL = "original";
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private static final Pattern VARIANT_PATTERN = Pattern.compile("^w(\\d{1,5})\\.(webp|avif|jpg)$");
+
+    /**
+     * 接受的原始格式（ImageIO 格式名稱）與對應的MIME類型
+     */
+    private static final Map<String, String> SUPPORTED_FORMATS = Map.of(
+        "jpeg", "image/jpeg",
+        "png", "image/png",
+        "gif", "image/gif",
+        "bmp", "image/bmp");
+
+    private static final Map<String, String> VARIANT_CONTENT_TYPES = Map.of(
+        "webp", "image/webp",
+        "avif", "image/avif",
+        "jpg", "image/jpeg");
+
+    /**
+     * 計算模糊預覽前先將圖片縮小到的寬度
+     */
+    private static final int BLURHASH_SAMPLE_WIDTH = 32;
+
+    /**
+     * 等待中的檔案超過此時間仍未處理，視為工作中斷並重新排入
+     */
+    private static final long STALE_PENDING_MINUTES = 10;
+
+    private static final long ENCODER_TIMEOUT_SECONDS = 120;
+
+    private final MediaAssetRepository mediaAssetRepository;
+    private final TaskExecutor mediaTaskExecutor;
+    private final Path root;
+    private final int[] widths;
+    private final long maxPixels;
+    private final String webpCommand;
+    private final String avifCommand;
+
+    /**
+     * 外部編碼器無法執行時記錄下來，之後不再嘗試，也只記錄一次警告
+     */
+    private final Set<String> unavailableEncoders = ConcurrentHashMap.newKeySet();
+
+    public MediaService(MediaAssetRepository mediaAssetRepository,
+                        @Qualifier(AsyncConfig.MEDIA_TASK_EXECUTOR) TaskExecutor mediaTaskExecutor,
+                        @Value("${app.media.root:./media}") String root,
+                        @Value("${app.media.widths:320,640,1280,1920}") int[] widths,
+                        @Value("${app.media.max-pixels:50000000}") long maxPixels,
+                        @Value("${app.media.webp-command:cwebp -quiet -q 80 {in} -o {out}}") String webpCommand,
+                        @Value("${app.media.avif-command:avifenc -q 60 -s 6 {in} {out}}") String avifCommand) {
+        this.mediaAssetRepository = mediaAssetRepository;
+        this.mediaTaskExecutor = mediaTaskExecutor;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+        this.maxPixels = maxPixels;
+        this.webpCommand = webpCommand;
+        this.avifCommand = avifCommand;
+    }
+
+    /**
+     * 儲存上傳的圖片
+     * 上傳內容由容器寫入暫存檔後移至媒體目錄，過程中不會整份讀入記憶體；
+     * 內容已存在時直接返回既有紀錄，不重複儲存；先前處理失敗的檔案會重新排入處理
+     * @param file 上傳的檔案
+     * @return 媒體檔案資訊
+     * @throws IllegalArgumentException 檔案為空、不是支援的圖片格式或像素數過大時拋出
+     */
+    public MediaAssetResponse store(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Empty upload");
+        }
+        Path incoming = root.resolve("tmp");
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            // 與媒體目錄位於同一檔案系統，容器可直接改名而非複製
+            file.transferTo(temp);
+            String hash = sha256(temp);
+
+            Optional<MediaAsset> existing = mediaAssetRepository.findById(hash);
+            if (existing.isPresent()) {
+                MediaAsset asset = existing.get();
+                if (asset.getStatus() == MediaStatus.FAILED && mediaAssetRepository.resetFailed(hash) > 0) {
+                    asset.setStatus(MediaStatus.PENDING);
+                    asset.setError(null);
+                    processAsync(hash);
+                }
+                return toResponse(asset);
+            }
+
+            ImageProbe probe = probe(temp);
+            Path original = originalPath(hash);
+            Files.createDirectories(original.getParent());
+            move(temp, original);
+
+            MediaAsset asset = new MediaAsset();
+            asset.setHash(hash);
+            asset.setContentType(probe.contentType());
+            asset.setByteSize(Files.size(original));
+            asset.setWidth(probe.width());
+            asset.setHeight(probe.height());
+            asset.setStatus(MediaStatus.PENDING);
+            try {
+                asset = mediaAssetRepository.save(asset);
+            } catch (DataIntegrityViolationException e) {
+                // 相同內容同時上傳，由先寫入的請求負責處理
+                return mediaAssetRepository.findById(hash).map(this::toResponse).orElseThrow(() -> e);
+            }
+            processAsync(hash);
+            return toResponse(asset);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 獲取媒體檔案資訊
+     * @param hash 內容雜湊值
+     * @return 媒體檔案資訊；雜湊值格式錯誤或不存在時為空
+     */
+    public Optional<MediaAssetResponse> getAsset(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        return mediaAssetRepository.findById(hash).map(this::toResponse);
+    }
+
+    /**
+     * 解析媒體檔案在磁碟上的位置
+     * 檔名只接受 original 或已產生的縮圖版本名稱，不會解析到媒體目錄之外
+     * @param hash 內容雜湊值
+     * @param name 檔名
+     * @return 檔案位置與MIME類型；不存在時為空
+     */
+    public Optional<MediaFile> resolveFile(String hash, String name) {
+        if (!isValidHash(hash) || name == null) {
+            return Optional.empty();
+        }
+        String contentType;
+        Path path;
+        if (FILE_ORIGINAL.equals(name)) {
+            Optional<MediaAsset> asset = mediaAssetRepository.findById(hash);
+            if (asset.isEmpty()) {
+                return Optional.empty();
+            }
+            contentType = asset.get().getContentType();
+            path = originalPath(hash);
+        } else {
+            Matcher matcher = VARIANT_PATTERN.matcher(name);
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            contentType = VARIANT_CONTENT_TYPES.get(matcher.group(2));
+            path = variantPath(hash, name);
+        }
+        try {
+            return Files.isRegularFile(path)
+                ? Optional.of(new MediaFile(path, contentType, Files.size(path)))
+                : Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to stat media file {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 將縮圖處理排入背景執行緒池
+     * @param hash 內容雜湊值
+     */
+    public void processAsync(String hash) {
+        mediaTaskExecutor.execute(() -> process(hash));
+    }
+
+    /**
+     * 產生縮圖版本與模糊預覽
+     * 每個版本先寫入暫存檔再改名，讀取端不會看到寫到一半的檔案
+     * @param hash 內容雜湊值
+     */
+    public void process(String hash) {
+        MediaAsset asset = mediaAssetRepository.findById(hash).orElse(null);
+        if (asset == null || asset.getStatus() == MediaStatus.READY) {
+            return;
+        }
+        try {
+            BufferedImage image = ImageIO.read(originalPath(hash).toFile());
+            if (image == null) {
+                throw new IOException("Unreadable image");
+            }
+            Files.createDirectories(variantPath(hash, FILE_ORIGINAL).getParent());
+
+            List<String> variants = new ArrayList<>();
+            for (int width : targetWidths(image.getWidth())) {
+                BufferedImage scaled = resize(image, width);
+                variants.addAll(writeVariants(hash, scaled, width));
+            }
+
+            asset.setBlurhash(BlurHash.encode(resize(image, Math.min(BLURHASH_SAMPLE_WIDTH, image.getWidth())), 4, 3));
+            asset.setVariants(variants);
+            asset.setError(null);
+            asset.setStatus(MediaStatus.READY);
+            asset.setProcessedAt(LocalDateTime.now());
+            mediaAssetRepository.save(asset);
+        } catch (Exception e) {
+            log.error("Failed to process media {}", hash, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            asset.setError(message.length() > 500 ? message.substring(0, 500) : message);
+            asset.setStatus(MediaStatus.FAILED);
+            asset.setProcessedAt(LocalDateTime.now());
+            mediaAssetRepository.save(asset);
+        }
+    }
+
+    /**
+     * 重新排入等待過久的處理工作
+     * 服務重啟時佇列中的工作會遺失，由此補上
+     */
+    @Scheduled(fixedDelayString = "${app.media.requeue-interval-ms:300000}", initialDelay = 60_000)
+    public void requeueStalePending() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(STALE_PENDING_MINUTES);
+        for (MediaAsset asset : mediaAssetRepository.findTop50ByStatusAndCreatedAtBefore(MediaStatus.PENDING, before)) {
+            processAsync(asset.getHash());
+        }
+    }
+
+    /**
+     * 寫出單一寬度的各格式版本
+     * JPEG 一定產生；WebP 與 AVIF 交由外部編碼器，未安裝時略過
+     */
+    private List<String> writeVariants(String hash, BufferedImage scaled, int width) throws IOException {
+        List<String> written = new ArrayList<>();
+        String jpg = "w" + width + ".jpg";
+        Path jpgTemp = tempFor(hash, jpg);
+        try {
+            writeJpeg(scaled, jpgTemp);
+            move(jpgTemp, variantPath(hash, jpg));
+            written.add(jpg);
+        } finally {
+            Files.deleteIfExists(jpgTemp);
+        }
+
+        if (isBlank(webpCommand) && isBlank(avifCommand)) {
+            return written;
+        }
+        // 外部編碼器以無損的 PNG 作為輸入，保留透明度
+        Path source = Files.createTempFile(root.resolve("tmp"), "encode-", ".png");
+        try {
+            ImageIO.write(scaled, "png", source.toFile());
+            for (String format : List.of("webp", "avif")) {
+                String command = "webp".equals(format) ? webpCommand : avifCommand;
+                String name = "w" + width + "." + format;
+                if (encodeExternal(format, command, source, hash, name)) {
+                    written.add(name);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(source);
+        }
+        return written;
+    }
+
+    /**
+     * 以外部編碼器產生一個版本
+     * @return 成功產生時為true
+     */
+    private boolean encodeExternal(String format, String command, Path source, String hash, String name) {
+        if (isBlank(command) || unavailableEncoders.contains(format)) {
+            return false;
+        }
+        Path target = tempFor(hash, name);
+        try {
+            List<String> args = new ArrayList<>();
+            for (String part : command.trim().split("\\s+")) {
+                args.add(part.replace("{in}", source.toString()).replace("{out}", target.toString()));
+            }
+            Process process = new ProcessBuilder(args)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+            if (!process.waitFor(ENCODER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                log.warn("{} encoder timed out for media {}", format, hash);
+                return false;
+            }
+            if (process.exitValue() != 0 || !Files.isRegularFile(target) || Files.size(target) == 0) {
+                log.warn("{} encoder exited with {} for media {}", format, process.exitValue(), hash);
+                return false;
+            }
+            move(target, variantPath(hash, name));
+            return true;
+        } catch (IOException e) {
+            // 編碼器未安裝：停用該格式，只保留 JPEG 版本
+            if (unavailableEncoders.add(format)) {
+                log.warn("{} encoder unavailable, skipping {} variants: {}", format, format, e.getMessage());
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary file {}", target, e);
+            }
+        }
+    }
+
+    /**
+     * 讀取圖片標頭以確認格式與尺寸，不解碼像素
+     */
+    private ImageProbe probe(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                String contentType = SUPPORTED_FORMATS.get(format);
+                if (contentType == null) {
+                    throw new IllegalArgumentException("Unsupported image format: " + format);
+                }
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image dimensions out of range: " + width + "x" + height);
+                }
+                return new ImageProbe(contentType, width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 依原圖寬度決定要產生的寬度，不放大；
+     * 原圖不比最大設定寬度寬時，另外產生一個原尺寸版本
+     */
+    private int[] targetWidths(int originalWidth) {
+        int[] targets = Arrays.stream(widths).filter(w -> w < originalWidth).toArray();
+        if (widths.length == 0 || originalWidth <= widths[widths.length - 1]) {
+            targets = Arrays.copyOf(targets, targets.length + 1);
+            targets[targets.length - 1] = originalWidth;
+        }
+        return targets;
+    }
+
+    /**
+     * 等比例縮放圖片
+     * 縮小超過一半時分次減半，避免單次雙線性插值造成鋸齒
+     */
+    private static BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = nextWidth == width ? height : Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth != width);
+        return current;
+    }
+
+    /**
+     * 寫出 JPEG；JPEG 不支援透明度，透明區域以白色填底
+     */
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.82f);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 以串流方式計算檔案的 SHA-256
+     */
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 以改名方式放到最終位置；目標已存在時內容相同，直接覆蓋
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 原始檔位置：以雜湊值前兩碼分目錄，避免單一目錄檔案過多
+     */
+    private Path originalPath(String hash) {
+        return root.resolve("originals").resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path variantPath(String hash, String name) {
+        return root.resolve("variants").resolve(hash.substring(0, 2)).resolve(hash).resolve(name);
+    }
+
+    private Path tempFor(String hash, String name) {
+        return variantPath(hash, "." + name + ".tmp");
+    }
+
+    private MediaAssetResponse toResponse(MediaAsset asset) {
+        String base = "/api/media/" + asset.getHash() + "/";
+        MediaAssetResponse response = new MediaAssetResponse();
+        response.setHash(asset.getHash());
+        response.setContentType(asset.getContentType());
+        response.setByteSize(asset.getByteSize());
+        response.setWidth(asset.getWidth());
+        response.setHeight(asset.getHeight());
+        response.setStatus(asset.getStatus().name());
+        response.setBlurhash(asset.getBlurhash());
+        response.setUrl(base + FILE_ORIGINAL);
+        response.setCreatedAt(asset.getCreatedAt());
+        List<MediaVariantResponse> variants = new ArrayList<>();
+        for (String name : asset.getVariants()) {
+            Matcher matcher = VARIANT_PATTERN.matcher(name);
+            if (matcher.matches()) {
+                variants.add(new MediaVariantResponse(matcher.group(2), Integer.parseInt(matcher.group(1)), base + name));
+            }
+        }
+        response.setVariants(variants);
+        return response;
+    }
+
+    private static boolean isValidHash(String hash) {
+        return hash != null && HASH_PATTERN.matcher(hash).matches();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record ImageProbe(String contentType, int width, int height) {
+    }
+
+    /**
+     * 磁碟上的媒體檔案
+     * @param path 檔案位置
+     * @param contentType MIME類型
+     * @param size 檔案大小
+     */
+    public record MediaFile(Path path, String contentType, long size) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.solo.portfolio.service;
 
 import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.model.entity.UuidV7Generator;
 import com.solo.portfolio.repository.PortfolioItemRepository;
 import com.solo.portfolio.service.cache.PortfolioItemCacheService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -41,6 +45,24 @@ public class PortfolioItemService {
         return item;
     }
     
+    /**
+     * 依ID批量獲取作品
+     * 以單次 MGET 讀取緩存，未命中的以單次查詢自資料庫讀取後以管線寫回緩存
+     * @param ids 作品ID列表
+     * @return 依請求順序排列的作品，格式不符或不存在的ID略過，重複的ID只返回一次
+     */
+    public List<PortfolioItem> getPortfolioItems(List<String> ids) {
+        List<String> distinct = ids.stream().filter(UuidV7Generator::isValid).distinct().toList();
+        Map<String, PortfolioItem> found = new HashMap<>(portfolioItemCacheService.getCachedPortfolioItems(distinct));
+        List<String> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            List<PortfolioItem> loaded = portfolioItemRepository.findAllById(missing);
+            loaded.forEach(item -> found.put(item.getId(), item));
+            portfolioItemCacheService.cachePortfolioItems(loaded);
+        }
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+    
     /**
      * 獲取精選作品列表
      */
@@ -52,7 +74,7 @@ public class PortfolioItemService {
         }
         
         // 從數據庫獲取
-        List<PortfolioItem> featuredItems = portfolioItemRepository.findByIsFeaturedTrue();
+        List<PortfolioItem> featuredItems = portfolioItemRepository.findByIsFeaturedTrueOrderByRankKeyAscIdAsc();
         portfolioItemCacheService.cacheFeaturedItems(featuredItems);
         
         return featuredItems;
@@ -69,7 +91,7 @@ public class PortfolioItemService {
         }
         
         // 從數據庫獲取
-        List<PortfolioItem> items = portfolioItemRepository.findByCategoryKey(categoryKey);
+        List<PortfolioItem> items = portfolioItemRepository.findByCategoryKeyOrderByRankKeyAscIdAsc(categoryKey);
         portfolioItemCacheService.cacheCategoryItems(categoryKey, items);
         
         return items;
@@ -0,0 +1,195 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.repository.PortfolioItemRepository;
+import com.solo.portfolio.service.cache.PortfolioItemCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 作品手動排序服務類
+ * 每個作品帶有分數索引排序鍵，拖放移動時只在前後鄰居的鍵之間產生新鍵並改寫該作品一列，
+ * 也只失效包含該作品的列表緩存。鍵因反覆插入同一位置而變長，
+ * 或有尚未指派鍵的作品時，由背景排程一次重新指派均勻分布的短鍵
+ */
+@Slf4j
+@Service
+public class PortfolioOrderService {
+
+    /**
+     * 重新平衡鎖的存活時間（秒）
+     */
+    private static final long REBALANCE_LOCK_TIMEOUT = 300;
+
+    private static final String REBALANCE_SELECT_SQL =
+        "SELECT id, category_key FROM portfolio_items "
+            + "ORDER BY rank_key NULLS LAST, date DESC NULLS LAST, id FOR UPDATE";
+
+    private static final String REBALANCE_UPDATE_SQL = "UPDATE portfolio_items SET rank_key = ? WHERE id = ?";
+
+    private final PortfolioItemRepository portfolioItemRepository;
+    private final PortfolioItemCacheService portfolioItemCacheService;
+    private final RedisService redisService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 排序鍵超過此長度時重新平衡
+     */
+    private final int maxKeyLength;
+
+    public PortfolioOrderService(PortfolioItemRepository portfolioItemRepository,
+                                 PortfolioItemCacheService portfolioItemCacheService,
+                                 RedisService redisService,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.portfolio.rank-key-max-length:24}") int maxKeyLength) {
+        this.portfolioItemRepository = portfolioItemRepository;
+        this.portfolioItemCacheService = portfolioItemCacheService;
+        this.redisService = redisService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * 新作品的排序鍵，排在目前最前面的作品之前
+     * @return 排序鍵
+     */
+    public String keyForNewItem() {
+        return RankKey.between(null, portfolioItemRepository.findMinRankKey().orElse(null));
+    }
+
+    /**
+     * 將作品移到兩個鄰居之間
+     * 在交易中鎖住作品與鄰居後計算新鍵，只改寫被移動的作品
+     * @param id 作品ID
+     * @param previousId 移動後排在前面的作品ID，移到最前面時為null
+     * @param nextId 移動後排在後面的作品ID，移到最後面時為null
+     * @return 移動後的作品；作品不存在時為空
+     * @throws IllegalArgumentException 鄰居不存在或與作品本身相同時拋出
+     * @throws IllegalStateException 鄰居順序與目前排序不符（畫面已過期）時拋出
+     */
+    public Optional<PortfolioItem> move(String id, String previousId, String nextId) {
+        if (id.equals(previousId) || id.equals(nextId)) {
+            throw new IllegalArgumentException("An item cannot be its own neighbor");
+        }
+        if (portfolioItemRepository.existsByRankKeyIsNull()) {
+            // 鄰居可能尚無排序鍵，先補齊再移動
+            rebalance();
+        }
+
+        PortfolioItem moved = transactionTemplate.execute(status -> {
+            List<String> ids = Stream.of(id, previousId, nextId).filter(Objects::nonNull).distinct().toList();
+            Map<String, PortfolioItem> locked = portfolioItemRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(PortfolioItem::getId, Function.identity()));
+            PortfolioItem item = locked.get(id);
+            if (item == null) {
+                return null;
+            }
+            String before = neighborKey(locked, previousId);
+            String after = neighborKey(locked, nextId);
+            if (before != null && after != null && before.compareTo(after) >= 0) {
+                throw new IllegalStateException("Neighbors are no longer adjacent in this order");
+            }
+            String key = RankKey.between(before, after);
+            portfolioItemRepository.updateRankKey(id, key);
+            item.setRankKey(key);
+            return item;
+        });
+        if (moved == null) {
+            return Optional.empty();
+        }
+
+        portfolioItemCacheService.deletePortfolioItemCache(id);
+        portfolioItemCacheService.deleteLocalizedItemCache(null);
+        portfolioItemCacheService.deleteCategoryItemsCache(moved.getCategoryKey());
+        if (Boolean.TRUE.equals(moved.getIsFeatured())) {
+            portfolioItemCacheService.deleteFeaturedItemsCache();
+        }
+        return Optional.of(moved);
+    }
+
+    /**
+     * 檢查排序鍵是否需要重新平衡
+     */
+    @Scheduled(fixedDelayString = "${app.portfolio.rank-rebalance-check-ms:60000}", initialDelay = 30000)
+    public void rebalanceIfNeeded() {
+        try {
+            Integer longest = portfolioItemRepository.findMaxRankKeyLength();
+            if (portfolioItemRepository.existsByRankKeyIsNull() || (longest != null && longest > maxKeyLength)) {
+                rebalance();
+            }
+        } catch (Exception e) {
+            log.error("Failed to check portfolio rank keys", e);
+        }
+    }
+
+    /**
+     * 依目前順序重新指派均勻分布的排序鍵
+     * 尚無排序鍵的作品依日期由新到舊排在最後。以列鎖與進行中的移動互斥，多個實例以分散式鎖互斥
+     */
+    public void rebalance() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_PORTFOLIO_REBALANCE, token, REBALANCE_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            List<String> ids = new ArrayList<>();
+            Set<String> categories = new HashSet<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.query(REBALANCE_SELECT_SQL, rs -> {
+                    ids.add(rs.getString(1));
+                    categories.add(rs.getString(2));
+                });
+                List<String> keys = RankKey.spread(ids.size());
+                List<Object[]> args = new ArrayList<>(ids.size());
+                for (int i = 0; i < ids.size(); i++) {
+                    args.add(new Object[] {keys.get(i), ids.get(i)});
+                }
+                jdbcTemplate.batchUpdate(REBALANCE_UPDATE_SQL, args);
+            });
+
+            ids.forEach(portfolioItemCacheService::deletePortfolioItemCache);
+            categories.stream().filter(Objects::nonNull).forEach(portfolioItemCacheService::deleteCategoryItemsCache);
+            portfolioItemCacheService.deleteLocalizedItemCache(null);
+            portfolioItemCacheService.deleteFeaturedItemsCache();
+            log.info("Rebalanced rank keys of {} portfolio items", ids.size());
+        } catch (Exception e) {
+            log.error("Failed to rebalance portfolio rank keys", e);
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_PORTFOLIO_REBALANCE, token);
+        }
+    }
+
+    private static String neighborKey(Map<String, PortfolioItem> locked, String neighborId) {
+        if (neighborId == null) {
+            return null;
+        }
+        PortfolioItem neighbor = locked.get(neighborId);
+        if (neighbor == null) {
+            throw new IllegalArgumentException("Unknown neighbor: " + neighborId);
+        }
+        if (neighbor.getRankKey() == null) {
+            throw new IllegalStateException("Neighbor has no rank key yet: " + neighborId);
+        }
+        return neighbor.getRankKey();
+    }
+}
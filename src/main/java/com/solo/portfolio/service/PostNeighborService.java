@@ -0,0 +1,113 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.PostNeighborResponse;
+import com.solo.portfolio.model.dto.PostNeighborsResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 上一篇／下一篇文章服務類
+ * 以兩次 (date, id) 索引查詢取得相鄰文章，不需載入整個文章列表；
+ * 結果與文章一同緩存，相鄰位置有文章新增、刪除或改變時清除受影響的緩存
+ */
+@Service
+@RequiredArgsConstructor
+public class PostNeighborService {
+
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostCacheService blogPostCacheService;
+
+    /**
+     * 獲取文章的上一篇與下一篇
+     * @param id 文章ID
+     * @param scope all 表示全部文章，category 表示同分類文章
+     * @return 相鄰文章；文章不存在時為空
+     */
+    public Optional<PostNeighborsResponse> getNeighbors(String id, String scope) {
+        if (!UuidV7Generator.isValid(id)) {
+            return Optional.empty();
+        }
+        String resolvedScope = RedisCacheConstants.NEIGHBORS_SCOPE_CATEGORY.equals(scope)
+            ? RedisCacheConstants.NEIGHBORS_SCOPE_CATEGORY : RedisCacheConstants.NEIGHBORS_SCOPE_ALL;
+        Optional<PostNeighborsResponse> cached = blogPostCacheService.getCachedNeighbors(id, resolvedScope);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<BlogPost> post = blogPostRepository.findById(id);
+        if (post.isEmpty()) {
+            return Optional.empty();
+        }
+        PostNeighborsResponse neighbors = lookup(post.get(), resolvedScope);
+        blogPostCacheService.cacheNeighbors(neighbors);
+        return Optional.of(neighbors);
+    }
+
+    /**
+     * 文章新增、刪除或摘要欄位變更後，清除自身與前後相鄰文章的緩存
+     * 對刪除的文章仍可依其 (date, id) 找到原本的前後文章
+     * @param previous 修改前的文章快照，新建時為null
+     * @param current 修改後或已刪除的文章
+     */
+    public void evictAround(BlogPost previous, BlogPost current) {
+        Set<String> ids = new LinkedHashSet<>();
+        ids.add(current.getId());
+        if (previous != null) {
+            collectNeighborIds(previous, ids);
+        }
+        collectNeighborIds(current, ids);
+        ids.forEach(blogPostCacheService::deleteNeighborsCache);
+    }
+
+    private void collectNeighborIds(BlogPost post, Set<String> ids) {
+        for (String scope : RedisCacheConstants.NEIGHBORS_SCOPES) {
+            PostNeighborsResponse neighbors = lookup(post, scope);
+            if (neighbors.getPrevious() != null) {
+                ids.add(neighbors.getPrevious().getId());
+            }
+            if (neighbors.getNext() != null) {
+                ids.add(neighbors.getNext().getId());
+            }
+        }
+    }
+
+    private PostNeighborsResponse lookup(BlogPost post, String scope) {
+        PostNeighborsResponse neighbors = new PostNeighborsResponse();
+        neighbors.setPostId(post.getId());
+        neighbors.setScope(scope);
+        // 沒有日期的文章不參與排序；沒有分類時同分類範圍沒有相鄰文章
+        if (post.getDate() == null) {
+            return neighbors;
+        }
+        if (RedisCacheConstants.NEIGHBORS_SCOPE_CATEGORY.equals(scope)) {
+            if (post.getCategoryKey() == null) {
+                return neighbors;
+            }
+            neighbors.setPrevious(blogPostRepository
+                .findPreviousInCategory(post.getCategoryKey(), post.getDate(), post.getId())
+                .map(PostNeighborService::toResponse).orElse(null));
+            neighbors.setNext(blogPostRepository
+                .findNextInCategory(post.getCategoryKey(), post.getDate(), post.getId())
+                .map(PostNeighborService::toResponse).orElse(null));
+        } else {
+            neighbors.setPrevious(blogPostRepository.findPrevious(post.getDate(), post.getId())
+                .map(PostNeighborService::toResponse).orElse(null));
+            neighbors.setNext(blogPostRepository.findNext(post.getDate(), post.getId())
+                .map(PostNeighborService::toResponse).orElse(null));
+        }
+        return neighbors;
+    }
+
+    private static PostNeighborResponse toResponse(BlogPostRepository.NeighborView view) {
+        return new PostNeighborResponse(view.getId(), view.getTitle(), view.getTitleZh(), view.getImageUrl(),
+            view.getCategoryKey(), view.getDate());
+    }
+}
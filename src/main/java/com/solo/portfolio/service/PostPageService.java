@@ -0,0 +1,233 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.CommentNodeResponse;
+import com.solo.portfolio.model.dto.CursorPage;
+import com.solo.portfolio.model.dto.PostNeighborsResponse;
+import com.solo.portfolio.model.dto.PostPageResponse;
+import com.solo.portfolio.model.dto.RelatedContentResponse;
+import com.solo.portfolio.model.dto.RenderedPostResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.repository.BlogPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 文章頁面組合服務類
+ * 將開啟文章頁面所需的各項查詢同時送出，在共同期限內收集結果。
+ * 文章本身為必要區塊；評論、按讚狀態、上下篇、相關內容與渲染結果為選用區塊，
+ * 逾時或失敗時省略並列於 degraded，不影響整頁回應。
+ * 各區塊以 FutureTask 送入執行緒池，逾時取消會中斷仍在執行的查詢執行緒
+ */
+@Slf4j
+@Service
+public class PostPageService {
+
+    public static final String SECTION_RENDERED = "rendered";
+    public static final String SECTION_COMMENTS = "comments";
+    public static final String SECTION_LIKED = "liked";
+    public static final String SECTION_NEIGHBORS = "neighbors";
+    public static final String SECTION_RELATED = "related";
+    public static final String SECTION_COUNTERS = "counters";
+
+    private final BlogPostService blogPostService;
+    private final BlogPostRepository blogPostRepository;
+    private final LocalizedContentService localizedContentService;
+    private final ContentRenderService contentRenderService;
+    private final CommentThreadService commentThreadService;
+    private final LikeService likeService;
+    private final PostNeighborService postNeighborService;
+    private final RelatedContentService relatedContentService;
+    private final AsyncTaskExecutor pageTaskExecutor;
+
+    /**
+     * 所有區塊共用的等待期限（毫秒）
+     */
+    private final long deadlineMs;
+
+    /**
+     * 第一頁評論包含的頂層評論數
+     */
+    private final int commentPageSize;
+
+    /**
+     * 每個討論串內嵌的回覆數
+     */
+    private final int inlineReplies;
+
+    public PostPageService(BlogPostService blogPostService,
+                           BlogPostRepository blogPostRepository,
+                           LocalizedContentService localizedContentService,
+                           ContentRenderService contentRenderService,
+                           CommentThreadService commentThreadService,
+                           LikeService likeService,
+                           PostNeighborService postNeighborService,
+                           RelatedContentService relatedContentService,
+                           @Qualifier(AsyncConfig.PAGE_TASK_EXECUTOR) AsyncTaskExecutor pageTaskExecutor,
+                           @Value("${app.pages.deadline-ms:800}") long deadlineMs,
+                           @Value("${app.pages.comment-page-size:20}") int commentPageSize,
+                           @Value("${app.pages.inline-replies:3}") int inlineReplies) {
+        this.blogPostService = blogPostService;
+        this.blogPostRepository = blogPostRepository;
+        this.localizedContentService = localizedContentService;
+        this.contentRenderService = contentRenderService;
+        this.commentThreadService = commentThreadService;
+        this.likeService = likeService;
+        this.postNeighborService = postNeighborService;
+        this.relatedContentService = relatedContentService;
+        this.pageTaskExecutor = pageTaskExecutor;
+        this.deadlineMs = deadlineMs;
+        this.commentPageSize = commentPageSize;
+        this.inlineReplies = inlineReplies;
+    }
+
+    /**
+     * 獲取文章頁面組合資料
+     * 選用區塊先送出背景查詢，文章本身在呼叫端執行緒讀取；
+     * 文章不存在時取消其餘查詢
+     * @param id 文章ID
+     * @param lang 已決定的語系，為null時返回完整雙語實體與渲染結果
+     * @param userId 目前使用者ID，未登入時為null
+     * @return 頁面資料；文章不存在時為空
+     */
+    public Optional<PostPageResponse> getPostPage(String id, String lang, String userId) {
+        if (!UuidV7Generator.isValid(id)) {
+            return Optional.empty();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        Future<Counters> counters = submit(() -> loadCounters(id));
+        Future<CursorPage<CommentNodeResponse>> comments = submit(() ->
+            commentThreadService.getThreads(id, null, commentPageSize, inlineReplies));
+        Future<Boolean> liked = userId == null
+            ? CompletableFuture.completedFuture(false)
+            : submit(() -> likeService.likedByUser(List.of(id), userId).getOrDefault(id, false));
+        Future<PostNeighborsResponse> neighbors = submit(() ->
+            postNeighborService.getNeighbors(id, RedisCacheConstants.NEIGHBORS_SCOPE_ALL).orElse(null));
+        Future<List<RelatedContentResponse>> related = submit(() -> relatedContentService.getRelated(id));
+        // 單語系內容已帶有渲染欄位，只有完整雙語實體需要另外查詢
+        Future<RenderedPostResponse> rendered = lang == null
+            ? submit(() -> contentRenderService.getRendered(id).orElse(null))
+            : CompletableFuture.completedFuture(null);
+        List<Future<?>> sections = List.of(counters, comments, liked, neighbors, related, rendered);
+
+        List<BlogPost> found = blogPostService.getBlogPosts(List.of(id));
+        if (found.isEmpty()) {
+            sections.forEach(future -> future.cancel(true));
+            return Optional.empty();
+        }
+        BlogPost post = found.get(0);
+
+        PostPageResponse page = new PostPageResponse();
+        page.setPost(lang == null ? post : localizedContentService.getPost(id, lang));
+
+        awaitAll(sections, deadline);
+
+        // 緩存的實體不含尚未寫回的讚數增量與之後的瀏覽數，計數逾時才退回使用實體上的值
+        Counters fresh = collect(counters, SECTION_COUNTERS, id, page);
+        if (fresh == null) {
+            fresh = new Counters(post.getLikes(), post.getViews(), post.getCommentsCount());
+        }
+        page.setLikes(fresh.likes());
+        page.setViews(fresh.views());
+        page.setCommentsCount(fresh.commentsCount());
+        page.setRendered(collect(rendered, SECTION_RENDERED, id, page));
+        page.setComments(collect(comments, SECTION_COMMENTS, id, page));
+        page.setLiked(collect(liked, SECTION_LIKED, id, page));
+        page.setNeighbors(collect(neighbors, SECTION_NEIGHBORS, id, page));
+        page.setRelated(collect(related, SECTION_RELATED, id, page));
+        return Optional.of(page);
+    }
+
+    /**
+     * 直接自資料庫讀取計數，並加上尚未寫回的讚數增量
+     */
+    private Counters loadCounters(String id) {
+        List<Object[]> rows = blogPostRepository.findCounters(id);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        long likes = Math.max(0, toLong(row[0]) + likeService.pendingDelta(id));
+        return new Counters((int) likes, (int) toLong(row[1]), (int) toLong(row[2]));
+    }
+
+    /**
+     * 將查詢送入頁面執行緒池
+     * 返回的 FutureTask 取消時會中斷執行中的執行緒；執行緒池滿載時返回失敗的 future，該區塊視同失敗省略
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return pageTaskExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 等待所有區塊完成或到達期限
+     * 個別區塊的失敗在收集時處理，這裡只負責等待
+     */
+    private void awaitAll(List<Future<?>> sections, long deadline) {
+        for (Future<?> section : sections) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                section.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException | CancellationException e) {
+                // 由 collect 逐一判斷各區塊狀態
+            }
+        }
+    }
+
+    /**
+     * 取出區塊結果
+     * 未正常完成的區塊取消其查詢（中斷執行中的執行緒）、記錄於 degraded 並返回null
+     */
+    private <T> T collect(Future<T> future, String section, String id, PostPageResponse page) {
+        if (future.isDone() && !future.isCancelled()) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.debug("Post page section {} failed for post {}", section, id, e.getCause());
+            }
+        }
+        future.cancel(true);
+        page.getDegraded().add(section);
+        log.warn("Post page section {} degraded for post {}", section, id);
+        return null;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    /**
+     * 文章計數
+     */
+    private record Counters(Integer likes, Integer views, Integer commentsCount) {
+    }
+}
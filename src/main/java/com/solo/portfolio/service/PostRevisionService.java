@@ -0,0 +1,331 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.model.dto.PostRevisionResponse;
+import com.solo.portfolio.model.dto.PostRevisionSummary;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.BlogPostRevision;
+import com.solo.portfolio.model.entity.RevisionKind;
+import com.solo.portfolio.model.entity.UuidV7Generator;
+import com.solo.portfolio.repository.BlogPostRevisionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文章修訂歷史服務類
+ * 每次儲存文章後記錄一個版本：平時只存與前一版本的差異，
+ * 每隔 snapshot-interval 個版本存一次完整快照，內容皆以 GZIP 壓縮。
+ * 還原任一版本時從最近的快照開始，最多套用 snapshot-interval - 1 個差異。
+ * 差異的計算與寫入在背景執行緒進行，同一篇文章依儲存順序逐一處理，不增加儲存請求的延遲
+ */
+@Slf4j
+@Service
+public class PostRevisionService {
+
+    /**
+     * 納入修訂歷史的文字欄位
+     */
+    private static final List<String> TEXT_FIELDS = List.of(
+        "title", "titleZh", "excerpt", "excerptZh", "content", "contentZh", "categoryKey", "imageUrl");
+
+    private static final String TAGS_FIELD = "tags";
+
+    /**
+     * 文字差異的鍵：共同前綴長度、共同後綴長度、中間替換的文字；欄位改為null時以 NULL_KEY 標記
+     */
+    private static final String PREFIX_KEY = "p";
+    private static final String SUFFIX_KEY = "s";
+    private static final String TEXT_KEY = "t";
+    private static final String NULL_KEY = "n";
+
+    private final BlogPostRevisionRepository blogPostRevisionRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor contentTaskExecutor;
+
+    /**
+     * 每隔多少個版本存一次完整快照
+     */
+    private final int snapshotInterval;
+
+    /**
+     * 各文章尚未完成的修訂寫入工作，用來讓同一篇文章的版本依序寫入
+     */
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    public PostRevisionService(BlogPostRevisionRepository blogPostRevisionRepository,
+                               ObjectMapper objectMapper,
+                               @Qualifier(AsyncConfig.CONTENT_TASK_EXECUTOR) TaskExecutor contentTaskExecutor,
+                               @Value("${app.revisions.snapshot-interval:10}") int snapshotInterval) {
+        this.blogPostRevisionRepository = blogPostRevisionRepository;
+        this.objectMapper = objectMapper;
+        this.contentTaskExecutor = contentTaskExecutor;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    }
+
+    /**
+     * 記錄文章儲存後的版本
+     * 在請求執行緒只擷取欄位參照，差異計算、壓縮與寫入交由背景執行緒
+     * @param previous 修改前的文章快照，新建時為null
+     * @param saved 儲存後的文章
+     */
+    public void record(BlogPost previous, BlogPost saved) {
+        Map<String, Object> before = previous == null ? null : capture(previous);
+        Map<String, Object> after = capture(saved);
+        String postId = saved.getId();
+
+        CompletableFuture<Void> task = pending.compute(postId, (key, tail) ->
+            (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail)
+                .exceptionally(e -> null)
+                .thenRunAsync(() -> write(postId, before, after), contentTaskExecutor));
+        task.whenComplete((result, e) -> pending.remove(postId, task));
+    }
+
+    /**
+     * 列出文章的修訂歷史
+     * @param postId 文章ID
+     * @return 由新到舊的修訂摘要
+     */
+    public List<PostRevisionSummary> listRevisions(String postId) {
+        return blogPostRevisionRepository.findByPostIdOrderByRevisionNoDesc(postId).stream()
+            .map(revision -> new PostRevisionSummary(
+                revision.getRevisionNo(),
+                revision.getKind().name(),
+                revision.getChangedFields() == null || revision.getChangedFields().isEmpty()
+                    ? List.of() : Arrays.asList(revision.getChangedFields().split(",")),
+                revision.getPayload().length,
+                revision.getCreatedAt()))
+            .toList();
+    }
+
+    /**
+     * 還原指定版本的完整內容
+     * 從該版本之前最近的快照開始，依序套用之後的差異
+     * @param postId 文章ID
+     * @param revisionNo 版本號
+     * @return 版本內容；版本不存在時為空
+     */
+    public Optional<PostRevisionResponse> getRevision(String postId, int revisionNo) {
+        Optional<BlogPostRevision> snapshot = blogPostRevisionRepository
+            .findFirstByPostIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc(
+                postId, RevisionKind.SNAPSHOT, revisionNo);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        List<BlogPostRevision> chain = blogPostRevisionRepository
+            .findByPostIdAndRevisionNoBetweenOrderByRevisionNo(postId, snapshot.get().getRevisionNo(), revisionNo);
+        BlogPostRevision target = chain.get(chain.size() - 1);
+        if (target.getRevisionNo() != revisionNo) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> state = decode(chain.get(0).getPayload());
+        for (BlogPostRevision delta : chain.subList(1, chain.size())) {
+            apply(state, decode(delta.getPayload()));
+        }
+        return Optional.of(toResponse(postId, target, state));
+    }
+
+    /**
+     * 在背景執行緒寫入一個版本
+     */
+    private void write(String postId, Map<String, Object> before, Map<String, Object> after) {
+        try {
+            Optional<BlogPostRevision> latest = blogPostRevisionRepository.findFirstByPostIdOrderByRevisionNoDesc(postId);
+            int nextNo = latest.map(revision -> revision.getRevisionNo() + 1).orElse(1);
+
+            // 修訂功能上線前建立的文章：先以修改前的內容建立基準快照
+            if (latest.isEmpty() && before != null) {
+                save(postId, 1, RevisionKind.SNAPSHOT, before, List.of(), hash(before));
+                nextNo = 2;
+            }
+
+            boolean snapshot = before == null;
+            if (!snapshot && latest.isPresent()) {
+                // 前一版本與修改前的內容不一致（例如某次寫入失敗）時，差異無法接上，改存快照
+                int lastSnapshotNo = blogPostRevisionRepository
+                    .findFirstByPostIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc(
+                        postId, RevisionKind.SNAPSHOT, latest.get().getRevisionNo())
+                    .map(BlogPostRevision::getRevisionNo)
+                    .orElse(0);
+                snapshot = !hash(before).equals(latest.get().getStateHash())
+                    || lastSnapshotNo == 0
+                    || nextNo - lastSnapshotNo >= snapshotInterval;
+            }
+
+            List<String> changed = before == null ? new ArrayList<>(after.keySet()) : changedFields(before, after);
+            if (changed.isEmpty()) {
+                return;
+            }
+            Map<String, Object> payload = snapshot ? after : diff(before, after, changed);
+            save(postId, nextNo, snapshot ? RevisionKind.SNAPSHOT : RevisionKind.DELTA, payload, changed, hash(after));
+        } catch (Exception e) {
+            log.error("Failed to record revision for blog post {}", postId, e);
+        }
+    }
+
+    private void save(String postId, int revisionNo, RevisionKind kind, Map<String, Object> payload,
+                      List<String> changed, String stateHash) {
+        BlogPostRevision revision = new BlogPostRevision();
+        revision.setId(UuidV7Generator.newId());
+        revision.setPostId(postId);
+        revision.setRevisionNo(revisionNo);
+        revision.setKind(kind);
+        revision.setPayload(encode(payload));
+        revision.setChangedFields(String.join(",", changed));
+        revision.setStateHash(stateHash);
+        blogPostRevisionRepository.save(revision);
+    }
+
+    /**
+     * 擷取納入修訂歷史的欄位，鍵的順序固定以便計算雜湊
+     */
+    private static Map<String, Object> capture(BlogPost post) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("title", post.getTitle());
+        state.put("titleZh", post.getTitleZh());
+        state.put("excerpt", post.getExcerpt());
+        state.put("excerptZh", post.getExcerptZh());
+        state.put("content", post.getContent());
+        state.put("contentZh", post.getContentZh());
+        state.put("categoryKey", post.getCategoryKey());
+        state.put("imageUrl", post.getImageUrl());
+        state.put(TAGS_FIELD, post.getTags() == null ? List.of() : List.copyOf(post.getTags()));
+        return state;
+    }
+
+    private static List<String> changedFields(Map<String, Object> before, Map<String, Object> after) {
+        List<String> changed = new ArrayList<>();
+        for (String field : after.keySet()) {
+            if (!Objects.equals(before.get(field), after.get(field))) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 計算變更欄位的差異
+     * 文字欄位只保留共同前綴與後綴之間被替換的片段；一般編輯集中在一處，差異遠小於全文
+     */
+    private static Map<String, Object> diff(Map<String, Object> before, Map<String, Object> after, List<String> changed) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        for (String field : changed) {
+            if (!TEXT_FIELDS.contains(field)) {
+                delta.put(field, after.get(field));
+                continue;
+            }
+            String newValue = (String) after.get(field);
+            if (newValue == null) {
+                delta.put(field, Map.of(NULL_KEY, true));
+                continue;
+            }
+            String oldValue = before.get(field) == null ? "" : (String) before.get(field);
+            int max = Math.min(oldValue.length(), newValue.length());
+            int prefix = 0;
+            while (prefix < max && oldValue.charAt(prefix) == newValue.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < max - prefix
+                && oldValue.charAt(oldValue.length() - 1 - suffix) == newValue.charAt(newValue.length() - 1 - suffix)) {
+                suffix++;
+            }
+            Map<String, Object> edit = new LinkedHashMap<>();
+            edit.put(PREFIX_KEY, prefix);
+            edit.put(SUFFIX_KEY, suffix);
+            edit.put(TEXT_KEY, newValue.substring(prefix, newValue.length() - suffix));
+            delta.put(field, edit);
+        }
+        return delta;
+    }
+
+    /**
+     * 將差異套用到前一版本的內容上
+     */
+    @SuppressWarnings("unchecked")
+    private static void apply(Map<String, Object> state, Map<String, Object> delta) {
+        delta.forEach((field, change) -> {
+            if (!TEXT_FIELDS.contains(field)) {
+                state.put(field, change);
+                return;
+            }
+            Map<String, Object> edit = (Map<String, Object>) change;
+            if (Boolean.TRUE.equals(edit.get(NULL_KEY))) {
+                state.put(field, null);
+                return;
+            }
+            String oldValue = state.get(field) == null ? "" : (String) state.get(field);
+            int prefix = ((Number) edit.get(PREFIX_KEY)).intValue();
+            int suffix = ((Number) edit.get(SUFFIX_KEY)).intValue();
+            state.put(field, oldValue.substring(0, prefix) + edit.get(TEXT_KEY)
+                + oldValue.substring(oldValue.length() - suffix));
+        });
+    }
+
+    private byte[] encode(Map<String, Object> payload) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Map<String, Object> decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, new TypeReference<LinkedHashMap<String, Object>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String hash(Map<String, Object> state) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(state));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PostRevisionResponse toResponse(String postId, BlogPostRevision revision, Map<String, Object> state) {
+        PostRevisionResponse response = new PostRevisionResponse();
+        response.setPostId(postId);
+        response.setRevisionNo(revision.getRevisionNo());
+        response.setCreatedAt(revision.getCreatedAt());
+        response.setTitle((String) state.get("title"));
+        response.setTitleZh((String) state.get("titleZh"));
+        response.setExcerpt((String) state.get("excerpt"));
+        response.setExcerptZh((String) state.get("excerptZh"));
+        response.setContent((String) state.get("content"));
+        response.setContentZh((String) state.get("contentZh"));
+        response.setCategoryKey((String) state.get("categoryKey"));
+        response.setImageUrl((String) state.get("imageUrl"));
+        Object tags = state.get(TAGS_FIELD);
+        response.setTags(tags == null ? new ArrayList<>() : new ArrayList<>((List<String>) tags));
+        return response;
+    }
+}
@@ -0,0 +1,113 @@
+package com.solo.portfolio.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分數索引排序鍵
+ * 以 base62 字元組成、代表 (0, 1) 之間小數的字串，字典序即數值順序。
+ * 任意兩個鍵之間總能產生新的鍵，移動項目只需改寫該項目自己的鍵；
+ * 鍵不以 '0' 結尾，確保任何鍵之前都還有空間
+ */
+public final class RankKey {
+
+    /**
+     * 依 ASCII 排序的數字，資料庫欄位須使用 "C" 定序才會與此順序一致
+     */
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final int BASE = DIGITS.length();
+
+    private RankKey() {
+    }
+
+    /**
+     * 產生介於兩個鍵之間的新鍵
+     * @param before 前一個鍵，為null時表示放在最前面
+     * @param after 後一個鍵，為null時表示放在最後面
+     * @return 新鍵，滿足 before &lt; 新鍵 &lt; after
+     * @throws IllegalArgumentException 鍵格式錯誤或 before 不小於 after 時拋出
+     */
+    public static String between(String before, String after) {
+        String a = before == null ? "" : before;
+        validate(a);
+        if (after != null) {
+            validate(after);
+            if (after.isEmpty() || a.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("Rank keys out of order: " + before + " / " + after);
+            }
+        }
+        return midpoint(a, after);
+    }
+
+    /**
+     * 產生均勻分布的一組鍵，供重新平衡使用
+     * @param count 鍵的數量
+     * @return 依序遞增的鍵
+     */
+    public static List<String> spread(int count) {
+        // 每個間隔至少保留 BASE 個空位，之後的移動短期內不會加長鍵
+        int length = 1;
+        long capacity = BASE;
+        while (capacity / (count + 1L) < BASE) {
+            capacity *= BASE;
+            length++;
+        }
+        List<String> keys = new ArrayList<>(count);
+        long step = capacity / (count + 1L);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(step * i, length));
+        }
+        return keys;
+    }
+
+    /**
+     * 取 a 與 b 的中點；b 為null時視為 1
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // 共同前綴直接保留，a 不足的位數視為 '0'
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : DIGITS.charAt(0)) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        // 首位相鄰：b 還有後續位數時取 b 的首位即可，否則沿用 a 的首位並在下一位取中點
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static String encode(long value, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = length;
+        while (end > 1 && chars[end - 1] == DIGITS.charAt(0)) {
+            end--;
+        }
+        return new String(chars, 0, end);
+    }
+
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank key: " + key);
+            }
+        }
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("Invalid rank key: " + key);
+        }
+    }
+}
@@ -1,7 +1,26 @@
 package com.solo.portfolio.service;
 
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -13,8 +32,35 @@ public class RedisService {
     
     private final RedisTemplate<String, Object> redisTemplate;
     
-    public RedisService(RedisTemplate<String, Object> redisTemplate) {
+    /**
+     * 純字串模板，用於計數等需要Redis原生數值語意的操作
+     */
+    private final StringRedisTemplate stringRedisTemplate;
+    
+    /**
+     * 僅在鎖的持有者相符時才刪除鎖，避免誤刪其他實例取得的鎖
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+    
+    /**
+     * 僅在哈希存在時才遞增字段，檢查與遞增在同一個腳本內完成，不會建立只含單一字段的哈希
+     */
+    private static final RedisScript<Long> HINCRBY_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 1 then return redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) "
+            + "else return nil end",
+        Long.class);
+    
+    /**
+     * 依前綴刪除鍵時，每次SCAN建議返回與每次DEL的鍵數量
+     */
+    private static final int SCAN_BATCH_SIZE = 500;
+    
+    public RedisService(RedisTemplate<String, Object> redisTemplate,
+                        StringRedisTemplate stringRedisTemplate) {
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
     }
     
     /**
@@ -36,6 +82,39 @@ public class RedisService {
         return redisTemplate.opsForValue().get(key);
     }
     
+    /**
+     * 以單次 MGET 批量獲取緩存
+     * @param keys 鍵列表
+     * @return 與 keys 順序對應的值，不存在的鍵為null
+     */
+    public List<Object> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+    
+    /**
+     * 以單次管線批量設置緩存
+     * @param values 鍵值對
+     * @param timeout 過期時間（秒）
+     */
+    public void setAllPipelined(Map<String, Object> values, long timeout) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                values.forEach((key, value) -> ops.opsForValue().set(key, value, timeout, TimeUnit.SECONDS));
+                return null;
+            }
+        });
+    }
+    
     /**
      * 刪除緩存
      * @param key 鍵
@@ -73,6 +152,88 @@ public class RedisService {
         return redisTemplate.opsForHash().get(key, hashKey);
     }
     
+    /**
+     * 獲取計數哈希表
+     * 計數哈希以純字串序列化，才能與HINCRBY共用
+     * @param key 鍵
+     * @return 字段與計數的對應，鍵不存在時為空
+     */
+    public Map<String, Long> hGetAllCounters(String key) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+        Map<String, Long> counters = new HashMap<>();
+        entries.forEach((field, value) -> counters.put(String.valueOf(field), Long.parseLong(String.valueOf(value))));
+        return counters;
+    }
+    
+    /**
+     * 獲取計數哈希表的單一字段
+     * @param key 鍵
+     * @param hashKey 哈希表字段
+     * @return 計數，字段不存在時為0
+     */
+    public long hGetCounter(String key, String hashKey) {
+        Object value = stringRedisTemplate.opsForHash().get(key, hashKey);
+        return value == null ? 0 : Long.parseLong(String.valueOf(value));
+    }
+    
+    /**
+     * 批量設置計數哈希表字段
+     * @param key 鍵
+     * @param counters 字段與計數的對應
+     */
+    public void hPutAllCounters(String key, Map<String, Long> counters) {
+        Map<String, String> values = new HashMap<>();
+        counters.forEach((field, count) -> values.put(field, String.valueOf(count)));
+        stringRedisTemplate.opsForHash().putAll(key, values);
+    }
+    
+    /**
+     * 計數哈希表字段遞增操作
+     * @param key 鍵
+     * @param hashKey 哈希表字段
+     * @param delta 增量，可為負數
+     * @return 增加後的值
+     */
+    public Long hIncrement(String key, String hashKey, long delta) {
+        return stringRedisTemplate.opsForHash().increment(key, hashKey, delta);
+    }
+    
+    /**
+     * 計數哈希表存在時才遞增字段
+     * @param key 鍵
+     * @param hashKey 哈希表字段
+     * @param delta 增量，可為負數
+     * @return 增加後的值；哈希不存在時為null
+     */
+    public Long hIncrementIfExists(String key, String hashKey, long delta) {
+        return stringRedisTemplate.execute(HINCRBY_IF_EXISTS_SCRIPT, Collections.singletonList(key),
+            hashKey, String.valueOf(delta));
+    }
+    
+    /**
+     * 以新內容整個取代計數哈希表
+     * 先寫入暫存鍵並設定過期時間，再以RENAME原子替換（過期時間隨之保留），
+     * 讀取端只會看到舊的或完整的新哈希
+     * @param key 鍵
+     * @param counters 字段與計數的對應，為空時刪除哈希
+     * @param timeout 過期時間（秒）
+     */
+    public void hReplaceAllCounters(String key, Map<String, Long> counters, long timeout) {
+        if (counters.isEmpty()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+        String tempKey = key + ":rebuild:" + UUID.randomUUID();
+        try {
+            hPutAllCounters(tempKey, counters);
+            stringRedisTemplate.expire(tempKey, timeout, TimeUnit.SECONDS);
+            stringRedisTemplate.rename(tempKey, key);
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(tempKey);
+            throw e;
+        }
+    }
+    
     /**
      * 遞增操作
      * @param key 鍵
@@ -90,4 +251,226 @@ public class RedisService {
     public void expire(String key, long timeout) {
         redisTemplate.expire(key, timeout, TimeUnit.SECONDS);
     }
+    
+    /**
+     * 加入集合成員
+     * @param key 鍵
+     * @param member 成員
+     * @return 成員原本不存在而被加入時為true
+     */
+    public boolean sAdd(String key, String member) {
+        Long added = stringRedisTemplate.opsForSet().add(key, member);
+        return added != null && added > 0;
+    }
+    
+    /**
+     * 移除集合成員
+     * @param key 鍵
+     * @param member 成員
+     * @return 成員原本存在而被移除時為true
+     */
+    public boolean sRemove(String key, String member) {
+        Long removed = stringRedisTemplate.opsForSet().remove(key, member);
+        return removed != null && removed > 0;
+    }
+    
+    /**
+     * 以單次管線批量檢查同一成員是否屬於多個集合
+     * @param keys 集合鍵列表
+     * @param member 成員
+     * @return 與 keys 順序對應的檢查結果
+     */
+    public List<Boolean> sIsMemberPipelined(List<String> keys, String member) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        byte[] value = member.getBytes(StandardCharsets.UTF_8);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.setCommands().sIsMember(key.getBytes(StandardCharsets.UTF_8), value);
+            }
+            return null;
+        });
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+    
+    /**
+     * 以單次管線寫入有序集合成員並限制集合大小
+     * 依序執行 ZADD、ZREMRANGEBYRANK 移除分數最低的多餘成員，並重設過期時間
+     * @param key 鍵
+     * @param member 成員
+     * @param score 分數
+     * @param maxSize 保留的成員數上限
+     * @param timeout 過期時間（秒）
+     */
+    public void zAddCapped(String key, String member, double score, long maxSize, long timeout) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] rawMember = member.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(rawKey, score, rawMember);
+            connection.zSetCommands().zRemRange(rawKey, 0, -(maxSize + 1));
+            connection.keyCommands().expire(rawKey, timeout);
+            return null;
+        });
+    }
+    
+    /**
+     * 依分數由高到低讀取有序集合成員
+     * @param key 鍵
+     * @param start 起始名次（從0開始）
+     * @param end 結束名次（含）
+     * @return 成員 → 分數，依分數由高到低排列
+     */
+    public Map<String, Double> zRevRangeWithScores(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> result.put(tuple.getValue(), tuple.getScore()));
+        }
+        return result;
+    }
+    
+    /**
+     * 移除有序集合成員
+     * @param key 鍵
+     * @param members 成員
+     */
+    public void zRemove(String key, Collection<String> members) {
+        if (!members.isEmpty()) {
+            stringRedisTemplate.opsForZSet().remove(key, members.toArray());
+        }
+    }
+    
+    /**
+     * 以純字串寫入值（不設過期時間）
+     * @param key 鍵
+     * @param value 值
+     */
+    public void setRaw(String key, String value) {
+        stringRedisTemplate.opsForValue().set(key, value);
+    }
+    
+    /**
+     * 以原始位元組寫入值，不經過任何序列化
+     * @param key 鍵
+     * @param value 值
+     * @param timeout 過期時間（秒）
+     */
+    public void setBytes(String key, byte[] value, long timeout) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.stringCommands().setEx(rawKey, timeout, value);
+            return null;
+        });
+    }
+    
+    /**
+     * 讀取以原始位元組寫入的值
+     * @param key 鍵
+     * @return 值，不存在時為null
+     */
+    public byte[] getBytes(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+    }
+    
+    /**
+     * 在鍵不存在時以純字串寫入值（SET NX）
+     * @param key 鍵
+     * @param value 值
+     * @return 寫入成功時為true
+     */
+    public boolean setRawIfAbsent(String key, String value) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, value));
+    }
+    
+    /**
+     * 讀取純字串模板寫入的值
+     * @param key 鍵
+     * @return 值，不存在時為null
+     */
+    public String getRaw(String key) {
+        return stringRedisTemplate.opsForValue().get(key);
+    }
+    
+    /**
+     * 刪除純字串模板寫入的鍵
+     * @param key 鍵
+     */
+    public void deleteRaw(String key) {
+        stringRedisTemplate.delete(key);
+    }
+    
+    /**
+     * 以單一DEL指令刪除多個純字串模板寫入的鍵，多個鍵會一起消失
+     * @param keys 鍵集合
+     */
+    public void deleteRaw(Collection<String> keys) {
+        stringRedisTemplate.delete(keys);
+    }
+    
+    /**
+     * 刪除所有符合前綴的鍵
+     * 以SCAN逐批走訪而非KEYS，鍵數量多時也不會長時間阻塞Redis
+     * @param prefix 鍵前綴，不可含萬用字元
+     * @return 刪除的鍵數量
+     */
+    public long deleteByPrefix(String prefix) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_BATCH_SIZE) {
+                    deleted += deleteBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += deleteBatch(batch);
+        }
+        return deleted;
+    }
+    
+    private long deleteBatch(List<String> keys) {
+        Long deleted = stringRedisTemplate.delete(keys);
+        return deleted == null ? 0 : deleted;
+    }
+    
+    /**
+     * 在目標鍵不存在時重新命名鍵（RENAMENX）
+     * 重新命名為原子操作，可用來將累積中的資料整批移出處理
+     * @param key 原鍵
+     * @param newKey 新鍵
+     * @return 原鍵存在且已重新命名時為true
+     */
+    public boolean renameIfAbsent(String key, String newKey) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return false;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(key, newKey));
+    }
+    
+    /**
+     * 嘗試取得分散式鎖（SET NX EX）
+     * @param key 鎖的鍵
+     * @param token 持有者識別，用於釋放時比對
+     * @param timeout 鎖的存活時間（秒），持有者異常結束時自動釋放
+     * @return 取得鎖時為true
+     */
+    public boolean tryLock(String key, String token, long timeout) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, timeout, TimeUnit.SECONDS));
+    }
+    
+    /**
+     * 釋放分散式鎖
+     * @param key 鎖的鍵
+     * @param token 取得鎖時使用的持有者識別
+     */
+    public void unlock(String key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), token);
+    }
 }
@@ -0,0 +1,593 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.config.AsyncConfig;
+import com.solo.portfolio.model.dto.RelatedContentResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.repository.PortfolioItemRepository;
+import com.solo.portfolio.service.cache.BlogPostCacheService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 相關內容推薦服務類
+ * 以文章的標題、摘要、內容（中英文）與分類建立 TF-IDF 詞向量，
+ * 用倒排索引計算餘弦相似度，預先算好每篇文章最相關的文章與作品並存入Redis。
+ * 全量計算在獨立的 fork-join 執行緒池上平行進行；內容編輯時只重算受影響的鄰近文章
+ */
+@Slf4j
+@Service
+public class RelatedContentService {
+
+    /**
+     * 每篇文章保留的相關內容數
+     */
+    public static final int TOP_K = 6;
+
+    /**
+     * 低於此相似度的結果不列入
+     */
+    private static final double MIN_SCORE = 0.05;
+
+    /**
+     * 標題詞的權重倍數
+     */
+    private static final int TITLE_WEIGHT = 3;
+
+    /**
+     * 分類詞的權重倍數
+     */
+    private static final int CATEGORY_WEIGHT = 4;
+
+    /**
+     * 標籤詞的權重倍數
+     */
+    private static final int TAG_WEIGHT = 2;
+
+    /**
+     * 出現在超過此比例文件中的詞幾乎沒有區別力，計算時略過以縮短倒排列表
+     */
+    private static final double MAX_DOCUMENT_RATIO = 0.5;
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have", "in", "is", "it",
+        "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "with", "you", "your", "we", "our",
+        "http", "https", "www", "com");
+
+    private final BlogPostRepository blogPostRepository;
+    private final PortfolioItemRepository portfolioItemRepository;
+    private final BlogPostCacheService blogPostCacheService;
+    private final TaskExecutor contentTaskExecutor;
+
+    /**
+     * 相似度計算專用的 fork-join 執行緒池，不佔用公用池
+     */
+    private final ForkJoinPool similarityPool =
+        new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * 索引寫入（全量替換、單篇更新）取寫鎖，相似度計算取讀鎖
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 文件鍵 → 文件（含正規化後的詞權重）
+     */
+    private final Map<String, Doc> docs = new HashMap<>();
+
+    /**
+     * 倒排索引：詞 → 文件鍵 → 權重
+     */
+    private final Map<String, Map<String, Double>> postings = new HashMap<>();
+
+    /**
+     * 文章ID → 目前儲存的相關內容文件鍵
+     */
+    private final Map<String, List<String>> relatedByPost = new ConcurrentHashMap<>();
+
+    /**
+     * 文件鍵 → 相關內容列表中包含它的文章ID，用於增量更新時找出受影響的文章
+     */
+    private final Map<String, Set<String>> referencedBy = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public RelatedContentService(BlogPostRepository blogPostRepository,
+                                 PortfolioItemRepository portfolioItemRepository,
+                                 BlogPostCacheService blogPostCacheService,
+                                 @Qualifier(AsyncConfig.CONTENT_TASK_EXECUTOR) TaskExecutor contentTaskExecutor) {
+        this.blogPostRepository = blogPostRepository;
+        this.portfolioItemRepository = portfolioItemRepository;
+        this.blogPostCacheService = blogPostCacheService;
+        this.contentTaskExecutor = contentTaskExecutor;
+    }
+
+    /**
+     * 文件：顯示用欄位與正規化後的詞權重
+     */
+    private record Doc(String type, String id, String title, String titleZh, String imageUrl,
+                       String categoryKey, Map<String, Double> weights) {
+    }
+
+    private record Scored(String key, double score) {
+    }
+
+    /**
+     * 應用程式啟動後於背景全量建立
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        contentTaskExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * 每日全量重建，讓IDF與向量長度隨內容增長重新校正
+     */
+    @Scheduled(cron = "${app.related.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Map<String, Map<String, Integer>> termCounts = new HashMap<>();
+            Map<String, Doc> rawDocs = new HashMap<>();
+            for (BlogPost post : blogPostRepository.findAll()) {
+                String key = postKey(post.getId());
+                termCounts.put(key, termCounts(post));
+                rawDocs.put(key, describe(post));
+            }
+            for (PortfolioItem item : portfolioItemRepository.findAll()) {
+                String key = itemKey(item.getId());
+                termCounts.put(key, termCounts(item));
+                rawDocs.put(key, describe(item));
+            }
+
+            Map<String, Integer> documentFrequency = new HashMap<>();
+            termCounts.values().forEach(counts ->
+                counts.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum)));
+
+            Map<String, Doc> builtDocs = new HashMap<>();
+            Map<String, Map<String, Double>> builtPostings = new HashMap<>();
+            int total = termCounts.size();
+            termCounts.forEach((key, counts) -> {
+                Map<String, Double> weights = weigh(counts, documentFrequency::get, total);
+                Doc raw = rawDocs.get(key);
+                builtDocs.put(key, new Doc(raw.type(), raw.id(), raw.title(), raw.titleZh(), raw.imageUrl(),
+                    raw.categoryKey(), weights));
+                weights.forEach((term, weight) ->
+                    builtPostings.computeIfAbsent(term, t -> new HashMap<>()).put(key, weight));
+            });
+
+            lock.writeLock().lock();
+            try {
+                docs.clear();
+                docs.putAll(builtDocs);
+                postings.clear();
+                postings.putAll(builtPostings);
+                relatedByPost.clear();
+                referencedBy.clear();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<String> postIds = builtDocs.values().stream()
+                .filter(doc -> SuggestService.TYPE_POST.equals(doc.type()))
+                .map(Doc::id)
+                .toList();
+            lock.readLock().lock();
+            try {
+                similarityPool.submit(() -> postIds.parallelStream().forEach(this::recompute)).get();
+            } finally {
+                lock.readLock().unlock();
+            }
+            log.info("Related content built for {} posts over {} documents in {} ms",
+                postIds.size(), total, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 建立失敗時保留現有結果，下次排程再重試
+            log.error("Failed to build related content", e);
+        }
+    }
+
+    /**
+     * 獲取文章的相關內容
+     * 優先從緩存獲取；緩存失效但索引已建立時即時計算單篇並回寫緩存
+     * @param postId 文章ID
+     * @return 相關內容列表，索引尚未建立或文章不存在時為空列表
+     */
+    public List<RelatedContentResponse> getRelated(String postId) {
+        Optional<List<RelatedContentResponse>> cached = blogPostCacheService.getCachedRelated(postId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (!ready) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            if (!docs.containsKey(postKey(postId))) {
+                return Collections.emptyList();
+            }
+            return recompute(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 文章建立或更新後於背景增量更新
+     * @param post 儲存後的文章
+     */
+    public void onPostSaved(BlogPost post) {
+        contentTaskExecutor.execute(() -> updateDocument(postKey(post.getId()), termCounts(post), describe(post)));
+    }
+
+    /**
+     * 作品建立或更新後於背景增量更新
+     * @param item 儲存後的作品
+     */
+    public void onPortfolioItemSaved(PortfolioItem item) {
+        contentTaskExecutor.execute(() -> updateDocument(itemKey(item.getId()), termCounts(item), describe(item)));
+    }
+
+    /**
+     * 文章刪除後於背景移除並更新引用它的文章
+     * @param postId 文章ID
+     */
+    public void onPostDeleted(String postId) {
+        blogPostCacheService.deleteRelatedCache(postId);
+        contentTaskExecutor.execute(() -> removeDocument(postKey(postId)));
+    }
+
+    /**
+     * 作品刪除後於背景移除並更新引用它的文章
+     * @param itemId 作品ID
+     */
+    public void onPortfolioItemDeleted(String itemId) {
+        contentTaskExecutor.execute(() -> removeDocument(itemKey(itemId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        similarityPool.shutdownNow();
+    }
+
+    /**
+     * 更新單一文件的向量，並只重算受影響的文章：
+     * 原本引用它的文章、它的新舊鄰近文章，以及文件本身（若為文章）
+     */
+    private void updateDocument(String key, Map<String, Integer> counts, Doc description) {
+        if (!ready) {
+            return;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                unindex(key);
+                int total = docs.size() + 1;
+                Map<String, Double> weights = weigh(counts, term -> {
+                    Map<String, Double> list = postings.get(term);
+                    return (list == null ? 0 : list.size()) + 1;
+                }, total);
+                docs.put(key, new Doc(description.type(), description.id(), description.title(),
+                    description.titleZh(), description.imageUrl(), description.categoryKey(), weights));
+                weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, weight));
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            lock.readLock().lock();
+            try {
+                Set<String> affected = new HashSet<>(referencedBy.getOrDefault(key, Set.of()));
+                boolean isPost = SuggestService.TYPE_POST.equals(description.type());
+                if (isPost) {
+                    relatedByPost.getOrDefault(description.id(), List.of()).forEach(neighbor -> addIfPost(neighbor, affected));
+                    recompute(description.id());
+                    relatedByPost.getOrDefault(description.id(), List.of()).forEach(neighbor -> addIfPost(neighbor, affected));
+                    affected.remove(description.id());
+                } else {
+                    topK(key, TOP_K).forEach(scored -> addIfPost(scored.key(), affected));
+                }
+                affected.forEach(this::recompute);
+            } finally {
+                lock.readLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update related content for {}", key, e);
+        }
+    }
+
+    private void removeDocument(String key) {
+        if (!ready) {
+            return;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                unindex(key);
+                docs.remove(key);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Set<String> affected = referencedBy.remove(key);
+            if (key.startsWith(SuggestService.TYPE_POST + ":")) {
+                String postId = key.substring(SuggestService.TYPE_POST.length() + 1);
+                List<String> previous = relatedByPost.remove(postId);
+                if (previous != null) {
+                    previous.forEach(neighbor -> {
+                        Set<String> refs = referencedBy.get(neighbor);
+                        if (refs != null) {
+                            refs.remove(postId);
+                        }
+                    });
+                }
+            }
+            if (affected != null && !affected.isEmpty()) {
+                lock.readLock().lock();
+                try {
+                    affected.forEach(this::recompute);
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove related content for {}", key, e);
+        }
+    }
+
+    /**
+     * 重算單篇文章的相關內容並寫入緩存，同時維護反向引用
+     * 呼叫端須持有讀鎖
+     */
+    private List<RelatedContentResponse> recompute(String postId) {
+        String key = postKey(postId);
+        List<Scored> top = topK(key, TOP_K);
+        List<RelatedContentResponse> related = new ArrayList<>(top.size());
+        List<String> keys = new ArrayList<>(top.size());
+        for (Scored scored : top) {
+            Doc doc = docs.get(scored.key());
+            related.add(new RelatedContentResponse(doc.type(), doc.id(), doc.title(), doc.titleZh(),
+                doc.imageUrl(), doc.categoryKey(), Math.round(scored.score() * 1000) / 1000.0));
+            keys.add(scored.key());
+        }
+
+        List<String> previous = relatedByPost.put(postId, keys);
+        if (previous != null) {
+            previous.stream().filter(k -> !keys.contains(k)).forEach(k -> {
+                Set<String> refs = referencedBy.get(k);
+                if (refs != null) {
+                    refs.remove(postId);
+                }
+            });
+        }
+        keys.forEach(k -> referencedBy.computeIfAbsent(k, x -> ConcurrentHashMap.newKeySet()).add(postId));
+        blogPostCacheService.cacheRelated(postId, related);
+        return related;
+    }
+
+    /**
+     * 以倒排索引累加點積，找出與指定文件最相似的前k個文件
+     * 權重已正規化，點積即為餘弦相似度。呼叫端須持有讀鎖
+     */
+    private List<Scored> topK(String key, int k) {
+        Doc doc = docs.get(key);
+        if (doc == null) {
+            return Collections.emptyList();
+        }
+        int maxPostings = Math.max(2, (int) (docs.size() * MAX_DOCUMENT_RATIO));
+        Map<String, Double> scores = new HashMap<>();
+        doc.weights().forEach((term, weight) -> {
+            Map<String, Double> list = postings.get(term);
+            if (list == null || list.size() > maxPostings) {
+                return;
+            }
+            list.forEach((other, otherWeight) -> {
+                if (!other.equals(key)) {
+                    scores.merge(other, weight * otherWeight, Double::sum);
+                }
+            });
+        });
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+        scores.forEach((other, score) -> {
+            if (score < MIN_SCORE) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new Scored(other, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Scored(other, score));
+            }
+        });
+        List<Scored> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingDouble(Scored::score).reversed().thenComparing(Scored::key));
+        return top;
+    }
+
+    /**
+     * 從倒排索引移除文件的所有詞。呼叫端須持有寫鎖
+     */
+    private void unindex(String key) {
+        Doc old = docs.get(key);
+        if (old == null) {
+            return;
+        }
+        old.weights().keySet().forEach(term -> {
+            Map<String, Double> list = postings.get(term);
+            if (list != null) {
+                list.remove(key);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    private void addIfPost(String key, Set<String> target) {
+        String prefix = SuggestService.TYPE_POST + ":";
+        if (key.startsWith(prefix)) {
+            target.add(key.substring(prefix.length()));
+        }
+    }
+
+    /**
+     * 計算 TF-IDF 權重並正規化為單位向量
+     * tf 取 1 + ln(次數)，idf 取 ln(1 + 文件總數 / 文件頻率)
+     */
+    private static Map<String, Double> weigh(Map<String, Integer> counts,
+                                             Function<String, Integer> documentFrequency,
+                                             int total) {
+        Map<String, Double> weights = new HashMap<>();
+        double norm = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            Integer df = documentFrequency.apply(entry.getKey());
+            double idf = Math.log(1.0 + (double) total / Math.max(1, df == null ? 1 : df));
+            double weight = (1.0 + Math.log(entry.getValue())) * idf;
+            weights.put(entry.getKey(), weight);
+            norm += weight * weight;
+        }
+        if (norm > 0) {
+            double length = Math.sqrt(norm);
+            weights.replaceAll((term, weight) -> weight / length);
+        }
+        return weights;
+    }
+
+    private static Map<String, Integer> termCounts(BlogPost post) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokenize(post.getTitle(), TITLE_WEIGHT, counts);
+        tokenize(post.getTitleZh(), TITLE_WEIGHT, counts);
+        tokenize(post.getExcerpt(), 1, counts);
+        tokenize(post.getExcerptZh(), 1, counts);
+        tokenize(post.getContent(), 1, counts);
+        tokenize(post.getContentZh(), 1, counts);
+        addCategory(post.getCategoryKey(), counts);
+        addTags(post.getTags(), counts);
+        return counts;
+    }
+
+    private static Map<String, Integer> termCounts(PortfolioItem item) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokenize(item.getTitle(), TITLE_WEIGHT, counts);
+        tokenize(item.getTitleZh(), TITLE_WEIGHT, counts);
+        addCategory(item.getCategoryKey(), counts);
+        addTags(item.getTags(), counts);
+        return counts;
+    }
+
+    private static void addCategory(String categoryKey, Map<String, Integer> counts) {
+        if (categoryKey != null && !categoryKey.isBlank()) {
+            counts.merge("cat:" + categoryKey.toLowerCase(Locale.ROOT), CATEGORY_WEIGHT, Integer::sum);
+        }
+    }
+
+    private static void addTags(List<String> tags, Map<String, Integer> counts) {
+        if (tags != null) {
+            for (String tag : tags) {
+                counts.merge("tag:" + tag, TAG_WEIGHT, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * 斷詞
+     * 拉丁文字以連續字母數字為一詞；中日韓文字沒有空白分詞，改取相鄰兩字（bigram），單獨一字時取單字
+     */
+    private static void tokenize(String text, int weight, Map<String, Integer> counts) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        int previousCjk = -1;
+        int cjkRun = 0;
+        for (int i = 0; i < lower.length(); ) {
+            int cp = lower.codePointAt(i);
+            i += Character.charCount(cp);
+            if (isCjk(cp)) {
+                addWord(word, weight, counts);
+                if (previousCjk >= 0) {
+                    counts.merge(new StringBuilder().appendCodePoint(previousCjk).appendCodePoint(cp).toString(),
+                        weight, Integer::sum);
+                }
+                previousCjk = cp;
+                cjkRun++;
+                continue;
+            }
+            addSingleCjk(previousCjk, cjkRun, weight, counts);
+            previousCjk = -1;
+            cjkRun = 0;
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else {
+                addWord(word, weight, counts);
+            }
+        }
+        addSingleCjk(previousCjk, cjkRun, weight, counts);
+        addWord(word, weight, counts);
+    }
+
+    private static void addSingleCjk(int cp, int run, int weight, Map<String, Integer> counts) {
+        if (run == 1 && cp >= 0) {
+            counts.merge(new String(Character.toChars(cp)), weight, Integer::sum);
+        }
+    }
+
+    private static void addWord(StringBuilder word, int weight, Map<String, Integer> counts) {
+        if (word.length() >= 2) {
+            String term = word.toString();
+            if (!STOPWORDS.contains(term)) {
+                counts.merge(term, weight, Integer::sum);
+            }
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static Doc describe(BlogPost post) {
+        return new Doc(SuggestService.TYPE_POST, post.getId(), post.getTitle(), post.getTitleZh(),
+            post.getImageUrl(), post.getCategoryKey(), Map.of());
+    }
+
+    private static Doc describe(PortfolioItem item) {
+        return new Doc(SuggestService.TYPE_PORTFOLIO, item.getId(), item.getTitle(), item.getTitleZh(),
+            item.getImageUrl(), item.getCategoryKey(), Map.of());
+    }
+
+    private static String postKey(String id) {
+        return SuggestService.TYPE_POST + ":" + id;
+    }
+
+    private static String itemKey(String id) {
+        return SuggestService.TYPE_PORTFOLIO + ":" + id;
+    }
+}
@@ -0,0 +1,140 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.repository.BlogPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 排程發佈服務類
+ * 定期檢查設有發佈時間的文章：發佈前一段時間先於排程執行緒完成渲染與相關內容計算，
+ * 到時間解除鎖定後立即重新載入文章、單語系內容、列表、精選與訂閱緩存，
+ * 讓發佈後湧入的第一批請求直接命中緩存。多個節點以分散式鎖互斥，
+ * 發佈本身以樂觀鎖與條件檢查保證只執行一次
+ */
+@Slf4j
+@Service
+public class ScheduledPublishService {
+
+    /**
+     * 排程工作鎖的存活時間（秒）
+     */
+    private static final long PUBLISH_LOCK_TIMEOUT = 300;
+
+    private final BlogPostRepository blogPostRepository;
+    private final ContentService contentService;
+    private final ContentRenderService contentRenderService;
+    private final RelatedContentService relatedContentService;
+    private final BlogPostService blogPostService;
+    private final LocalizedContentService localizedContentService;
+    private final FeedService feedService;
+    private final RedisService redisService;
+
+    /**
+     * 發佈前多久開始預熱（毫秒）
+     */
+    private final long warmAheadMs;
+
+    public ScheduledPublishService(BlogPostRepository blogPostRepository,
+                                   ContentService contentService,
+                                   ContentRenderService contentRenderService,
+                                   RelatedContentService relatedContentService,
+                                   BlogPostService blogPostService,
+                                   LocalizedContentService localizedContentService,
+                                   FeedService feedService,
+                                   RedisService redisService,
+                                   @Value("${app.publish.warm-ahead-ms:300000}") long warmAheadMs) {
+        this.blogPostRepository = blogPostRepository;
+        this.contentService = contentService;
+        this.contentRenderService = contentRenderService;
+        this.relatedContentService = relatedContentService;
+        this.blogPostService = blogPostService;
+        this.localizedContentService = localizedContentService;
+        this.feedService = feedService;
+        this.redisService = redisService;
+        this.warmAheadMs = warmAheadMs;
+    }
+
+    /**
+     * 預熱即將發佈的文章並發佈已到時間的文章
+     */
+    @Scheduled(fixedDelayString = "${app.publish.check-ms:10000}", initialDelay = 20000)
+    public void run() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_SCHEDULED_PUBLISH, token, PUBLISH_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime horizon = now.plus(Duration.ofMillis(warmAheadMs));
+            for (BlogPost post : blogPostRepository.findTop50ByPublishAtLessThanEqualOrderByPublishAtAsc(horizon)) {
+                if (post.getPublishAt().isAfter(now)) {
+                    prepare(post);
+                } else {
+                    contentService.publishScheduledPost(post.getId(), now).ifPresent(this::warm);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to run scheduled publishing", e);
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_SCHEDULED_PUBLISH, token);
+        }
+    }
+
+    /**
+     * 發佈前預熱
+     * 渲染與相關內容不受鎖定狀態影響，可先行完成並緩存；
+     * 以文章版本號記錄已預熱，預熱後文章又被修改時會重新預熱
+     * @param post 即將發佈的文章
+     */
+    private void prepare(BlogPost post) {
+        String key = RedisCacheConstants.PUBLISH_PREPARED_KEY + post.getId();
+        String version = String.valueOf(post.getVersion());
+        try {
+            if (version.equals(redisService.get(key))) {
+                return;
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+
+        try {
+            contentRenderService.render(post.getId());
+            contentRenderService.getRendered(post.getId());
+            relatedContentService.getRelated(post.getId());
+            redisService.set(key, version, warmAheadMs / 1000 + 3600);
+            log.info("Prepared scheduled post {} for publishing at {}", post.getId(), post.getPublishAt());
+        } catch (Exception e) {
+            log.warn("Failed to prepare scheduled post {}", post.getId(), e);
+        }
+    }
+
+    /**
+     * 發佈後立即重新載入受影響的緩存
+     * 發佈時的快取清除由 ContentService 完成，這裡緊接著以最新資料填回
+     * @param post 剛發佈的文章
+     */
+    private void warm(BlogPost post) {
+        String id = post.getId();
+        log.info("Published scheduled post {}", id);
+        try {
+            blogPostService.getBlogPost(id);
+            for (String lang : RedisCacheConstants.LANGUAGES) {
+                localizedContentService.getPost(id, lang);
+                localizedContentService.getPosts(lang);
+            }
+            blogPostService.getFeaturedPosts();
+            feedService.rebuild();
+            redisService.delete(RedisCacheConstants.PUBLISH_PREPARED_KEY + id);
+        } catch (Exception e) {
+            log.warn("Failed to warm caches for published post {}", id, e);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.model.dto.SuggestionResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.repository.PortfolioItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.pinyin4j.PinyinHelper;
+import net.sourceforge.pinyin4j.format.HanyuPinyinCaseType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinOutputFormat;
+import net.sourceforge.pinyin4j.format.HanyuPinyinToneType;
+import net.sourceforge.pinyin4j.format.HanyuPinyinVCharType;
+import net.sourceforge.pinyin4j.format.exception.BadHanyuPinyinOutputFormatCombination;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 標題自動完成服務
+ * 在記憶體中維護文章與作品集標題的前綴索引（含中文標題的拼音與拼音首字母），
+ * 讓搜尋框每次按鍵都不需要查詢資料庫。
+ * 索引於應用程式啟動時全量建立，內容儲存或刪除時增量更新。
+ * 瀏覽與按讚數寫回資料庫時不經過內容儲存流程，熱門程度另由排程定期刷新。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    public static final String TYPE_POST = "post";
+    public static final String TYPE_PORTFOLIO = "portfolio";
+
+    /**
+     * 建議排序：熱門程度由高到低，相同時依標題排序
+     */
+    private static final Comparator<SuggestionResponse> RANKING =
+            Comparator.comparingLong(SuggestionResponse::getPopularity).reversed()
+                    .thenComparing(doc -> doc.getTitle() == null ? "" : doc.getTitle());
+
+    /**
+     * 詞與文件鍵之間的分隔字元，排序上小於任何可見字元
+     */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final HanyuPinyinOutputFormat PINYIN_FORMAT = new HanyuPinyinOutputFormat();
+
+    static {
+        PINYIN_FORMAT.setCaseType(HanyuPinyinCaseType.LOWERCASE);
+        PINYIN_FORMAT.setToneType(HanyuPinyinToneType.WITHOUT_TONE);
+        PINYIN_FORMAT.setVCharType(HanyuPinyinVCharType.WITH_V);
+    }
+
+    private final BlogPostRepository blogPostRepository;
+    private final PortfolioItemRepository portfolioItemRepository;
+
+    /**
+     * 目前提供查詢的索引；全量重建時另建新索引，完成後整個替換
+     */
+    private volatile Index current = new Index();
+
+    /**
+     * 全量重建期間有增量更新的文件鍵，重建完成時以目前索引中的最新狀態覆蓋新索引；非重建期間為null
+     */
+    private Set<String> updatedDuringRebuild;
+
+    /**
+     * 確保同一時間只有一個全量重建
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * 應用程式啟動後全量建立索引
+     * 新索引在鎖外建立，查詢與增量更新持續使用舊索引，完成後才替換，不會出現空的索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                updatedDuringRebuild = new HashSet<>();
+            }
+            try {
+                Index fresh = new Index();
+                blogPostRepository.findAll().forEach(post -> fresh.put(postDocKey(post), postDoc(post),
+                        terms(post.getTitle(), post.getTitleZh())));
+                portfolioItemRepository.findAll().forEach(item -> fresh.put(portfolioDocKey(item),
+                        portfolioDoc(item), terms(item.getTitle(), item.getTitleZh())));
+                synchronized (this) {
+                    for (String docKey : updatedDuringRebuild) {
+                        fresh.copyFrom(current, docKey);
+                    }
+                    current = fresh;
+                }
+                log.info("Suggest index built with {} documents and {} keys",
+                        fresh.keysByDoc.size(), fresh.entries.size());
+            } catch (Exception e) {
+                // 建立失敗時僅記錄並保留舊索引，建議功能會在內容儲存時逐步補齊
+                log.error("Failed to build suggest index", e);
+            } finally {
+                synchronized (this) {
+                    updatedDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 定期以資料庫中的瀏覽與按讚數刷新熱門程度
+     * 只讀取ID與計數欄位，計數有變動的文件以新的建議項目替換，不重新產生索引詞
+     */
+    @Scheduled(fixedDelayString = "${app.suggest.popularity-refresh-ms:300000}", initialDelay = 300000)
+    public void refreshPopularity() {
+        try {
+            for (Object[] row : blogPostRepository.findPopularity()) {
+                updatePopularity(docKey(TYPE_POST, row[0].toString()), toLong(row[1]) + toLong(row[2]));
+            }
+            for (Object[] row : portfolioItemRepository.findPopularity()) {
+                updatePopularity(docKey(TYPE_PORTFOLIO, row[0].toString()), toLong(row[1]));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh suggest popularity", e);
+        }
+    }
+
+    /**
+     * 新增或更新文章的索引
+     * @param post 部落格文章
+     */
+    public void indexPost(BlogPost post) {
+        put(postDocKey(post), postDoc(post), terms(post.getTitle(), post.getTitleZh()));
+    }
+
+    /**
+     * 新增或更新作品集項目的索引
+     * @param item 作品集項目
+     */
+    public void indexPortfolioItem(PortfolioItem item) {
+        put(portfolioDocKey(item), portfolioDoc(item), terms(item.getTitle(), item.getTitleZh()));
+    }
+
+    /**
+     * 從索引移除文章
+     * @param id 文章ID
+     */
+    public void removePost(String id) {
+        remove(docKey(TYPE_POST, id));
+    }
+
+    /**
+     * 從索引移除作品集項目
+     * @param id 作品ID
+     */
+    public void removePortfolioItem(String id) {
+        remove(docKey(TYPE_PORTFOLIO, id));
+    }
+
+    /**
+     * 查詢標題建議
+     * @param query 使用者輸入的前綴（可為英文、中文或拼音）
+     * @param limit 最多返回的筆數
+     * @return 依熱門程度排序的建議列表
+     */
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 掃描所有命中項目，以大小為 limit 的最小堆保留排名最前的文件，
+        // 堆頂是目前保留中排名最後的一筆；同一文件可能因多個詞命中，依文件鍵去重
+        PriorityQueue<SuggestionResponse> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Set<String> seen = new HashSet<>();
+        for (SuggestionResponse doc
+                : current.entries.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+            if (!seen.add(docKey(doc.getType(), doc.getId()))) {
+                continue;
+            }
+            top.offer(doc);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SuggestionResponse> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private synchronized void put(String docKey, SuggestionResponse doc, Set<String> terms) {
+        current.put(docKey, doc, terms);
+        if (updatedDuringRebuild != null) {
+            updatedDuringRebuild.add(docKey);
+        }
+    }
+
+    private synchronized void remove(String docKey) {
+        current.remove(docKey);
+        if (updatedDuringRebuild != null) {
+            updatedDuringRebuild.add(docKey);
+        }
+    }
+
+    private synchronized void updatePopularity(String docKey, long popularity) {
+        current.updatePopularity(docKey, popularity);
+    }
+
+    private static String postDocKey(BlogPost post) {
+        return docKey(TYPE_POST, post.getId());
+    }
+
+    private static SuggestionResponse postDoc(BlogPost post) {
+        long popularity = nullToZero(post.getViews()) + nullToZero(post.getLikes());
+        return new SuggestionResponse(
+                TYPE_POST, post.getId(), post.getTitle(), post.getTitleZh(), post.getImageUrl(), popularity);
+    }
+
+    private static String portfolioDocKey(PortfolioItem item) {
+        return docKey(TYPE_PORTFOLIO, item.getId());
+    }
+
+    private static SuggestionResponse portfolioDoc(PortfolioItem item) {
+        return new SuggestionResponse(
+                TYPE_PORTFOLIO, item.getId(), item.getTitle(), item.getTitleZh(), item.getImageUrl(),
+                nullToZero(item.getViews()));
+    }
+
+    /**
+     * 由英文與中文標題產生所有索引詞
+     */
+    private Set<String> terms(String title, String titleZh) {
+        Set<String> terms = new HashSet<>();
+        addWordTerms(terms, normalize(title));
+        String zh = normalize(titleZh);
+        addCharTerms(terms, zh);
+        addPinyinTerms(terms, zh);
+        return terms;
+    }
+
+    /**
+     * 以每個單字開頭的後綴作為詞，讓輸入標題中間的單字也能命中
+     */
+    private void addWordTerms(Set<String> terms, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        terms.add(text);
+        for (int i = 1; i < text.length(); i++) {
+            if (text.charAt(i - 1) == ' ' && text.charAt(i) != ' ') {
+                terms.add(text.substring(i));
+            }
+        }
+    }
+
+    /**
+     * 中文沒有空白分詞，以每個字元開頭的後綴作為詞
+     */
+    private void addCharTerms(Set<String> terms, String text) {
+        for (int i = 0; i < text.length(); i = text.offsetByCodePoints(i, 1)) {
+            if (text.charAt(i) != ' ') {
+                terms.add(text.substring(i));
+            }
+        }
+    }
+
+    /**
+     * 加入全拼（每個音節開頭的後綴）與拼音首字母
+     * 破音字取第一個讀音
+     */
+    private void addPinyinTerms(Set<String> terms, String text) {
+        List<String> syllables = new ArrayList<>();
+        boolean hasHan = false;
+        for (char c : text.toCharArray()) {
+            String pinyin = toPinyin(c);
+            if (pinyin != null) {
+                syllables.add(pinyin);
+                hasHan = true;
+            } else if (Character.isLetterOrDigit(c)) {
+                syllables.add(String.valueOf(c));
+            }
+        }
+        if (!hasHan) {
+            return;
+        }
+
+        StringBuilder initials = new StringBuilder();
+        for (int i = 0; i < syllables.size(); i++) {
+            terms.add(String.join("", syllables.subList(i, syllables.size())));
+            initials.append(syllables.get(i).charAt(0));
+        }
+        terms.add(initials.toString());
+    }
+
+    private String toPinyin(char c) {
+        if (Character.UnicodeScript.of(c) != Character.UnicodeScript.HAN) {
+            return null;
+        }
+        try {
+            String[] readings = PinyinHelper.toHanyuPinyinStringArray(c, PINYIN_FORMAT);
+            return readings != null && readings.length > 0 ? readings[0] : null;
+        } catch (BadHanyuPinyinOutputFormatCombination e) {
+            return null;
+        }
+    }
+
+    /**
+     * 正規化：全半形統一、轉小寫、合併空白
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String docKey(String type, String id) {
+        return type + ":" + id;
+    }
+
+    private static long nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    /**
+     * 一份完整的前綴索引
+     * 寫入由外部同步控制；跳躍表支援與寫入並行的查詢
+     */
+    private static final class Index {
+
+        /**
+         * 正規化詞 + 分隔字元 + 文件鍵 → 建議項目
+         * 跳躍表本身有序，前綴查詢即為一次範圍掃描
+         */
+        private final ConcurrentSkipListMap<String, SuggestionResponse> entries = new ConcurrentSkipListMap<>();
+
+        /**
+         * 文件鍵 → 該文件寫入的所有索引鍵，增量更新時用來移除舊詞
+         */
+        private final Map<String, Set<String>> keysByDoc = new ConcurrentHashMap<>();
+
+        void put(String docKey, SuggestionResponse doc, Set<String> terms) {
+            remove(docKey);
+            Set<String> keys = new HashSet<>();
+            for (String term : terms) {
+                String key = term + KEY_SEPARATOR + docKey;
+                entries.put(key, doc);
+                keys.add(key);
+            }
+            keysByDoc.put(docKey, keys);
+        }
+
+        void remove(String docKey) {
+            Set<String> keys = keysByDoc.remove(docKey);
+            if (keys != null) {
+                keys.forEach(entries::remove);
+            }
+        }
+
+        /**
+         * 以新的熱門程度替換文件的建議項目
+         * 替換而非修改原物件，進行中的查詢不會看到排序鍵在堆中改變
+         */
+        void updatePopularity(String docKey, long popularity) {
+            Set<String> keys = keysByDoc.get(docKey);
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+            SuggestionResponse doc = entries.get(keys.iterator().next());
+            if (doc == null || doc.getPopularity() == popularity) {
+                return;
+            }
+            SuggestionResponse updated = new SuggestionResponse(doc.getType(), doc.getId(), doc.getTitle(),
+                    doc.getTitleZh(), doc.getImageUrl(), popularity);
+            for (String key : keys) {
+                entries.replace(key, updated);
+            }
+        }
+
+        /**
+         * 以另一份索引中該文件的狀態取代本索引中的狀態，來源沒有該文件時即移除
+         */
+        void copyFrom(Index source, String docKey) {
+            remove(docKey);
+            Set<String> keys = source.keysByDoc.get(docKey);
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+            SuggestionResponse doc = source.entries.get(keys.iterator().next());
+            if (doc == null) {
+                return;
+            }
+            for (String key : keys) {
+                entries.put(key, doc);
+            }
+            keysByDoc.put(docKey, new HashSet<>(keys));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.solo.portfolio.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 增量同步游標
+ * 依 (txid, seq) 排序定位變更紀錄，並記錄發出時間以判斷墓碑是否已被清除；
+ * 對外以 Base64URL 編碼的不透明字串傳遞
+ *
+ * @param txid 上一頁最後一筆變更的交易ID
+ * @param seq 上一頁最後一筆變更的序號
+ * @param issuedAt 游標發出時間（epoch 毫秒）
+ */
+public record SyncCursor(long txid, long seq, long issuedAt) {
+
+    /**
+     * 從頭同步時使用的游標
+     */
+    public static final SyncCursor FIRST = new SyncCursor(0, 0, 0);
+
+    /**
+     * 編碼為不透明字串
+     * @return 游標字串
+     */
+    public String encode() {
+        String raw = txid + "|" + seq + "|" + issuedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解碼游標字串
+     * @param cursor 游標字串，為空時表示從頭同步
+     * @return 游標
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public static SyncCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new SyncCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * 是否為從頭同步
+     */
+    public boolean isFirst() {
+        return txid == 0 && seq == 0;
+    }
+}
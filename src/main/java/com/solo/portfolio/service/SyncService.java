@@ -0,0 +1,212 @@
+package com.solo.portfolio.service;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.SyncResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.PortfolioItem;
+import com.solo.portfolio.repository.BlogPostRepository;
+import com.solo.portfolio.repository.PortfolioItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 內容增量同步服務類
+ * 變更紀錄表 content_changes 由資料庫觸發器維護，每個實體保留最新一筆變更（刪除時為墓碑），
+ * 並依 (交易ID, 序號) 遞增排序。只返回交易ID小於目前所有進行中交易的變更，
+ * 因此晚提交的交易不會被已發出的游標跳過。每頁依筆數與估計大小雙重限制
+ */
+@Slf4j
+@Service
+public class SyncService {
+
+    public static final String ENTITY_POST = "post";
+    public static final String ENTITY_PORTFOLIO = "portfolio";
+
+    /**
+     * 清除墓碑時額外保留的時間，確保清除範圍一定早於游標過期的判斷範圍
+     */
+    private static final Duration PRUNE_MARGIN = Duration.ofHours(1);
+
+    /**
+     * 清除鎖的存活時間（秒）
+     */
+    private static final long PRUNE_LOCK_TIMEOUT = 300;
+
+    /**
+     * 每筆變更在大小估計中的固定開銷（位元組）
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private static final String CHANGES_SQL =
+        "SELECT entity_type, entity_id, txid, seq, deleted FROM content_changes "
+            + "WHERE (txid, seq) > (?, ?) AND txid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint "
+            + "ORDER BY txid, seq LIMIT ?";
+
+    private static final String PRUNE_SQL = "DELETE FROM content_changes WHERE deleted AND changed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogPostRepository blogPostRepository;
+    private final PortfolioItemRepository portfolioItemRepository;
+    private final RedisService redisService;
+
+    /**
+     * 每頁內容的估計大小上限（位元組）
+     */
+    private final long maxPageBytes;
+
+    /**
+     * 墓碑保留時間，超過此時間未同步的游標須從頭同步
+     */
+    private final Duration tombstoneRetention;
+
+    public SyncService(JdbcTemplate jdbcTemplate,
+                       BlogPostRepository blogPostRepository,
+                       PortfolioItemRepository portfolioItemRepository,
+                       RedisService redisService,
+                       @Value("${app.sync.max-page-bytes:1048576}") long maxPageBytes,
+                       @Value("${app.sync.tombstone-retention-days:30}") long tombstoneRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blogPostRepository = blogPostRepository;
+        this.portfolioItemRepository = portfolioItemRepository;
+        this.redisService = redisService;
+        this.maxPageBytes = maxPageBytes;
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * 獲取游標之後的變更
+     * 變更列表中的實體以讀取當下的最新狀態返回；同一實體在之後再次變更時會再出現一次
+     * @param since 上次同步返回的游標，為空時從頭同步
+     * @param limit 每頁最多筆數
+     * @return 變更內容與下次同步的游標
+     * @throws IllegalArgumentException 游標格式錯誤時拋出
+     */
+    public SyncResponse getChanges(String since, int limit) {
+        SyncCursor cursor = SyncCursor.decode(since);
+        long now = System.currentTimeMillis();
+        SyncResponse response = new SyncResponse();
+        if (!cursor.isFirst() && now - cursor.issuedAt() > tombstoneRetention.toMillis()) {
+            response.setReset(true);
+            return response;
+        }
+
+        List<Change> changes = jdbcTemplate.query(CHANGES_SQL, (rs, rowNum) -> new Change(
+                rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getBoolean(5)),
+            cursor.txid(), cursor.seq(), limit + 1);
+
+        Map<String, BlogPost> posts = load(changes, ENTITY_POST, blogPostRepository::findAllById, BlogPost::getId);
+        Map<String, PortfolioItem> items =
+            load(changes, ENTITY_PORTFOLIO, portfolioItemRepository::findAllById, PortfolioItem::getId);
+
+        long txid = cursor.txid();
+        long seq = cursor.seq();
+        long bytes = 0;
+        for (int i = 0; i < changes.size(); i++) {
+            Change change = changes.get(i);
+            boolean post = ENTITY_POST.equals(change.entityType());
+            long size = ENTRY_OVERHEAD;
+            if (!change.deleted()) {
+                size += post ? estimateSize(posts.get(change.entityId()))
+                    : estimateSize(items.get(change.entityId()));
+            }
+            if (i == limit || (i > 0 && bytes + size > maxPageBytes)) {
+                response.setHasMore(true);
+                break;
+            }
+            bytes += size;
+            txid = change.txid();
+            seq = change.seq();
+
+            if (change.deleted()) {
+                (post ? response.getDeletedPostIds() : response.getDeletedPortfolioItemIds()).add(change.entityId());
+            } else if (post && posts.containsKey(change.entityId())) {
+                response.getPosts().add(posts.get(change.entityId()));
+            } else if (!post && items.containsKey(change.entityId())) {
+                response.getPortfolioItems().add(items.get(change.entityId()));
+            }
+            // 變更為新增／更新但實體已不存在時，表示刪除交易剛提交，其墓碑會在之後的同步中返回
+        }
+        response.setNextCursor(new SyncCursor(txid, seq, now).encode());
+        return response;
+    }
+
+    /**
+     * 清除超過保留時間的墓碑
+     * 多個實例以分散式鎖互斥
+     */
+    @Scheduled(fixedDelayString = "${app.sync.prune-interval-ms:3600000}", initialDelay = 60000)
+    public void pruneTombstones() {
+        String token = UUID.randomUUID().toString();
+        if (!redisService.tryLock(RedisCacheConstants.LOCK_SYNC_PRUNE, token, PRUNE_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            LocalDateTime horizon = LocalDateTime.now().minus(tombstoneRetention).minus(PRUNE_MARGIN);
+            int removed = jdbcTemplate.update(PRUNE_SQL, Timestamp.valueOf(horizon));
+            if (removed > 0) {
+                log.debug("Pruned {} sync tombstones older than {}", removed, horizon);
+            }
+        } catch (Exception e) {
+            log.error("Failed to prune sync tombstones", e);
+        } finally {
+            redisService.unlock(RedisCacheConstants.LOCK_SYNC_PRUNE, token);
+        }
+    }
+
+    /**
+     * 一次載入本頁所有新增或變更的實體
+     */
+    private static <T> Map<String, T> load(List<Change> changes, String entityType,
+                                           Function<List<String>, List<T>> finder, Function<T, String> idOf) {
+        List<String> ids = changes.stream()
+            .filter(change -> entityType.equals(change.entityType()) && !change.deleted())
+            .map(Change::entityId)
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+    }
+
+    private static long estimateSize(BlogPost post) {
+        if (post == null) {
+            return 0;
+        }
+        return length(post.getTitle()) + length(post.getTitleZh()) + length(post.getExcerpt())
+            + length(post.getExcerptZh()) + length(post.getContent()) + length(post.getContentZh())
+            + length(post.getImageUrl());
+    }
+
+    private static long estimateSize(PortfolioItem item) {
+        if (item == null) {
+            return 0;
+        }
+        return length(item.getTitle()) + length(item.getTitleZh()) + length(item.getImageUrl());
+    }
+
+    /**
+     * 以字元數的三倍估計 UTF-8 編碼後的上限
+     */
+    private static long length(String value) {
+        return value == null ? 0 : value.length() * 3L;
+    }
+
+    /**
+     * 一筆變更紀錄
+     */
+    private record Change(String entityType, String entityId, long txid, long seq, boolean deleted) {
+    }
+}
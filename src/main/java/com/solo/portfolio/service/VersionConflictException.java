@@ -0,0 +1,27 @@
+package com.solo.portfolio.service;
+
+import lombok.Getter;
+
+/**
+ * 版本衝突異常
+ * 部分更新帶上的版本號與資料庫中的版本不一致時拋出
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * 內容ID
+     */
+    private final String id;
+
+    /**
+     * 資料庫中目前的版本號，內容已被刪除時為null
+     */
+    private final Long currentVersion;
+
+    public VersionConflictException(String id, Long currentVersion) {
+        super("Content was modified by another request");
+        this.id = id;
+        this.currentVersion = currentVersion;
+    }
+}
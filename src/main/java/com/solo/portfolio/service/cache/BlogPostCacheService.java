@@ -1,10 +1,17 @@
 package com.solo.portfolio.service.cache;
 
 import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.LocalizedBlogPostResponse;
+import com.solo.portfolio.model.dto.PostNeighborsResponse;
+import com.solo.portfolio.model.dto.RelatedContentResponse;
+import com.solo.portfolio.model.dto.RenderedPostResponse;
 import com.solo.portfolio.model.entity.BlogPost;
 import com.solo.portfolio.service.RedisService;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +60,42 @@ public class BlogPostCacheService {
         }
     }
     
+    /**
+     * 以單次 MGET 批量獲取緩存的文章
+     * @param ids 文章ID列表
+     * @return 命中緩存的文章，以ID為鍵
+     */
+    public Map<String, BlogPost> getCachedBlogPosts(List<String> ids) {
+        Map<String, BlogPost> hits = new HashMap<>();
+        try {
+            List<Object> cached = redisService.multiGet(ids.stream()
+                .map(id -> RedisCacheConstants.BLOG_POST_KEY + id)
+                .toList());
+            for (int i = 0; i < ids.size() && i < cached.size(); i++) {
+                if (cached.get(i) instanceof BlogPost post) {
+                    hits.put(ids.get(i), post);
+                }
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+        return hits;
+    }
+    
+    /**
+     * 以單次管線批量緩存文章
+     * @param posts 要緩存的文章
+     */
+    public void cacheBlogPosts(List<BlogPost> posts) {
+        try {
+            Map<String, Object> values = new HashMap<>();
+            posts.forEach(post -> values.put(RedisCacheConstants.BLOG_POST_KEY + post.getId(), post));
+            redisService.setAllPipelined(values, RedisCacheConstants.BLOG_POST_CACHE_TIME);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
     /**
      * 刪除博客文章緩存
      * @param id 文章ID
@@ -65,6 +108,17 @@ public class BlogPostCacheService {
         }
     }
     
+    /**
+     * 刪除精選博客文章列表緩存
+     */
+    public void deleteFeaturedPostsCache() {
+        try {
+            redisService.delete(RedisCacheConstants.BLOG_POSTS_FEATURED);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
     /**
      * 緩存精選博客文章列表
      * @param blogPosts 精選博客文章列表
@@ -112,4 +166,247 @@ public class BlogPostCacheService {
             // 緩存操作失敗時，記錄日誌但不影響主流程
         }
     }
+    
+    /**
+     * 獲取緩存的單語系文章
+     * @param id 文章ID
+     * @param lang 語系
+     * @return Optional包裝的單語系文章
+     */
+    public Optional<LocalizedBlogPostResponse> getCachedLocalizedPost(String id, String lang) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.BLOG_POST_LOCALIZED_KEY + lang + ":" + id);
+            if (cached instanceof LocalizedBlogPostResponse) {
+                return Optional.of((LocalizedBlogPostResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存單語系文章
+     * @param post 單語系文章
+     */
+    public void cacheLocalizedPost(LocalizedBlogPostResponse post) {
+        try {
+            redisService.set(
+                RedisCacheConstants.BLOG_POST_LOCALIZED_KEY + post.getLang() + ":" + post.getId(),
+                post,
+                RedisCacheConstants.BLOG_POST_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 獲取緩存的單語系文章列表
+     * @param lang 語系
+     * @return Optional包裝的單語系文章列表
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<LocalizedBlogPostResponse>> getCachedLocalizedPostList(String lang) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.BLOG_POSTS_LOCALIZED_LIST + lang);
+            if (cached instanceof List<?>) {
+                return Optional.of((List<LocalizedBlogPostResponse>) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存單語系文章列表
+     * @param lang 語系
+     * @param posts 單語系文章列表
+     */
+    public void cacheLocalizedPostList(String lang, List<LocalizedBlogPostResponse> posts) {
+        try {
+            redisService.set(
+                RedisCacheConstants.BLOG_POSTS_LOCALIZED_LIST + lang,
+                new ArrayList<>(posts),
+                RedisCacheConstants.BLOG_POST_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除文章所有語系的緩存以及單語系文章列表緩存
+     * @param id 文章ID，為null時只刪除列表緩存
+     */
+    public void deleteLocalizedPostCache(String id) {
+        try {
+            for (String lang : RedisCacheConstants.LANGUAGES) {
+                if (id != null) {
+                    redisService.delete(RedisCacheConstants.BLOG_POST_LOCALIZED_KEY + lang + ":" + id);
+                }
+                redisService.delete(RedisCacheConstants.BLOG_POSTS_LOCALIZED_LIST + lang);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 獲取緩存的文章預先渲染結果
+     * @param id 文章ID
+     * @return Optional包裝的渲染結果
+     */
+    public Optional<RenderedPostResponse> getCachedRender(String id) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.BLOG_POST_RENDER_KEY + id);
+            if (cached instanceof RenderedPostResponse) {
+                return Optional.of((RenderedPostResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存文章預先渲染結果
+     * @param render 渲染結果
+     */
+    public void cacheRender(RenderedPostResponse render) {
+        try {
+            redisService.set(
+                RedisCacheConstants.BLOG_POST_RENDER_KEY + render.getPostId(),
+                render,
+                RedisCacheConstants.BLOG_POST_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除文章預先渲染結果緩存
+     * @param id 文章ID
+     */
+    public void deleteRenderCache(String id) {
+        try {
+            redisService.delete(RedisCacheConstants.BLOG_POST_RENDER_KEY + id);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 獲取緩存的文章相關內容
+     * @param id 文章ID
+     * @return Optional包裝的相關內容列表
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<RelatedContentResponse>> getCachedRelated(String id) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.BLOG_POST_RELATED_KEY + id);
+            if (cached instanceof List<?>) {
+                return Optional.of((List<RelatedContentResponse>) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存文章相關內容
+     * @param id 文章ID
+     * @param related 相關內容列表
+     */
+    public void cacheRelated(String id, List<RelatedContentResponse> related) {
+        try {
+            redisService.set(
+                RedisCacheConstants.BLOG_POST_RELATED_KEY + id,
+                new ArrayList<>(related),
+                RedisCacheConstants.BLOG_POST_RELATED_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除文章相關內容緩存
+     * @param id 文章ID
+     */
+    public void deleteRelatedCache(String id) {
+        try {
+            redisService.delete(RedisCacheConstants.BLOG_POST_RELATED_KEY + id);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 獲取緩存的上一篇／下一篇文章
+     * @param id 文章ID
+     * @param scope 查詢範圍
+     * @return Optional包裝的相鄰文章
+     */
+    public Optional<PostNeighborsResponse> getCachedNeighbors(String id, String scope) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.BLOG_POST_NEIGHBORS_KEY + scope + ":" + id);
+            if (cached instanceof PostNeighborsResponse) {
+                return Optional.of((PostNeighborsResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存上一篇／下一篇文章
+     * @param neighbors 相鄰文章
+     */
+    public void cacheNeighbors(PostNeighborsResponse neighbors) {
+        try {
+            redisService.set(
+                RedisCacheConstants.BLOG_POST_NEIGHBORS_KEY + neighbors.getScope() + ":" + neighbors.getPostId(),
+                neighbors,
+                RedisCacheConstants.BLOG_POST_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除文章所有範圍的上一篇／下一篇緩存
+     * @param id 文章ID
+     */
+    public void deleteNeighborsCache(String id) {
+        try {
+            for (String scope : RedisCacheConstants.NEIGHBORS_SCOPES) {
+                redisService.delete(RedisCacheConstants.BLOG_POST_NEIGHBORS_KEY + scope + ":" + id);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除所有文章的上一篇／下一篇緩存
+     * 批量匯入等一次改變大量文章相鄰關係的操作使用
+     */
+    public void deleteAllNeighborsCache() {
+        try {
+            redisService.deleteByPrefix(RedisCacheConstants.BLOG_POST_NEIGHBORS_KEY);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
 }
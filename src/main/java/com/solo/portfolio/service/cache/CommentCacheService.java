@@ -4,7 +4,9 @@ import com.solo.portfolio.constants.RedisCacheConstants;
 import com.solo.portfolio.model.entity.Comment;
 import com.solo.portfolio.service.RedisService;
 import org.springframework.stereotype.Service;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -101,6 +103,56 @@ public class CommentCacheService {
         return Optional.empty();
     }
     
+    /**
+     * 以單次 MGET 批量獲取多篇文章的評論列表
+     * @param postIds 文章ID列表
+     * @return 文章ID → 評論列表，未命中的略過
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, List<Comment>> getCachedPostCommentsBatch(List<String> postIds) {
+        Map<String, List<Comment>> hits = new HashMap<>();
+        try {
+            List<Object> cached = redisService.multiGet(postIds.stream()
+                .map(postId -> RedisCacheConstants.COMMENT_COUNT_KEY + postId + ":list")
+                .toList());
+            for (int i = 0; i < postIds.size() && i < cached.size(); i++) {
+                if (cached.get(i) instanceof List<?>) {
+                    hits.put(postIds.get(i), (List<Comment>) cached.get(i));
+                }
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+        return hits;
+    }
+
+    /**
+     * 以單次管線批量緩存多篇文章的評論列表
+     * @param commentsByPost 文章ID → 評論列表
+     */
+    public void cachePostCommentsBatch(Map<String, List<Comment>> commentsByPost) {
+        try {
+            Map<String, Object> values = new HashMap<>();
+            commentsByPost.forEach((postId, comments) ->
+                values.put(RedisCacheConstants.COMMENT_COUNT_KEY + postId + ":list", comments));
+            redisService.setAllPipelined(values, RedisCacheConstants.COMMENT_CACHE_TIME);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+
+    /**
+     * 刪除緩存的文章評論列表
+     * @param postId 文章ID
+     */
+    public void deletePostCommentsCache(String postId) {
+        try {
+            redisService.delete(RedisCacheConstants.COMMENT_COUNT_KEY + postId + ":list");
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
     /**
      * 更新文章評論數量
      * @param postId 文章ID
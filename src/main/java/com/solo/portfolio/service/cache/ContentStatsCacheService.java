@@ -0,0 +1,119 @@
+package com.solo.portfolio.service.cache;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.ArchiveResponse;
+import com.solo.portfolio.model.dto.ContentStatsResponse;
+import com.solo.portfolio.service.RedisService;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 內容彙總統計緩存服務
+ * 緩存鍵帶有物化視圖的版本戳記，刷新後自動改用新鍵，不需逐一刪除舊緩存
+ */
+@Service
+public class ContentStatsCacheService {
+
+    private final RedisService redisService;
+
+    public ContentStatsCacheService(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * 獲取目前的統計版本
+     * @return 版本戳記，尚未刷新過或讀取失敗時為0
+     */
+    public long getVersion() {
+        try {
+            String version = redisService.getRaw(RedisCacheConstants.STATS_CONTENT_VERSION);
+            return version == null ? 0 : Long.parseLong(version);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return 0;
+        }
+    }
+
+    /**
+     * 獲取緩存的封存統計
+     * @param version 統計版本
+     * @return Optional包裝的封存統計
+     */
+    public Optional<ArchiveResponse> getCachedArchive(long version) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.STATS_ARCHIVE_KEY + version);
+            if (cached instanceof ArchiveResponse) {
+                return Optional.of((ArchiveResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 緩存封存統計
+     * @param archive 封存統計
+     */
+    public void cacheArchive(ArchiveResponse archive) {
+        try {
+            redisService.set(
+                RedisCacheConstants.STATS_ARCHIVE_KEY + archive.getVersion(),
+                archive,
+                RedisCacheConstants.STATS_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+
+    /**
+     * 獲取緩存的內容總覽統計
+     * @param version 統計版本
+     * @return Optional包裝的內容總覽統計
+     */
+    public Optional<ContentStatsResponse> getCachedStats(long version) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.STATS_CONTENT_KEY + version);
+            if (cached instanceof ContentStatsResponse) {
+                return Optional.of((ContentStatsResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 緩存內容總覽統計
+     * @param stats 內容總覽統計
+     */
+    public void cacheStats(ContentStatsResponse stats) {
+        try {
+            redisService.set(
+                RedisCacheConstants.STATS_CONTENT_KEY + stats.getVersion(),
+                stats,
+                RedisCacheConstants.STATS_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+
+    /**
+     * 標記有尚未反映到物化視圖的寫入
+     * 第一筆寫入的時間只在尚未標記時記錄，最後一筆寫入的時間每次覆寫
+     */
+    public void markDirty() {
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            redisService.setRawIfAbsent(RedisCacheConstants.STATS_CONTENT_DIRTY_SINCE, now);
+            redisService.setRaw(RedisCacheConstants.STATS_CONTENT_DIRTY_LAST, now);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.solo.portfolio.service.cache;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.service.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 分面統計緩存服務
+ * 以Redis哈希保存「值 → 數量」的統計（例如各分類的文章數），
+ * 寫入時以HINCRBY增量調整，避免每次查詢都執行COUNT(*)。
+ * 增量調整以腳本原子地「存在才遞增」，重建則寫入暫存鍵後以RENAME替換，
+ * 兩者交錯時不會產生只含部分欄位的統計。
+ * 重建讀取資料庫與RENAME之間若有寫入提交，該次增量會被舊快照覆蓋，
+ * 因此哈希設有過期時間，到期後從資料庫完整重建，誤差不會無限期保留
+ */
+@Slf4j
+@Service
+public class FacetCacheService {
+
+    private final RedisService redisService;
+
+    public FacetCacheService(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * 獲取緩存的統計
+     * @param key 哈希鍵
+     * @return Optional包裝的統計，哈希不存在時為空
+     */
+    public Optional<Map<String, Long>> getCachedCounts(String key) {
+        try {
+            Map<String, Long> entries = redisService.hGetAllCounters(key);
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<String, Long> counts = new TreeMap<>();
+            entries.forEach((field, count) -> {
+                if (count > 0) {
+                    counts.put(field, count);
+                }
+            });
+            return Optional.of(counts);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to read facet counts {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 以資料庫彙總結果重建統計
+     * @param key 哈希鍵
+     * @param rows 每列為 [值, 數量] 的彙總結果
+     * @return 重建後的統計
+     */
+    public Map<String, Long> cacheCounts(String key, List<Object[]> rows) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null && !String.valueOf(row[0]).isBlank()) {
+                counts.put(String.valueOf(row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        try {
+            redisService.hReplaceAllCounters(key, counts, RedisCacheConstants.FACET_CACHE_TIME);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to cache facet counts {}", key, e);
+        }
+        return counts;
+    }
+
+    /**
+     * 增量調整某個值的數量
+     * 哈希尚未建立時不做任何事，留待下次查詢時從資料庫完整重建，
+     * 以免建立出只含部分欄位的統計
+     * @param key 哈希鍵
+     * @param value 分面值（例如分類鍵值），為空時忽略
+     * @param delta 增量，可為負數
+     */
+    public void adjust(String key, String value, long delta) {
+        if (value == null || value.isBlank() || delta == 0) {
+            return;
+        }
+        try {
+            redisService.hIncrementIfExists(key, value, delta);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to adjust facet count {} {} by {}", key, value, delta, e);
+        }
+    }
+
+    /**
+     * 將一筆資料從舊值移到新值
+     * @param key 哈希鍵
+     * @param oldValue 舊的分面值
+     * @param newValue 新的分面值
+     */
+    public void move(String key, String oldValue, String newValue) {
+        if (oldValue == null ? newValue == null : oldValue.equals(newValue)) {
+            return;
+        }
+        adjust(key, oldValue, -1);
+        adjust(key, newValue, 1);
+    }
+
+    /**
+     * 依多值欄位（例如標籤）的前後差異調整數量
+     * @param key 哈希鍵
+     * @param oldValues 舊的分面值集合，新建時為null
+     * @param newValues 新的分面值集合，刪除時為null
+     */
+    public void diff(String key, Collection<String> oldValues, Collection<String> newValues) {
+        Set<String> before = oldValues == null ? Set.of() : new HashSet<>(oldValues);
+        Set<String> after = newValues == null ? Set.of() : new HashSet<>(newValues);
+        for (String value : before) {
+            if (!after.contains(value)) {
+                adjust(key, value, -1);
+            }
+        }
+        for (String value : after) {
+            if (!before.contains(value)) {
+                adjust(key, value, 1);
+            }
+        }
+    }
+
+    /**
+     * 刪除統計，下次查詢時從資料庫重建
+     * @param key 哈希鍵
+     */
+    public void evict(String key) {
+        try {
+            redisService.delete(key);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            log.warn("Failed to evict facet counts {}", key, e);
+        }
+    }
+}
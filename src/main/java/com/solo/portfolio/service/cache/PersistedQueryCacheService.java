@@ -0,0 +1,104 @@
+package com.solo.portfolio.service.cache;
+
+import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.service.RedisService;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GraphQL 持久化查詢緩存服務
+ * 查詢文字以 SHA-256 雜湊值為鍵存放於 Redis，供所有實例共用；
+ * 解析與驗證後的文件保留在本機的 LRU 緩存，同一查詢只需解析一次
+ */
+@Service
+public class PersistedQueryCacheService implements PersistedQueryCache {
+
+    /**
+     * 本機保留的已解析文件數上限
+     */
+    private static final int LOCAL_CAPACITY = 500;
+
+    private final RedisService redisService;
+
+    private final Map<String, PreparsedDocumentEntry> documents = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > LOCAL_CAPACITY;
+            }
+        });
+
+    public PersistedQueryCacheService(RedisService redisService) {
+        this.redisService = redisService;
+    }
+
+    /**
+     * 依雜湊值取得已解析的查詢文件
+     * 本機未命中時改讀 Redis 中的查詢文字；兩者都沒有時使用請求附帶的查詢文字，
+     * 雜湊值相符且驗證通過才登記，避免以任意雜湊值佔用緩存
+     * @param persistedQueryId 查詢文字的 SHA-256 雜湊值
+     * @param executionInput 執行輸入
+     * @param onCacheMiss 解析並驗證查詢文字
+     * @return 已解析的查詢文件
+     */
+    @Override
+    public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput,
+                                                            PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+        String hash = persistedQueryId.toString().toLowerCase();
+        PreparsedDocumentEntry cached = documents.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        String key = RedisCacheConstants.GRAPHQL_PERSISTED_QUERY_KEY + hash;
+        String stored = getStoredQuery(key);
+        String query = stored != null ? stored : executionInput.getQuery();
+        if (query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)
+            || !hash.equals(sha256(query))) {
+            throw new PersistedQueryNotFound(persistedQueryId);
+        }
+
+        PreparsedDocumentEntry entry = onCacheMiss.apply(query);
+        if (entry.hasErrors()) {
+            return entry;
+        }
+        documents.put(hash, entry);
+        try {
+            redisService.set(key, query, RedisCacheConstants.GRAPHQL_PERSISTED_QUERY_CACHE_TIME);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+        return entry;
+    }
+
+    private String getStoredQuery(String key) {
+        try {
+            return redisService.get(key) instanceof String query ? query : null;
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return null;
+        }
+    }
+
+    private static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.solo.portfolio.service.cache;
 
 import com.solo.portfolio.constants.RedisCacheConstants;
+import com.solo.portfolio.model.dto.LocalizedPortfolioItemResponse;
 import com.solo.portfolio.model.entity.PortfolioItem;
 import com.solo.portfolio.service.RedisService;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,6 +57,42 @@ public class PortfolioItemCacheService {
         }
     }
     
+    /**
+     * 以單次 MGET 批量獲取緩存的作品
+     * @param ids 作品ID列表
+     * @return 命中緩存的作品，以ID為鍵
+     */
+    public Map<String, PortfolioItem> getCachedPortfolioItems(List<String> ids) {
+        Map<String, PortfolioItem> hits = new HashMap<>();
+        try {
+            List<Object> cached = redisService.multiGet(ids.stream()
+                .map(id -> RedisCacheConstants.PORTFOLIO_ITEM_KEY + id)
+                .toList());
+            for (int i = 0; i < ids.size() && i < cached.size(); i++) {
+                if (cached.get(i) instanceof PortfolioItem item) {
+                    hits.put(ids.get(i), item);
+                }
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+        return hits;
+    }
+    
+    /**
+     * 以單次管線批量緩存作品
+     * @param items 要緩存的作品
+     */
+    public void cachePortfolioItems(List<PortfolioItem> items) {
+        try {
+            Map<String, Object> values = new HashMap<>();
+            items.forEach(item -> values.put(RedisCacheConstants.PORTFOLIO_ITEM_KEY + item.getId(), item));
+            redisService.setAllPipelined(values, RedisCacheConstants.PORTFOLIO_CACHE_TIME);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
     /**
      * 刪除作品集項目緩存
      * @param id 作品ID
@@ -65,6 +105,32 @@ public class PortfolioItemCacheService {
         }
     }
     
+    /**
+     * 刪除精選作品列表緩存
+     */
+    public void deleteFeaturedItemsCache() {
+        try {
+            redisService.delete(RedisCacheConstants.PORTFOLIO_FEATURED);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除分類作品列表緩存
+     * @param categoryKey 分類鍵值，為null時忽略
+     */
+    public void deleteCategoryItemsCache(String categoryKey) {
+        if (categoryKey == null) {
+            return;
+        }
+        try {
+            redisService.delete(RedisCacheConstants.PORTFOLIO_CATEGORY + categoryKey);
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
     /**
      * 緩存精選作品列表
      * @param portfolioItems 精選作品列表
@@ -134,4 +200,92 @@ public class PortfolioItemCacheService {
         }
         return Optional.empty();
     }
+    
+    /**
+     * 獲取緩存的單語系作品
+     * @param id 作品ID
+     * @param lang 語系
+     * @return Optional包裝的單語系作品
+     */
+    public Optional<LocalizedPortfolioItemResponse> getCachedLocalizedItem(String id, String lang) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.PORTFOLIO_LOCALIZED_KEY + lang + ":" + id);
+            if (cached instanceof LocalizedPortfolioItemResponse) {
+                return Optional.of((LocalizedPortfolioItemResponse) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存單語系作品
+     * @param item 單語系作品
+     */
+    public void cacheLocalizedItem(LocalizedPortfolioItemResponse item) {
+        try {
+            redisService.set(
+                RedisCacheConstants.PORTFOLIO_LOCALIZED_KEY + item.getLang() + ":" + item.getId(),
+                item,
+                RedisCacheConstants.PORTFOLIO_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 獲取緩存的單語系作品列表
+     * @param lang 語系
+     * @return Optional包裝的單語系作品列表
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<LocalizedPortfolioItemResponse>> getCachedLocalizedItemList(String lang) {
+        try {
+            Object cached = redisService.get(RedisCacheConstants.PORTFOLIO_LOCALIZED_LIST + lang);
+            if (cached instanceof List<?>) {
+                return Optional.of((List<LocalizedPortfolioItemResponse>) cached);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * 緩存單語系作品列表
+     * @param lang 語系
+     * @param items 單語系作品列表
+     */
+    public void cacheLocalizedItemList(String lang, List<LocalizedPortfolioItemResponse> items) {
+        try {
+            redisService.set(
+                RedisCacheConstants.PORTFOLIO_LOCALIZED_LIST + lang,
+                new ArrayList<>(items),
+                RedisCacheConstants.PORTFOLIO_CACHE_TIME
+            );
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
+    
+    /**
+     * 刪除作品所有語系的緩存以及單語系作品列表緩存
+     * @param id 作品ID，為null時只刪除列表緩存
+     */
+    public void deleteLocalizedItemCache(String id) {
+        try {
+            for (String lang : RedisCacheConstants.LANGUAGES) {
+                if (id != null) {
+                    redisService.delete(RedisCacheConstants.PORTFOLIO_LOCALIZED_KEY + lang + ":" + id);
+                }
+                redisService.delete(RedisCacheConstants.PORTFOLIO_LOCALIZED_LIST + lang);
+            }
+        } catch (Exception e) {
+            // 緩存操作失敗時，記錄日誌但不影響主流程
+        }
+    }
 }
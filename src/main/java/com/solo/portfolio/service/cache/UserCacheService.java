@@ -5,6 +5,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +33,28 @@ public class UserCacheService {
         }
     }
 
+    /**
+     * 以單次 MGET 依使用者名稱批量讀取
+     * @param usernames 使用者名稱列表
+     * @return 使用者名稱 → 使用者，未命中的略過
+     */
+    public Map<String, User> getAll(List<String> usernames) {
+        Map<String, User> hits = new HashMap<>();
+        try {
+            List<User> cached = redisTemplate.opsForValue().multiGet(usernames.stream()
+                .map(username -> CACHE_KEY_PREFIX + username)
+                .toList());
+            for (int i = 0; cached != null && i < usernames.size() && i < cached.size(); i++) {
+                if (cached.get(i) != null) {
+                    hits.put(usernames.get(i), cached.get(i));
+                }
+            }
+        } catch (Exception e) {
+            // 如果發生序列化錯誤，則視為未命中
+        }
+        return hits;
+    }
+
     public void put(User user) {
         try {
             redisTemplate.opsForValue().set(
@@ -0,0 +1,51 @@
+-- 比較隨機 UUIDv4（VARCHAR 儲存）與依時間遞增的 UUIDv7（原生 UUID 儲存）作為主鍵時的寫入成本與索引大小
+-- 在測試資料庫執行：psql "$POSTGRES_URL" -f benchmark-uuid.sql
+-- 以 \timing 輸出的 INSERT 耗時與最後的索引大小比較兩者；資料表為暫存表，連線結束即移除
+
+\timing on
+
+-- 與 UuidV7Generator 相同的位元配置：48 位元毫秒時間戳、版本 7、變體 10，其餘為隨機值
+-- 同一毫秒內以 clock_timestamp() 的微秒部分補足排序
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid AS $$
+DECLARE
+    ts TIMESTAMPTZ := clock_timestamp();
+    millis BIGINT := floor(extract(epoch FROM ts) * 1000);
+    micros INT := (extract(microseconds FROM ts)::int % 1000);
+    bytes BYTEA := uuid_send(gen_random_uuid());
+BEGIN
+    bytes := overlay(bytes PLACING substring(int8send(millis) FROM 3) FROM 1 FOR 6);
+    bytes := set_byte(bytes, 6, (x'70'::int | (micros >> 6)));
+    bytes := set_byte(bytes, 7, ((micros & 63) << 2) | (get_byte(bytes, 7) & 3));
+    bytes := set_byte(bytes, 8, (get_byte(bytes, 8) & x'3f'::int) | x'80'::int);
+    RETURN encode(bytes, 'hex')::uuid;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+CREATE TEMP TABLE bench_v4_varchar (
+    id VARCHAR(36) PRIMARY KEY,
+    title VARCHAR(200),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TEMP TABLE bench_v7_uuid (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 先產生ID再寫入，讓計時只反映寫入與索引維護
+CREATE TEMP TABLE bench_ids_v4 AS SELECT gen_random_uuid()::text AS id FROM generate_series(1, 1000000);
+CREATE TEMP TABLE bench_ids_v7 AS SELECT pg_temp.uuid_v7() AS id FROM generate_series(1, 1000000);
+
+INSERT INTO bench_v4_varchar (id, title) SELECT id, 'post' FROM bench_ids_v4;
+INSERT INTO bench_v7_uuid (id, title) SELECT id, 'post' FROM bench_ids_v7;
+
+\timing off
+
+SELECT 'v4 varchar' AS variant,
+       pg_size_pretty(pg_relation_size('bench_v4_varchar_pkey')) AS pk_index_size,
+       pg_size_pretty(pg_relation_size('bench_v4_varchar')) AS table_size
+UNION ALL
+SELECT 'v7 uuid',
+       pg_size_pretty(pg_relation_size('bench_v7_uuid_pkey')),
+       pg_size_pretty(pg_relation_size('bench_v7_uuid'));
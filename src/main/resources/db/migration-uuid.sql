@@ -0,0 +1,73 @@
+-- 將既有資料庫的主鍵與外鍵欄位由 VARCHAR 轉為原生 UUID
+-- 新安裝直接使用 schema-postgres.sql 即可，不需執行此腳本
+-- 執行前請先備份；整個腳本在單一交易中執行，任何一步失敗都會完整回滾
+-- 用法：psql "$POSTGRES_URL" -v ON_ERROR_STOP=1 -f migration-uuid.sql
+
+BEGIN;
+
+-- 有任何一筆ID不是合法 UUID 時中止，避免轉型到一半失敗
+DO $$
+DECLARE
+    uuid_pattern CONSTANT TEXT := '^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$';
+    invalid_count BIGINT;
+BEGIN
+    SELECT (SELECT count(*) FROM users WHERE id !~ uuid_pattern)
+         + (SELECT count(*) FROM refresh_tokens WHERE id !~ uuid_pattern OR user_id !~ uuid_pattern)
+         + (SELECT count(*) FROM blog_posts WHERE id !~ uuid_pattern)
+         + (SELECT count(*) FROM portfolio_items WHERE id !~ uuid_pattern)
+         + (SELECT count(*) FROM comments
+            WHERE id !~ uuid_pattern OR post_id !~ uuid_pattern OR user_id !~ uuid_pattern
+               OR parent_id !~ uuid_pattern)
+         + (SELECT count(*) FROM blog_post_renders WHERE post_id !~ uuid_pattern)
+         + (SELECT count(*) FROM blog_post_revisions WHERE id !~ uuid_pattern OR post_id !~ uuid_pattern)
+    INTO invalid_count;
+    IF invalid_count > 0 THEN
+        RAISE EXCEPTION '% rows contain ids that are not valid UUIDs; fix them before migrating', invalid_count;
+    END IF;
+END
+$$;
+
+-- 外鍵兩端型別必須一致，先移除再於轉型後重建
+ALTER TABLE refresh_tokens DROP CONSTRAINT IF EXISTS refresh_tokens_user_id_fkey;
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS comments_post_id_fkey;
+ALTER TABLE comments DROP CONSTRAINT IF EXISTS comments_user_id_fkey;
+ALTER TABLE blog_post_renders DROP CONSTRAINT IF EXISTS blog_post_renders_post_id_fkey;
+ALTER TABLE blog_post_revisions DROP CONSTRAINT IF EXISTS blog_post_revisions_post_id_fkey;
+
+ALTER TABLE users ALTER COLUMN id TYPE UUID USING id::uuid;
+ALTER TABLE refresh_tokens
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN user_id TYPE UUID USING user_id::uuid;
+ALTER TABLE blog_posts ALTER COLUMN id TYPE UUID USING id::uuid;
+ALTER TABLE portfolio_items ALTER COLUMN id TYPE UUID USING id::uuid;
+ALTER TABLE comments
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN post_id TYPE UUID USING post_id::uuid,
+    ALTER COLUMN user_id TYPE UUID USING user_id::uuid,
+    ALTER COLUMN parent_id TYPE UUID USING parent_id::uuid;
+ALTER TABLE blog_post_renders ALTER COLUMN post_id TYPE UUID USING post_id::uuid;
+ALTER TABLE blog_post_revisions
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN post_id TYPE UUID USING post_id::uuid;
+
+ALTER TABLE refresh_tokens ADD CONSTRAINT refresh_tokens_user_id_fkey
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+ALTER TABLE comments ADD CONSTRAINT comments_post_id_fkey
+    FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE ON UPDATE NO ACTION;
+ALTER TABLE comments ADD CONSTRAINT comments_user_id_fkey
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE ON UPDATE NO ACTION;
+ALTER TABLE blog_post_renders ADD CONSTRAINT blog_post_renders_post_id_fkey
+    FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE;
+ALTER TABLE blog_post_revisions ADD CONSTRAINT blog_post_revisions_post_id_fkey
+    FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE;
+
+COMMIT;
+
+-- 型別變更會重寫資料表與索引，完成後更新統計資訊
+ANALYZE users;
+ANALYZE refresh_tokens;
+ANALYZE blog_posts;
+ANALYZE portfolio_items;
+ANALYZE comments;
+ANALYZE blog_post_renders;
+ANALYZE blog_post_revisions;
@@ -3,7 +3,7 @@
 
 -- 創建用戶表
 CREATE TABLE IF NOT EXISTS users (
-    id VARCHAR(36) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     username VARCHAR(50) UNIQUE NOT NULL,
     email VARCHAR(100) UNIQUE NOT NULL,
     password VARCHAR(255) NOT NULL,
@@ -19,8 +19,8 @@ CREATE TABLE IF NOT EXISTS users (
 
 -- 創建刷新令牌表
 CREATE TABLE IF NOT EXISTS refresh_tokens (
-    id VARCHAR(36) PRIMARY KEY,
-    user_id VARCHAR(36) NOT NULL,
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
     token VARCHAR(500) NOT NULL UNIQUE,
     expires_at TIMESTAMP NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -37,7 +37,7 @@ CREATE INDEX IF NOT EXISTS idx_refresh_tokens_token ON refresh_tokens(token);
 
 -- 作品集表
 CREATE TABLE IF NOT EXISTS portfolio_items (
-    id VARCHAR(64) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     image_url VARCHAR(1000),
     title VARCHAR(500),
     title_zh VARCHAR(500),
@@ -51,7 +51,7 @@ CREATE TABLE IF NOT EXISTS portfolio_items (
 
 -- 部落格文章表
 CREATE TABLE IF NOT EXISTS blog_posts (
-    id VARCHAR(64) PRIMARY KEY,
+    id UUID PRIMARY KEY,
     image_url VARCHAR(1000),
     is_locked BOOLEAN,
     created_at BIGINT,
@@ -72,13 +72,13 @@ CREATE TABLE IF NOT EXISTS blog_posts (
 
 -- 留言表（若尚未存在）
 CREATE TABLE IF NOT EXISTS comments (
-    id VARCHAR(36) PRIMARY KEY,
-    post_id VARCHAR(64) NOT NULL,
-    user_id VARCHAR(36) NOT NULL,
+    id UUID PRIMARY KEY,
+    post_id UUID NOT NULL,
+    user_id UUID NOT NULL,
     username VARCHAR(100) NOT NULL,
     avatar_url VARCHAR(500) NOT NULL,
     text TEXT NOT NULL,
-    parent_id VARCHAR(36),
+    parent_id UUID,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT comments_post_id_fkey FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE ON UPDATE NO ACTION,
@@ -89,4 +89,167 @@ CREATE TABLE IF NOT EXISTS comments (
 CREATE INDEX IF NOT EXISTS idx_comments_created_at ON comments (created_at);
 CREATE INDEX IF NOT EXISTS idx_comments_parent_id ON comments (parent_id);
 CREATE INDEX IF NOT EXISTS idx_comments_post_id ON comments (post_id);
-CREATE INDEX IF NOT EXISTS idx_comments_user_id ON comments (user_id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_comments_user_id ON comments (user_id);
+-- 分類瀏覽索引（分頁依 date DESC, id 排序）
+CREATE INDEX IF NOT EXISTS idx_blog_posts_category_date ON blog_posts (category_key, date DESC, id);
+CREATE INDEX IF NOT EXISTS idx_portfolio_items_category_date ON portfolio_items (category_key, date DESC, id);
+
+-- 文章預先渲染結果表（Markdown 轉 HTML、目錄、字數與閱讀時間）
+CREATE TABLE IF NOT EXISTS blog_post_renders (
+    post_id UUID PRIMARY KEY,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'PROCESSING', 'READY', 'FAILED')),
+    content_html TEXT,
+    content_zh_html TEXT,
+    toc TEXT,
+    toc_zh TEXT,
+    word_count INT,
+    word_count_zh INT,
+    reading_minutes INT,
+    reading_minutes_zh INT,
+    source_hash VARCHAR(64),
+    error VARCHAR(500),
+    rendered_at TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT blog_post_renders_post_id_fkey FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE
+);
+
+-- 標籤（Postgres 文字陣列，GIN 索引支援 &&（任一）與 @>（全部）查詢）
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS tags TEXT[] NOT NULL DEFAULT '{}';
+ALTER TABLE portfolio_items ADD COLUMN IF NOT EXISTS tags TEXT[] NOT NULL DEFAULT '{}';
+CREATE INDEX IF NOT EXISTS idx_blog_posts_tags ON blog_posts USING GIN (tags);
+CREATE INDEX IF NOT EXISTS idx_portfolio_items_tags ON portfolio_items USING GIN (tags);
+
+-- 上一篇／下一篇：(date, id) 列比較需要兩欄同方向的索引，正反向掃描皆可使用
+CREATE INDEX IF NOT EXISTS idx_blog_posts_date_id ON blog_posts (date, id);
+CREATE INDEX IF NOT EXISTS idx_blog_posts_category_date_id ON blog_posts (category_key, date, id);
+
+-- 內容彙總統計物化視圖（每月、每分類的數量），由應用程式防抖後以 CONCURRENTLY 刷新
+CREATE MATERIALIZED VIEW IF NOT EXISTS content_stats_mv AS
+SELECT 'post' AS content_type,
+       date_trunc('month', COALESCE(date, created_at_ts))::date AS month,
+       COALESCE(category_key, '') AS category_key,
+       count(*) AS item_count
+FROM blog_posts
+GROUP BY 1, 2, 3
+UNION ALL
+SELECT 'portfolio' AS content_type,
+       date_trunc('month', COALESCE(date, created_at))::date AS month,
+       COALESCE(category_key, '') AS category_key,
+       count(*) AS item_count
+FROM portfolio_items
+GROUP BY 1, 2, 3;
+-- REFRESH ... CONCURRENTLY 需要唯一索引
+CREATE UNIQUE INDEX IF NOT EXISTS idx_content_stats_mv_key ON content_stats_mv (content_type, month, category_key);
+
+-- 文章修訂歷史（GZIP 壓縮的 JSON；每隔固定版本數一個完整快照，其餘為與前一版本的差異）
+CREATE TABLE IF NOT EXISTS blog_post_revisions (
+    id UUID PRIMARY KEY,
+    post_id UUID NOT NULL,
+    revision_no INT NOT NULL,
+    kind VARCHAR(20) NOT NULL,
+    payload BYTEA NOT NULL,
+    state_hash VARCHAR(64) NOT NULL,
+    changed_fields VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT blog_post_revisions_post_id_fkey FOREIGN KEY (post_id) REFERENCES blog_posts (id) ON DELETE CASCADE,
+    CONSTRAINT blog_post_revisions_post_revision_key UNIQUE (post_id, revision_no)
+);
+-- payload 已壓縮，不需再由 TOAST 壓縮
+ALTER TABLE blog_post_revisions ALTER COLUMN payload SET STORAGE EXTERNAL;
+
+-- 樂觀鎖版本號
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE portfolio_items ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 文章最後更新時間
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+-- 作品手動排序鍵（分數索引），以 "C" 定序依位元組比較，與應用程式產生鍵的順序一致
+ALTER TABLE portfolio_items ADD COLUMN IF NOT EXISTS rank_key VARCHAR(255) COLLATE "C";
+CREATE INDEX IF NOT EXISTS idx_portfolio_items_rank_key ON portfolio_items (rank_key, id);
+
+-- 文章排程發佈時間，發佈後清空；部分索引只涵蓋尚待發佈的文章
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS publish_at TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_blog_posts_publish_at ON blog_posts (publish_at) WHERE publish_at IS NOT NULL;
+
+-- 增量同步變更紀錄：每個實體只保留最新一筆（刪除時為墓碑），由觸發器維護，涵蓋所有寫入路徑
+-- txid 為寫入交易的ID；讀取端只返回早於所有進行中交易的變更，未提交的變更不會被游標跳過
+CREATE SEQUENCE IF NOT EXISTS content_change_seq;
+CREATE TABLE IF NOT EXISTS content_changes (
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    txid BIGINT NOT NULL,
+    seq BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (entity_type, entity_id)
+);
+CREATE INDEX IF NOT EXISTS idx_content_changes_txid_seq ON content_changes (txid, seq);
+CREATE INDEX IF NOT EXISTS idx_content_changes_tombstones ON content_changes (changed_at) WHERE deleted;
+
+CREATE OR REPLACE FUNCTION record_content_change() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO content_changes (entity_type, entity_id, txid, seq, deleted, changed_at)
+    VALUES (TG_ARGV[0],
+            CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END,
+            pg_current_xact_id()::text::bigint,
+            nextval('content_change_seq'),
+            TG_OP = 'DELETE',
+            now())
+    ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET txid = EXCLUDED.txid, seq = EXCLUDED.seq, deleted = EXCLUDED.deleted, changed_at = EXCLUDED.changed_at;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- 只有內容欄位變更才記錄；瀏覽、按讚與留言數的寫回不產生同步變更
+DROP TRIGGER IF EXISTS blog_posts_content_change ON blog_posts;
+CREATE TRIGGER blog_posts_content_change
+    AFTER INSERT OR DELETE OR UPDATE OF image_url, is_locked, category_key, is_featured, title, title_zh,
+        excerpt, excerpt_zh, content, content_zh, tags, date, publish_at
+    ON blog_posts FOR EACH ROW EXECUTE FUNCTION record_content_change('post');
+
+DROP TRIGGER IF EXISTS portfolio_items_content_change ON portfolio_items;
+CREATE TRIGGER portfolio_items_content_change
+    AFTER INSERT OR DELETE OR UPDATE OF image_url, title, title_zh, category_key, tags, is_featured, date, rank_key
+    ON portfolio_items FOR EACH ROW EXECUTE FUNCTION record_content_change('portfolio');
+
+-- 既有內容補上初始變更紀錄，讓第一次同步即可取得全部資料
+INSERT INTO content_changes (entity_type, entity_id, txid, seq)
+SELECT 'post', id, pg_current_xact_id()::text::bigint, nextval('content_change_seq') FROM blog_posts
+ON CONFLICT DO NOTHING;
+INSERT INTO content_changes (entity_type, entity_id, txid, seq)
+SELECT 'portfolio', id, pg_current_xact_id()::text::bigint, nextval('content_change_seq') FROM portfolio_items
+ON CONFLICT DO NOTHING;
+
+-- 上傳的圖片，以內容 SHA-256 為主鍵去重；縮圖版本檔名記錄於 variants
+CREATE TABLE IF NOT EXISTS media_assets (
+    hash VARCHAR(64) PRIMARY KEY,
+    content_type VARCHAR(50) NOT NULL,
+    byte_size BIGINT NOT NULL,
+    width INTEGER NOT NULL,
+    height INTEGER NOT NULL,
+    blurhash VARCHAR(64),
+    variants TEXT[] NOT NULL DEFAULT '{}',
+    status VARCHAR(20) NOT NULL,
+    error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_media_assets_pending ON media_assets (created_at) WHERE status = 'PENDING';
+
+-- 樹狀評論：頂層評論分頁（parent_id IS NULL）與遞迴展開回覆皆依此索引
+CREATE INDEX IF NOT EXISTS idx_comments_post_parent_created ON comments (post_id, parent_id, created_at, id);
+
+-- 已寫回的讚數增量批次，與讚數更新在同一交易內寫入，中斷後重試時據此略過已套用的批次
+CREATE TABLE IF NOT EXISTS like_flush_batches (
+    batch_id VARCHAR(36) PRIMARY KEY,
+    flushed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 渲染結果樂觀鎖版本號，標記待渲染時遞增，舊的渲染工作寫回時因版本不符而放棄
+ALTER TABLE blog_post_renders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 渲染時由內容產生的摘要（作者未填寫摘要時於讀取端替代，不寫回 blog_posts）
+ALTER TABLE blog_post_renders ADD COLUMN IF NOT EXISTS excerpt TEXT;
+ALTER TABLE blog_post_renders ADD COLUMN IF NOT EXISTS excerpt_zh TEXT;
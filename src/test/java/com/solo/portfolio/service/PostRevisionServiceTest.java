@@ -0,0 +1,155 @@
+package com.solo.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solo.portfolio.model.dto.PostRevisionResponse;
+import com.solo.portfolio.model.entity.BlogPost;
+import com.solo.portfolio.model.entity.BlogPostRevision;
+import com.solo.portfolio.model.entity.RevisionKind;
+import com.solo.portfolio.repository.BlogPostRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 文章修訂歷史測試
+ * 以記憶體中的存儲庫與同步執行器驅動服務，逐一還原每個版本並與當時的內容比對
+ */
+class PostRevisionServiceTest {
+
+    private static final String POST_ID = "0190a5f0-0000-7000-8000-000000000001";
+
+    private static final int SNAPSHOT_INTERVAL = 3;
+
+    private final List<BlogPostRevision> revisions = new ArrayList<>();
+
+    private PostRevisionService service;
+
+    @BeforeEach
+    void setUp() {
+        revisions.clear();
+        service = new PostRevisionService(inMemoryRepository(), new ObjectMapper(), Runnable::run, SNAPSHOT_INTERVAL);
+    }
+
+    @Test
+    void deltasRoundTripAcrossSnapshotBoundaries() {
+        List<BlogPost> states = new ArrayList<>();
+        states.add(post("Title", "標題", "Excerpt", null, "Hello world", null, List.of("java")));
+        states.add(post("Title", "標題", "Excerpt", null, "Hello brave world", null, List.of("java")));
+        states.add(post("Title v2", "標題", null, null, "Hello brave world", "你好", List.of("java", "spring")));
+        states.add(post("Title v2", "標題", "Back again", null, "Hello brave new world", "你好世界", List.of("spring")));
+        states.add(post("Title v2", null, "Back again", "中文摘要", "Hello world", "你好世界", List.of()));
+        states.add(post("Title v3", "新標題", "Back again", "中文摘要", "", "世界", List.of("java")));
+        states.add(post("Title v3", "新標題", null, null, "Rewritten", null, List.of("java")));
+        states.add(post("Final", "新標題", "Done", "完成", "Rewritten twice", "最後", List.of("java")));
+
+        recordAll(states);
+
+        assertEquals(states.size(), revisions.size());
+        assertTrue(revisions.stream().filter(r -> r.getRevisionNo() > 1)
+            .anyMatch(r -> r.getKind() == RevisionKind.SNAPSHOT), "expected a snapshot after the first revision");
+        assertTrue(revisions.stream().anyMatch(r -> r.getKind() == RevisionKind.DELTA), "expected delta revisions");
+        assertRevisionsMatch(states);
+    }
+
+    @Test
+    void deltasKeepSurrogatePairsIntact() {
+        List<BlogPost> states = new ArrayList<>();
+        states.add(post("Emoji 😀", "表情😀", null, null, "a😀b", "😀", List.of()));
+        // 😀 與 😁 的高位代理相同，只差低位代理
+        states.add(post("Emoji 😁", "表情😁", null, null, "a😁b", "😁", List.of()));
+        // 😀 與 🙂 的低位代理相同，只差高位代理之外的部分
+        states.add(post("Emoji 😁", "表情😁", null, null, "a😁𝒳b", "🙂", List.of()));
+        states.add(post("😁 Emoji", "😁", null, null, "𝒳😁b", "🙂😀🙂", List.of()));
+        states.add(post("😁 Emoji", "😁", null, null, "𝒳😀b", "🙂🙂", List.of()));
+
+        recordAll(states);
+
+        assertEquals(states.size(), revisions.size());
+        assertRevisionsMatch(states);
+    }
+
+    private void recordAll(List<BlogPost> states) {
+        BlogPost previous = null;
+        for (BlogPost state : states) {
+            service.record(previous, state);
+            previous = state;
+        }
+    }
+
+    private void assertRevisionsMatch(List<BlogPost> states) {
+        for (int i = 0; i < states.size(); i++) {
+            int revisionNo = i + 1;
+            BlogPost expected = states.get(i);
+            PostRevisionResponse actual = service.getRevision(POST_ID, revisionNo).orElseThrow(
+                () -> new AssertionError("revision " + revisionNo + " missing"));
+            String label = "revision " + revisionNo;
+            assertEquals(expected.getTitle(), actual.getTitle(), label + " title");
+            assertEquals(expected.getTitleZh(), actual.getTitleZh(), label + " titleZh");
+            assertEquals(expected.getExcerpt(), actual.getExcerpt(), label + " excerpt");
+            assertEquals(expected.getExcerptZh(), actual.getExcerptZh(), label + " excerptZh");
+            assertEquals(expected.getContent(), actual.getContent(), label + " content");
+            assertEquals(expected.getContentZh(), actual.getContentZh(), label + " contentZh");
+            assertEquals(expected.getCategoryKey(), actual.getCategoryKey(), label + " categoryKey");
+            assertEquals(expected.getImageUrl(), actual.getImageUrl(), label + " imageUrl");
+            assertEquals(expected.getTags(), actual.getTags(), label + " tags");
+        }
+    }
+
+    private static BlogPost post(String title, String titleZh, String excerpt, String excerptZh,
+                                 String content, String contentZh, List<String> tags) {
+        BlogPost post = new BlogPost();
+        post.setId(POST_ID);
+        post.setTitle(title);
+        post.setTitleZh(titleZh);
+        post.setExcerpt(excerpt);
+        post.setExcerptZh(excerptZh);
+        post.setContent(content);
+        post.setContentZh(contentZh);
+        post.setCategoryKey("tech");
+        post.setTags(new ArrayList<>(tags));
+        return post;
+    }
+
+    /**
+     * 只實作服務用到的查詢方法
+     */
+    private BlogPostRevisionRepository inMemoryRepository() {
+        return (BlogPostRevisionRepository) Proxy.newProxyInstance(
+            BlogPostRevisionRepository.class.getClassLoader(),
+            new Class<?>[]{BlogPostRevisionRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "save" -> {
+                    revisions.add((BlogPostRevision) args[0]);
+                    yield args[0];
+                }
+                case "findFirstByPostIdOrderByRevisionNoDesc" -> revisions.stream()
+                    .filter(r -> r.getPostId().equals(args[0]))
+                    .max(Comparator.comparing(BlogPostRevision::getRevisionNo));
+                case "findFirstByPostIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc" -> revisions.stream()
+                    .filter(r -> r.getPostId().equals(args[0]) && r.getKind() == args[1]
+                        && r.getRevisionNo() <= (Integer) args[2])
+                    .max(Comparator.comparing(BlogPostRevision::getRevisionNo));
+                case "findByPostIdAndRevisionNoBetweenOrderByRevisionNo" -> revisions.stream()
+                    .filter(r -> r.getPostId().equals(args[0])
+                        && r.getRevisionNo() >= (Integer) args[1] && r.getRevisionNo() <= (Integer) args[2])
+                    .sorted(Comparator.comparing(BlogPostRevision::getRevisionNo))
+                    .toList();
+                case "findByPostIdOrderByRevisionNoDesc" -> revisions.stream()
+                    .filter(r -> r.getPostId().equals(args[0]))
+                    .sorted(Comparator.comparing(BlogPostRevision::getRevisionNo).reversed())
+                    .toList();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "InMemoryBlogPostRevisionRepository";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
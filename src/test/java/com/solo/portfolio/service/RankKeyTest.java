@@ -0,0 +1,130 @@
+package com.solo.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分數索引排序鍵測試
+ */
+class RankKeyTest {
+
+    @Test
+    void betweenAdjacentDigitsGoesOneLevelDeeper() {
+        assertBetween("1", "2");
+        assertBetween("y", "z");
+        assertBetween("9", "A");
+        assertBetween("Z", "a");
+        assertBetween("1", "11");
+        assertBetween("1z", "2");
+        assertBetween("0V", "1");
+    }
+
+    @Test
+    void betweenSharedPrefixKeepsPrefix() {
+        String key = assertBetween("abc1", "abc2");
+        assertTrue(key.startsWith("abc1"));
+        assertBetween("ab", "abc");
+    }
+
+    @Test
+    void betweenOpenEnds() {
+        String first = RankKey.between(null, null);
+        assertValid(first);
+        assertBetween(null, first);
+        assertBetween(first, null);
+    }
+
+    @Test
+    void repeatedHeadInsertionStaysOrdered() {
+        String head = RankKey.between(null, null);
+        for (int i = 0; i < 500; i++) {
+            String next = RankKey.between(null, head);
+            assertValid(next);
+            assertTrue(next.compareTo(head) < 0, next + " should sort before " + head);
+            head = next;
+        }
+    }
+
+    @Test
+    void repeatedTailInsertionStaysOrdered() {
+        String tail = RankKey.between(null, null);
+        for (int i = 0; i < 500; i++) {
+            String next = RankKey.between(tail, null);
+            assertValid(next);
+            assertTrue(next.compareTo(tail) > 0, next + " should sort after " + tail);
+            tail = next;
+        }
+    }
+
+    @Test
+    void repeatedInsertionIntoSameGapStaysOrdered() {
+        String low = "1";
+        String high = "2";
+        for (int i = 0; i < 200; i++) {
+            String mid = assertBetween(low, high);
+            if (i % 2 == 0) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+    }
+
+    @Test
+    void rejectsInvalidOrUnorderedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("2", "1"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("1", "1"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("10", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("a-b", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between(null, ""));
+    }
+
+    @Test
+    void spreadIsStrictlyIncreasingAndLeavesRoomBetweenKeys() {
+        for (int count : new int[]{0, 1, 2, 60, 61, 62, 63, 1000, 5000}) {
+            List<String> keys = RankKey.spread(count);
+            assertEquals(count, keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                assertValid(key);
+                if (i > 0) {
+                    String previous = keys.get(i - 1);
+                    assertTrue(previous.compareTo(key) < 0, previous + " should sort before " + key);
+                    assertBetween(previous, key);
+                }
+            }
+            if (!keys.isEmpty()) {
+                assertBetween(null, keys.get(0));
+                assertBetween(keys.get(keys.size() - 1), null);
+            }
+        }
+    }
+
+    private static String assertBetween(String before, String after) {
+        String key = RankKey.between(before, after);
+        assertValid(key);
+        if (before != null) {
+            assertTrue(before.compareTo(key) < 0, before + " should sort before " + key);
+        }
+        if (after != null) {
+            assertTrue(key.compareTo(after) < 0, key + " should sort before " + after);
+        }
+        return key;
+    }
+
+    /**
+     * 合法的鍵不為空、不以 '0' 結尾，且可再作為 between 的邊界
+     */
+    private static void assertValid(String key) {
+        assertFalse(key.isEmpty());
+        assertFalse(key.endsWith("0"), key + " must not end with '0'");
+        assertDoesNotThrow(() -> RankKey.between(key, null));
+    }
+}